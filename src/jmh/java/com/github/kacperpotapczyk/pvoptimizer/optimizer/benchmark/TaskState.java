@@ -0,0 +1,50 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.benchmark;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.TaskDto;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.generator.TaskDtoGenerator;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.mapper.TaskDtoToTask;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark task shape. Parameters can be overridden from command line, e.g. {@code -p horizonLength=35040}.
+ */
+@State(Scope.Benchmark)
+public class TaskState {
+
+    @Param({"96", "672"})
+    public int horizonLength;
+
+    @Param({"2"})
+    public int contracts;
+
+    @Param({"1"})
+    public int storages;
+
+    @Param({"1"})
+    public int movableDemands;
+
+    @Param({"8"})
+    public int movableDemandStartIntervals;
+
+    public TaskDto taskDto;
+    public Task task;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        taskDto = TaskDtoGenerator.builder()
+                .horizonLength(horizonLength)
+                .contracts(contracts)
+                .storages(storages)
+                .movableDemands(movableDemands)
+                .movableDemandStartIntervals(movableDemandStartIntervals)
+                .build()
+                .generate(1L);
+        task = new TaskDtoToTask().map(taskDto);
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.mapper;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result.ResultDto;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.benchmark.TaskState;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizerMetrics;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.AdmissionControl;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.HorizonDecomposition;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.ModelTemplateCache;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.OptimizerImpl;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.ResultCache;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.SolverPortfolio;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.TaskCostEstimator;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.WarmStartStore;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.LpSolveSolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping of incoming task and outgoing result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final TaskDtoToTask taskDtoToTask = new TaskDtoToTask();
+    private final ResultToResultDto resultToResultDto = new ResultToResultDto();
+    private Result result;
+
+    @Setup(Level.Trial)
+    public void setUp(TaskState taskState) {
+
+        OptimizerImpl optimizer = new OptimizerImpl(new OptimizerMetrics(new SimpleMeterRegistry()), new WarmStartStore(0), new ModelTemplateCache(0, 0, 0), LpSolveSolver::new, new SolverPortfolio(1, 1), new HorizonDecomposition(false, 1, 0, 0, 0.0, 1), new ResultCache(0, 0, ""), new TaskCostEstimator(LpSolveSolver::new, 0, false, 1, 0, 1.0, 0.0), new AdmissionControl(0, 0.0, 0, 0));
+        ReflectionTestUtils.setField(optimizer, "maxAllowedTimeOut", 300L);
+        ReflectionTestUtils.setField(optimizer, "numericalZero", 1e-11);
+        result = optimizer.solve(taskState.task);
+    }
+
+    @Benchmark
+    public Task taskDtoToTask(TaskState taskState) {
+        return taskDtoToTask.map(taskState.taskDto);
+    }
+
+    @Benchmark
+    public ResultDto resultToResultDto() {
+        return resultToResultDto.map(result);
+    }
+}
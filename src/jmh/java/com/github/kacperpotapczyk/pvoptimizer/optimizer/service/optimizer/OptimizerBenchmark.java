@@ -0,0 +1,184 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.benchmark.TaskState;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index.ModelVariablesIndexes;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.LpSolveSolver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.OjAlgoSolver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverFactory;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.SolutionStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OptimizerImpl} stages separately: model construction (from scratch and by data replay on copy of
+ * template model), solving (cold and warm started) and result extraction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptimizerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class OptimizerState {
+
+        @Param({"lpsolve", "ojalgo"})
+        String solver;
+
+        SolverFactory solverFactory;
+        OptimizerImpl optimizer;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            solverFactory = "ojalgo".equals(solver) ? OjAlgoSolver::new : LpSolveSolver::new;
+            optimizer = new OptimizerImpl(new OptimizerMetrics(new SimpleMeterRegistry()), new WarmStartStore(0), new ModelTemplateCache(0, 0, 0), solverFactory, new SolverPortfolio(1, 1), new HorizonDecomposition(false, 1, 0, 0, 0.0, 1), new ResultCache(0, 0, ""), new TaskCostEstimator(solverFactory, 0, false, 1, 0, 1.0, 0.0), new AdmissionControl(0, 0.0, 0, 0));
+            ReflectionTestUtils.setField(optimizer, "maxAllowedTimeOut", 300L);
+            ReflectionTestUtils.setField(optimizer, "numericalZero", 1e-11);
+        }
+    }
+
+    /**
+     * Model built before each solve invocation, so solve benchmark does not include model construction.
+     */
+    @State(Scope.Thread)
+    public static class BuiltModelState {
+
+        Solver solver;
+
+        @Setup(Level.Invocation)
+        public void setUp(OptimizerState optimizerState, TaskState taskState) throws SolverException {
+            solver = optimizerState.solverFactory.create();
+            optimizerState.optimizer.configureSolver(taskState.task, solver, optimizerState.optimizer.timeOut(taskState.task));
+            optimizerState.optimizer.buildModel(taskState.task, solver);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            solver.free();
+        }
+    }
+
+    /**
+     * Model built before each solve invocation and warm started from solution of the same task solved once per trial,
+     * upper limit of what warm start of shifted task can gain.
+     */
+    @State(Scope.Thread)
+    public static class WarmStartedModelState {
+
+        Result previousResult;
+        Solver solver;
+
+        @Setup(Level.Trial)
+        public void solvePrevious(OptimizerState optimizerState, TaskState taskState) {
+            previousResult = optimizerState.optimizer.solve(taskState.task);
+        }
+
+        @Setup(Level.Invocation)
+        public void setUp(OptimizerState optimizerState, TaskState taskState) throws SolverException {
+            solver = optimizerState.solverFactory.create();
+            optimizerState.optimizer.configureSolver(taskState.task, solver, optimizerState.optimizer.timeOut(taskState.task));
+            ModelVariablesIndexes modelVariablesIndexes = optimizerState.optimizer.buildModel(taskState.task, solver);
+            solver.setInitialSolution(optimizerState.optimizer.initialSolution(taskState.task, previousResult, 0, modelVariablesIndexes));
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            solver.free();
+        }
+    }
+
+    /**
+     * Template model built once per trial, replay benchmark copies it and replays task data.
+     */
+    @State(Scope.Thread)
+    public static class TemplateModelState {
+
+        Solver template;
+
+        @Setup(Level.Trial)
+        public void setUp(OptimizerState optimizerState, TaskState taskState) throws SolverException {
+            template = optimizerState.solverFactory.create();
+            optimizerState.optimizer.configureSolver(taskState.task, template, optimizerState.optimizer.timeOut(taskState.task));
+            optimizerState.optimizer.buildModel(taskState.task, template);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            template.free();
+        }
+    }
+
+    /**
+     * Model solved once per trial, extraction benchmark reads the same solution repeatedly.
+     */
+    @State(Scope.Thread)
+    public static class SolvedModelState {
+
+        Solver solver;
+        ModelVariablesIndexes modelVariablesIndexes;
+
+        @Setup(Level.Trial)
+        public void setUp(OptimizerState optimizerState, TaskState taskState) throws SolverException {
+            solver = optimizerState.solverFactory.create();
+            optimizerState.optimizer.configureSolver(taskState.task, solver, optimizerState.optimizer.timeOut(taskState.task));
+            modelVariablesIndexes = optimizerState.optimizer.buildModel(taskState.task, solver);
+            solver.solve();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            solver.free();
+        }
+    }
+
+    @Benchmark
+    public ModelVariablesIndexes buildModel(OptimizerState optimizerState, TaskState taskState) throws SolverException {
+
+        Solver solver = optimizerState.solverFactory.create();
+        try {
+            return optimizerState.optimizer.buildModel(taskState.task, solver);
+        }
+        finally {
+            solver.free();
+        }
+    }
+
+    @Benchmark
+    public ModelVariablesIndexes replayModel(OptimizerState optimizerState, TaskState taskState, TemplateModelState templateModelState) throws SolverException {
+
+        Solver solver = templateModelState.template.copy();
+        try {
+            solver.beginDataReplay();
+            return optimizerState.optimizer.buildModel(taskState.task, solver);
+        }
+        finally {
+            solver.free();
+        }
+    }
+
+    @Benchmark
+    public SolutionStatus solve(BuiltModelState builtModelState) throws SolverException {
+        return builtModelState.solver.solve();
+    }
+
+    @Benchmark
+    public SolutionStatus solveWarmStarted(WarmStartedModelState warmStartedModelState) throws SolverException {
+        return warmStartedModelState.solver.solve();
+    }
+
+    @Benchmark
+    public Result extractResult(OptimizerState optimizerState, TaskState taskState, SolvedModelState solvedModelState) throws SolverException {
+
+        Result.ResultBuilder resultBuilder = Result.builder().id(taskState.task.getId());
+        optimizerState.optimizer.getResult(taskState.task, solvedModelState.solver, resultBuilder, solvedModelState.modelVariablesIndexes);
+        return resultBuilder.build();
+    }
+}
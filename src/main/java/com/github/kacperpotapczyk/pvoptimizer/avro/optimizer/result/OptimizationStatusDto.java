@@ -6,8 +6,8 @@
 package com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result;
 @org.apache.avro.specific.AvroGenerated
 public enum OptimizationStatusDto implements org.apache.avro.generic.GenericEnumSymbol<OptimizationStatusDto> {
-  SOLUTION_FOUND, SOLUTION_NOT_FOUND  ;
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"enum\",\"name\":\"OptimizationStatusDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result\",\"symbols\":[\"SOLUTION_FOUND\",\"SOLUTION_NOT_FOUND\"]}");
+  SOLUTION_FOUND, SOLUTION_NOT_FOUND, INTERMEDIATE_SOLUTION_FOUND, SUPERSEDED, REJECTED  ;
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"enum\",\"name\":\"OptimizationStatusDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result\",\"symbols\":[\"SOLUTION_FOUND\",\"SOLUTION_NOT_FOUND\",\"INTERMEDIATE_SOLUTION_FOUND\",\"SUPERSEDED\",\"REJECTED\"],\"default\":\"SOLUTION_NOT_FOUND\"}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   @Override
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class ResultDto extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -4282760498946980648L;
+  private static final long serialVersionUID = -3645259535516668780L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ResultDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Task identifier\"},{\"name\":\"optimizationStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OptimizationStatusDto\",\"symbols\":[\"SOLUTION_FOUND\",\"SOLUTION_NOT_FOUND\"]}},{\"name\":\"objectiveFunctionValue\",\"type\":\"double\",\"doc\":\"Objective function optimal value\"},{\"name\":\"relativeGap\",\"type\":\"double\",\"doc\":\"Relative gap between relaxed solution and returned integer solution\"},{\"name\":\"elapsedTime\",\"type\":\"double\",\"doc\":\"Optimization elapsed time\"},{\"name\":\"errorMessage\",\"type\":\"string\",\"doc\":\"Error messages returned by optimizer\",\"default\":\"\"},{\"name\":\"contractResults\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"ContractResultDto\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Contract id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Contract name\"},{\"name\":\"power\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Result power profile\"},{\"name\":\"energy\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Result energy profile\"},{\"name\":\"cost\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Result cost/income profile\"}]}},\"default\":[]},{\"name\":\"storageResults\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"StorageResultDto\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Storage id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Storage name\"},{\"name\":\"charge\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Storage charging profile\"},{\"name\":\"discharge\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Storage discharging profile\"},{\"name\":\"energy\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Storage storage energy profile\"},{\"name\":\"storageMode\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"enum\",\"name\":\"StorageModeDto\",\"symbols\":[\"DISABLED\",\"CHARGING\",\"DISCHARGING\"]}},\"doc\":\"Storage mode profile\"}]}},\"default\":[]},{\"name\":\"movableDemandResults\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"MovableDemandResultDto\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Movable demand id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Movable demand name\"},{\"name\":\"startInterval\",\"type\":\"int\",\"doc\":\"Optimal start interval\"}]}},\"default\":[]}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ResultDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Task identifier\"},{\"name\":\"optimizationStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OptimizationStatusDto\",\"symbols\":[\"SOLUTION_FOUND\",\"SOLUTION_NOT_FOUND\",\"INTERMEDIATE_SOLUTION_FOUND\",\"SUPERSEDED\",\"REJECTED\"],\"default\":\"SOLUTION_NOT_FOUND\"}},{\"name\":\"objectiveFunctionValue\",\"type\":\"double\",\"doc\":\"Objective function optimal value\"},{\"name\":\"relativeGap\",\"type\":\"double\",\"doc\":\"Relative gap between relaxed solution and returned integer solution\"},{\"name\":\"elapsedTime\",\"type\":\"double\",\"doc\":\"Optimization elapsed time\"},{\"name\":\"errorMessage\",\"type\":\"string\",\"doc\":\"Error messages returned by optimizer\",\"default\":\"\"},{\"name\":\"contractResults\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"ContractResultDto\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Contract id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Contract name\"},{\"name\":\"power\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Result power profile\"},{\"name\":\"energy\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Result energy profile\"},{\"name\":\"cost\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Result cost/income profile\"}]}},\"default\":[]},{\"name\":\"storageResults\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"StorageResultDto\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Storage id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Storage name\"},{\"name\":\"charge\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Storage charging profile\"},{\"name\":\"discharge\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Storage discharging profile\"},{\"name\":\"energy\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Storage storage energy profile\"},{\"name\":\"storageMode\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"enum\",\"name\":\"StorageModeDto\",\"symbols\":[\"DISABLED\",\"CHARGING\",\"DISCHARGING\"]}},\"doc\":\"Storage mode profile\"}]}},\"default\":[]},{\"name\":\"movableDemandResults\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"MovableDemandResultDto\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Movable demand id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Movable demand name\"},{\"name\":\"startInterval\",\"type\":\"int\",\"doc\":\"Optimal start interval\"}]}},\"default\":[]}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
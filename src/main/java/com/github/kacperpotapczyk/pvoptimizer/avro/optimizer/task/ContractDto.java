@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class ContractDto extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 130447574693694030L;
+  private static final long serialVersionUID = 453931447318200778L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ContractDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Contract id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Contract name\"},{\"name\":\"contractDirection\",\"type\":{\"type\":\"enum\",\"name\":\"ContractDirectionDto\",\"symbols\":[\"PURCHASE\",\"SELL\"]},\"doc\":\"Defines if it is purchase or sell contract\"},{\"name\":\"startInterval\",\"type\":\"int\",\"doc\":\"Interval at which contract starts\",\"default\":0},{\"name\":\"unitPrice\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Energy unit price\"},{\"name\":\"minPower\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal power for intervals\",\"default\":null},{\"name\":\"maxPower\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal power for intervals\",\"default\":null},{\"name\":\"minEnergy\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"SumConstraintDto\",\"fields\":[{\"name\":\"startInterval\",\"type\":\"int\"},{\"name\":\"endInterval\",\"type\":\"int\"},{\"name\":\"sum\",\"type\":\"double\"}]}},\"doc\":\"Constraint on minimal energy over intervals range\",\"default\":[]},{\"name\":\"maxEnergy\",\"type\":{\"type\":\"array\",\"items\":\"SumConstraintDto\"},\"doc\":\"Constraint on maximal energy over intervals range\",\"default\":[]}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ContractDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task\",\"fields\":[{\"name\":\"id\",\"type\":\"long\",\"doc\":\"Contract id\"},{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Contract name\"},{\"name\":\"contractDirection\",\"type\":{\"type\":\"enum\",\"name\":\"ContractDirectionDto\",\"symbols\":[\"PURCHASE\",\"SELL\"]},\"doc\":\"Defines if it is purchase or sell contract\"},{\"name\":\"startInterval\",\"type\":\"int\",\"doc\":\"Interval at which contract starts\",\"default\":0},{\"name\":\"unitPrice\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Energy unit price\"},{\"name\":\"minPower\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal power for intervals\",\"default\":null},{\"name\":\"maxPower\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal power for intervals\",\"default\":null},{\"name\":\"minEnergy\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"SumConstraintDto\",\"fields\":[{\"name\":\"startInterval\",\"type\":\"int\"},{\"name\":\"endInterval\",\"type\":\"int\"},{\"name\":\"sum\",\"type\":\"double\"}]}},\"doc\":\"Constraint on minimal energy over intervals range\",\"default\":[]},{\"name\":\"maxEnergy\",\"type\":{\"type\":\"array\",\"items\":\"SumConstraintDto\"},\"doc\":\"Constraint on maximal energy over intervals range\",\"default\":[]},{\"name\":\"minPowerValues\",\"type\":[\"null\",{\"type\":\"record\",\"name\":\"IntervalValuesDto\",\"fields\":[{\"name\":\"intervals\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"doc\":\"Intervals of constrained values\"},{\"name\":\"values\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Constraint values, value at given position applies to interval at the same position\"}]}],\"doc\":\"Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present\",\"default\":null},{\"name\":\"maxPowerValues\",\"type\":[\"null\",\"IntervalValuesDto\"],\"doc\":\"Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present\",\"default\":null}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -91,6 +91,10 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
   private java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> minEnergy;
   /** Constraint on maximal energy over intervals range */
   private java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> maxEnergy;
+  /** Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minPowerValues;
+  /** Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxPowerValues;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -110,8 +114,10 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
    * @param maxPower Constraints on maximal power for intervals
    * @param minEnergy Constraint on minimal energy over intervals range
    * @param maxEnergy Constraint on maximal energy over intervals range
+   * @param minPowerValues Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+   * @param maxPowerValues Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
    */
-  public ContractDto(java.lang.Long id, java.lang.CharSequence name, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDirectionDto contractDirection, java.lang.Integer startInterval, java.util.List<java.lang.Double> unitPrice, java.util.Map<java.lang.CharSequence,java.lang.Double> minPower, java.util.Map<java.lang.CharSequence,java.lang.Double> maxPower, java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> minEnergy, java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> maxEnergy) {
+  public ContractDto(java.lang.Long id, java.lang.CharSequence name, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDirectionDto contractDirection, java.lang.Integer startInterval, java.util.List<java.lang.Double> unitPrice, java.util.Map<java.lang.CharSequence,java.lang.Double> minPower, java.util.Map<java.lang.CharSequence,java.lang.Double> maxPower, java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> minEnergy, java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> maxEnergy, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minPowerValues, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxPowerValues) {
     this.id = id;
     this.name = name;
     this.contractDirection = contractDirection;
@@ -121,6 +127,8 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
     this.maxPower = maxPower;
     this.minEnergy = minEnergy;
     this.maxEnergy = maxEnergy;
+    this.minPowerValues = minPowerValues;
+    this.maxPowerValues = maxPowerValues;
   }
 
   @Override
@@ -142,6 +150,8 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
     case 6: return maxPower;
     case 7: return minEnergy;
     case 8: return maxEnergy;
+    case 9: return minPowerValues;
+    case 10: return maxPowerValues;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -160,6 +170,8 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
     case 6: maxPower = (java.util.Map<java.lang.CharSequence,java.lang.Double>)value$; break;
     case 7: minEnergy = (java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto>)value$; break;
     case 8: maxEnergy = (java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto>)value$; break;
+    case 9: minPowerValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
+    case 10: maxPowerValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -326,6 +338,42 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
     this.maxEnergy = value;
   }
 
+  /**
+   * Gets the value of the 'minPowerValues' field.
+   * @return Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinPowerValues() {
+    return minPowerValues;
+  }
+
+
+  /**
+   * Sets the value of the 'minPowerValues' field.
+   * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+   * @param value the value to set.
+   */
+  public void setMinPowerValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.minPowerValues = value;
+  }
+
+  /**
+   * Gets the value of the 'maxPowerValues' field.
+   * @return Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxPowerValues() {
+    return maxPowerValues;
+  }
+
+
+  /**
+   * Sets the value of the 'maxPowerValues' field.
+   * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+   * @param value the value to set.
+   */
+  public void setMaxPowerValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.maxPowerValues = value;
+  }
+
   /**
    * Creates a new ContractDto RecordBuilder.
    * @return A new ContractDto RecordBuilder
@@ -385,6 +433,12 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
     private java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> minEnergy;
     /** Constraint on maximal energy over intervals range */
     private java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto> maxEnergy;
+    /** Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minPowerValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder minPowerValuesBuilder;
+    /** Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxPowerValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder maxPowerValuesBuilder;
 
     /** Creates a new Builder */
     private Builder() {
@@ -433,6 +487,20 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
         this.maxEnergy = data().deepCopy(fields()[8].schema(), other.maxEnergy);
         fieldSetFlags()[8] = other.fieldSetFlags()[8];
       }
+      if (isValidValue(fields()[9], other.minPowerValues)) {
+        this.minPowerValues = data().deepCopy(fields()[9].schema(), other.minPowerValues);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
+      if (other.hasMinPowerValuesBuilder()) {
+        this.minPowerValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMinPowerValuesBuilder());
+      }
+      if (isValidValue(fields()[10], other.maxPowerValues)) {
+        this.maxPowerValues = data().deepCopy(fields()[10].schema(), other.maxPowerValues);
+        fieldSetFlags()[10] = other.fieldSetFlags()[10];
+      }
+      if (other.hasMaxPowerValuesBuilder()) {
+        this.maxPowerValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMaxPowerValuesBuilder());
+      }
     }
 
     /**
@@ -477,6 +545,16 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
         this.maxEnergy = data().deepCopy(fields()[8].schema(), other.maxEnergy);
         fieldSetFlags()[8] = true;
       }
+      if (isValidValue(fields()[9], other.minPowerValues)) {
+        this.minPowerValues = data().deepCopy(fields()[9].schema(), other.minPowerValues);
+        fieldSetFlags()[9] = true;
+      }
+      this.minPowerValuesBuilder = null;
+      if (isValidValue(fields()[10], other.maxPowerValues)) {
+        this.maxPowerValues = data().deepCopy(fields()[10].schema(), other.maxPowerValues);
+        fieldSetFlags()[10] = true;
+      }
+      this.maxPowerValuesBuilder = null;
     }
 
     /**
@@ -873,6 +951,172 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
       return this;
     }
 
+    /**
+      * Gets the value of the 'minPowerValues' field.
+      * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinPowerValues() {
+      return minPowerValues;
+    }
+
+
+    /**
+      * Sets the value of the 'minPowerValues' field.
+      * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+      * @param value The value of 'minPowerValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDto.Builder setMinPowerValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[9], value);
+      this.minPowerValuesBuilder = null;
+      this.minPowerValues = value;
+      fieldSetFlags()[9] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'minPowerValues' field has been set.
+      * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+      * @return True if the 'minPowerValues' field has been set, false otherwise.
+      */
+    public boolean hasMinPowerValues() {
+      return fieldSetFlags()[9];
+    }
+
+    /**
+     * Gets the Builder instance for the 'minPowerValues' field and creates one if it doesn't exist yet.
+     * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMinPowerValuesBuilder() {
+      if (minPowerValuesBuilder == null) {
+        if (hasMinPowerValues()) {
+          setMinPowerValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(minPowerValues));
+        } else {
+          setMinPowerValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return minPowerValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'minPowerValues' field
+     * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDto.Builder setMinPowerValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMinPowerValues();
+      minPowerValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'minPowerValues' field has an active Builder instance
+     * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+     * @return True if the 'minPowerValues' field has an active Builder instance
+     */
+    public boolean hasMinPowerValuesBuilder() {
+      return minPowerValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'minPowerValues' field.
+      * Constraints on minimal power for intervals as parallel arrays, used instead of minPower map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDto.Builder clearMinPowerValues() {
+      minPowerValues = null;
+      minPowerValuesBuilder = null;
+      fieldSetFlags()[9] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'maxPowerValues' field.
+      * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxPowerValues() {
+      return maxPowerValues;
+    }
+
+
+    /**
+      * Sets the value of the 'maxPowerValues' field.
+      * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+      * @param value The value of 'maxPowerValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDto.Builder setMaxPowerValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[10], value);
+      this.maxPowerValuesBuilder = null;
+      this.maxPowerValues = value;
+      fieldSetFlags()[10] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'maxPowerValues' field has been set.
+      * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+      * @return True if the 'maxPowerValues' field has been set, false otherwise.
+      */
+    public boolean hasMaxPowerValues() {
+      return fieldSetFlags()[10];
+    }
+
+    /**
+     * Gets the Builder instance for the 'maxPowerValues' field and creates one if it doesn't exist yet.
+     * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMaxPowerValuesBuilder() {
+      if (maxPowerValuesBuilder == null) {
+        if (hasMaxPowerValues()) {
+          setMaxPowerValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(maxPowerValues));
+        } else {
+          setMaxPowerValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return maxPowerValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'maxPowerValues' field
+     * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDto.Builder setMaxPowerValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMaxPowerValues();
+      maxPowerValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'maxPowerValues' field has an active Builder instance
+     * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+     * @return True if the 'maxPowerValues' field has an active Builder instance
+     */
+    public boolean hasMaxPowerValuesBuilder() {
+      return maxPowerValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'maxPowerValues' field.
+      * Constraints on maximal power for intervals as parallel arrays, used instead of maxPower map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.ContractDto.Builder clearMaxPowerValues() {
+      maxPowerValues = null;
+      maxPowerValuesBuilder = null;
+      fieldSetFlags()[10] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public ContractDto build() {
@@ -887,6 +1131,26 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
         record.maxPower = fieldSetFlags()[6] ? this.maxPower : (java.util.Map<java.lang.CharSequence,java.lang.Double>) defaultValue(fields()[6]);
         record.minEnergy = fieldSetFlags()[7] ? this.minEnergy : (java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto>) defaultValue(fields()[7]);
         record.maxEnergy = fieldSetFlags()[8] ? this.maxEnergy : (java.util.List<com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.SumConstraintDto>) defaultValue(fields()[8]);
+        if (minPowerValuesBuilder != null) {
+          try {
+            record.minPowerValues = this.minPowerValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("minPowerValues"));
+            throw e;
+          }
+        } else {
+          record.minPowerValues = fieldSetFlags()[9] ? this.minPowerValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[9]);
+        }
+        if (maxPowerValuesBuilder != null) {
+          try {
+            record.maxPowerValues = this.maxPowerValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("maxPowerValues"));
+            throw e;
+          }
+        } else {
+          record.maxPowerValues = fieldSetFlags()[10] ? this.maxPowerValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[10]);
+        }
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -1008,6 +1272,22 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
     if (actualSize4 != size4)
       throw new java.util.ConcurrentModificationException("Array-size written was " + size4 + ", but element count was " + actualSize4 + ".");
 
+    if (this.minPowerValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.minPowerValues.customEncode(out);
+    }
+
+    if (this.maxPowerValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.maxPowerValues.customEncode(out);
+    }
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -1116,8 +1396,28 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
         }
       }
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.minPowerValues = null;
+      } else {
+        if (this.minPowerValues == null) {
+          this.minPowerValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.minPowerValues.customDecode(in);
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.maxPowerValues = null;
+      } else {
+        if (this.maxPowerValues == null) {
+          this.maxPowerValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.maxPowerValues.customDecode(in);
+      }
+
     } else {
-      for (int i = 0; i < 9; i++) {
+      for (int i = 0; i < 11; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.id = in.readLong();
@@ -1238,6 +1538,30 @@ public class ContractDto extends org.apache.avro.specific.SpecificRecordBase imp
           }
           break;
 
+        case 9:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.minPowerValues = null;
+          } else {
+            if (this.minPowerValues == null) {
+              this.minPowerValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.minPowerValues.customDecode(in);
+          }
+          break;
+
+        case 10:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.maxPowerValues = null;
+          } else {
+            if (this.maxPowerValues == null) {
+              this.maxPowerValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.maxPowerValues.customDecode(in);
+          }
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
@@ -0,0 +1,487 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class IntervalValuesDto extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 1909351410035327036L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"IntervalValuesDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task\",\"fields\":[{\"name\":\"intervals\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"doc\":\"Intervals of constrained values\"},{\"name\":\"values\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Constraint values, value at given position applies to interval at the same position\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<IntervalValuesDto> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<IntervalValuesDto> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<IntervalValuesDto> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<IntervalValuesDto> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<IntervalValuesDto> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this IntervalValuesDto to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a IntervalValuesDto from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a IntervalValuesDto instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static IntervalValuesDto fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Intervals of constrained values */
+  private java.util.List<java.lang.Integer> intervals;
+  /** Constraint values, value at given position applies to interval at the same position */
+  private java.util.List<java.lang.Double> values;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public IntervalValuesDto() {}
+
+  /**
+   * All-args constructor.
+   * @param intervals Intervals of constrained values
+   * @param values Constraint values, value at given position applies to interval at the same position
+   */
+  public IntervalValuesDto(java.util.List<java.lang.Integer> intervals, java.util.List<java.lang.Double> values) {
+    this.intervals = intervals;
+    this.values = values;
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return intervals;
+    case 1: return values;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: intervals = (java.util.List<java.lang.Integer>)value$; break;
+    case 1: values = (java.util.List<java.lang.Double>)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'intervals' field.
+   * @return Intervals of constrained values
+   */
+  public java.util.List<java.lang.Integer> getIntervals() {
+    return intervals;
+  }
+
+
+  /**
+   * Sets the value of the 'intervals' field.
+   * Intervals of constrained values
+   * @param value the value to set.
+   */
+  public void setIntervals(java.util.List<java.lang.Integer> value) {
+    this.intervals = value;
+  }
+
+  /**
+   * Gets the value of the 'values' field.
+   * @return Constraint values, value at given position applies to interval at the same position
+   */
+  public java.util.List<java.lang.Double> getValues() {
+    return values;
+  }
+
+
+  /**
+   * Sets the value of the 'values' field.
+   * Constraint values, value at given position applies to interval at the same position
+   * @param value the value to set.
+   */
+  public void setValues(java.util.List<java.lang.Double> value) {
+    this.values = value;
+  }
+
+  /**
+   * Creates a new IntervalValuesDto RecordBuilder.
+   * @return A new IntervalValuesDto RecordBuilder
+   */
+  public static com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder newBuilder() {
+    return new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder();
+  }
+
+  /**
+   * Creates a new IntervalValuesDto RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new IntervalValuesDto RecordBuilder
+   */
+  public static com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder newBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder other) {
+    if (other == null) {
+      return new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder();
+    } else {
+      return new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new IntervalValuesDto RecordBuilder by copying an existing IntervalValuesDto instance.
+   * @param other The existing instance to copy.
+   * @return A new IntervalValuesDto RecordBuilder
+   */
+  public static com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder newBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto other) {
+    if (other == null) {
+      return new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder();
+    } else {
+      return new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for IntervalValuesDto instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<IntervalValuesDto>
+    implements org.apache.avro.data.RecordBuilder<IntervalValuesDto> {
+
+    /** Intervals of constrained values */
+    private java.util.List<java.lang.Integer> intervals;
+    /** Constraint values, value at given position applies to interval at the same position */
+    private java.util.List<java.lang.Double> values;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.intervals)) {
+        this.intervals = data().deepCopy(fields()[0].schema(), other.intervals);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.values)) {
+        this.values = data().deepCopy(fields()[1].schema(), other.values);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing IntervalValuesDto instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.intervals)) {
+        this.intervals = data().deepCopy(fields()[0].schema(), other.intervals);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.values)) {
+        this.values = data().deepCopy(fields()[1].schema(), other.values);
+        fieldSetFlags()[1] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'intervals' field.
+      * Intervals of constrained values
+      * @return The value.
+      */
+    public java.util.List<java.lang.Integer> getIntervals() {
+      return intervals;
+    }
+
+
+    /**
+      * Sets the value of the 'intervals' field.
+      * Intervals of constrained values
+      * @param value The value of 'intervals'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder setIntervals(java.util.List<java.lang.Integer> value) {
+      validate(fields()[0], value);
+      this.intervals = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'intervals' field has been set.
+      * Intervals of constrained values
+      * @return True if the 'intervals' field has been set, false otherwise.
+      */
+    public boolean hasIntervals() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'intervals' field.
+      * Intervals of constrained values
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder clearIntervals() {
+      intervals = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'values' field.
+      * Constraint values, value at given position applies to interval at the same position
+      * @return The value.
+      */
+    public java.util.List<java.lang.Double> getValues() {
+      return values;
+    }
+
+
+    /**
+      * Sets the value of the 'values' field.
+      * Constraint values, value at given position applies to interval at the same position
+      * @param value The value of 'values'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder setValues(java.util.List<java.lang.Double> value) {
+      validate(fields()[1], value);
+      this.values = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'values' field has been set.
+      * Constraint values, value at given position applies to interval at the same position
+      * @return True if the 'values' field has been set, false otherwise.
+      */
+    public boolean hasValues() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'values' field.
+      * Constraint values, value at given position applies to interval at the same position
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder clearValues() {
+      values = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IntervalValuesDto build() {
+      try {
+        IntervalValuesDto record = new IntervalValuesDto();
+        record.intervals = fieldSetFlags()[0] ? this.intervals : (java.util.List<java.lang.Integer>) defaultValue(fields()[0]);
+        record.values = fieldSetFlags()[1] ? this.values : (java.util.List<java.lang.Double>) defaultValue(fields()[1]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<IntervalValuesDto>
+    WRITER$ = (org.apache.avro.io.DatumWriter<IntervalValuesDto>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<IntervalValuesDto>
+    READER$ = (org.apache.avro.io.DatumReader<IntervalValuesDto>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+  @Override protected boolean hasCustomCoders() { return true; }
+
+  @Override public void customEncode(org.apache.avro.io.Encoder out)
+    throws java.io.IOException
+  {
+    long size0 = this.intervals.size();
+    out.writeArrayStart();
+    out.setItemCount(size0);
+    long actualSize0 = 0;
+    for (java.lang.Integer e0: this.intervals) {
+      actualSize0++;
+      out.startItem();
+      out.writeInt(e0);
+    }
+    out.writeArrayEnd();
+    if (actualSize0 != size0)
+      throw new java.util.ConcurrentModificationException("Array-size written was " + size0 + ", but element count was " + actualSize0 + ".");
+
+    long size1 = this.values.size();
+    out.writeArrayStart();
+    out.setItemCount(size1);
+    long actualSize1 = 0;
+    for (java.lang.Double e1: this.values) {
+      actualSize1++;
+      out.startItem();
+      out.writeDouble(e1);
+    }
+    out.writeArrayEnd();
+    if (actualSize1 != size1)
+      throw new java.util.ConcurrentModificationException("Array-size written was " + size1 + ", but element count was " + actualSize1 + ".");
+
+  }
+
+  @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
+    throws java.io.IOException
+  {
+    org.apache.avro.Schema.Field[] fieldOrder = in.readFieldOrderIfDiff();
+    if (fieldOrder == null) {
+      long size0 = in.readArrayStart();
+      java.util.List<java.lang.Integer> a0 = this.intervals;
+      if (a0 == null) {
+        a0 = new SpecificData.Array<java.lang.Integer>((int)size0, SCHEMA$.getField("intervals").schema());
+        this.intervals = a0;
+      } else a0.clear();
+      SpecificData.Array<java.lang.Integer> ga0 = (a0 instanceof SpecificData.Array ? (SpecificData.Array<java.lang.Integer>)a0 : null);
+      for ( ; 0 < size0; size0 = in.arrayNext()) {
+        for ( ; size0 != 0; size0--) {
+          java.lang.Integer e0 = (ga0 != null ? ga0.peek() : null);
+          e0 = in.readInt();
+          a0.add(e0);
+        }
+      }
+
+      long size1 = in.readArrayStart();
+      java.util.List<java.lang.Double> a1 = this.values;
+      if (a1 == null) {
+        a1 = new SpecificData.Array<java.lang.Double>((int)size1, SCHEMA$.getField("values").schema());
+        this.values = a1;
+      } else a1.clear();
+      SpecificData.Array<java.lang.Double> ga1 = (a1 instanceof SpecificData.Array ? (SpecificData.Array<java.lang.Double>)a1 : null);
+      for ( ; 0 < size1; size1 = in.arrayNext()) {
+        for ( ; size1 != 0; size1--) {
+          java.lang.Double e1 = (ga1 != null ? ga1.peek() : null);
+          e1 = in.readDouble();
+          a1.add(e1);
+        }
+      }
+
+    } else {
+      for (int i = 0; i < 2; i++) {
+        switch (fieldOrder[i].pos()) {
+        case 0:
+          long size0 = in.readArrayStart();
+          java.util.List<java.lang.Integer> a0 = this.intervals;
+          if (a0 == null) {
+            a0 = new SpecificData.Array<java.lang.Integer>((int)size0, SCHEMA$.getField("intervals").schema());
+            this.intervals = a0;
+          } else a0.clear();
+          SpecificData.Array<java.lang.Integer> ga0 = (a0 instanceof SpecificData.Array ? (SpecificData.Array<java.lang.Integer>)a0 : null);
+          for ( ; 0 < size0; size0 = in.arrayNext()) {
+            for ( ; size0 != 0; size0--) {
+              java.lang.Integer e0 = (ga0 != null ? ga0.peek() : null);
+              e0 = in.readInt();
+              a0.add(e0);
+            }
+          }
+          break;
+
+        case 1:
+          long size1 = in.readArrayStart();
+          java.util.List<java.lang.Double> a1 = this.values;
+          if (a1 == null) {
+            a1 = new SpecificData.Array<java.lang.Double>((int)size1, SCHEMA$.getField("values").schema());
+            this.values = a1;
+          } else a1.clear();
+          SpecificData.Array<java.lang.Double> ga1 = (a1 instanceof SpecificData.Array ? (SpecificData.Array<java.lang.Double>)a1 : null);
+          for ( ; 0 < size1; size1 = in.arrayNext()) {
+            for ( ; size1 != 0; size1--) {
+              java.lang.Double e1 = (ga1 != null ? ga1.peek() : null);
+              e1 = in.readDouble();
+              a1.add(e1);
+            }
+          }
+          break;
+
+        default:
+          throw new java.io.IOException("Corrupt ResolvingDecoder.");
+        }
+      }
+    }
+  }
+}
+
+
+
+
+
+
+
+
+
+
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class StorageDto extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 7860787989788882603L;
+  private static final long serialVersionUID = 8254042747450484671L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"StorageDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"},{\"name\":\"name\",\"type\":\"string\"},{\"name\":\"maxCharge\",\"type\":\"double\"},{\"name\":\"maxDischarge\",\"type\":\"double\"},{\"name\":\"maxCapacity\",\"type\":\"double\"},{\"name\":\"initialEnergy\",\"type\":\"double\"},{\"name\":\"minChargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal charging power for intervals\",\"default\":null},{\"name\":\"maxChargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal charging power for intervals\",\"default\":null},{\"name\":\"minDischargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal discharging power for intervals\",\"default\":null},{\"name\":\"maxDischargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal discharging power for intervals\",\"default\":null},{\"name\":\"minEnergyConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal stored energy for intervals\",\"default\":null},{\"name\":\"maxEnergyConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal stored energy power for intervals\",\"default\":null},{\"name\":\"forbiddenChargeIntervals\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"doc\":\"Set of intervals at which charging is forbidden\",\"default\":[]},{\"name\":\"forbiddenDischargeIntervals\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"doc\":\"Set of intervals at which discharging is forbidden\",\"default\":[]}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"StorageDto\",\"namespace\":\"com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"},{\"name\":\"name\",\"type\":\"string\"},{\"name\":\"maxCharge\",\"type\":\"double\"},{\"name\":\"maxDischarge\",\"type\":\"double\"},{\"name\":\"maxCapacity\",\"type\":\"double\"},{\"name\":\"initialEnergy\",\"type\":\"double\"},{\"name\":\"minChargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal charging power for intervals\",\"default\":null},{\"name\":\"maxChargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal charging power for intervals\",\"default\":null},{\"name\":\"minDischargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal discharging power for intervals\",\"default\":null},{\"name\":\"maxDischargeConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal discharging power for intervals\",\"default\":null},{\"name\":\"minEnergyConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on minimal stored energy for intervals\",\"default\":null},{\"name\":\"maxEnergyConstraints\",\"type\":[\"null\",{\"type\":\"map\",\"values\":\"double\"}],\"doc\":\"Constraints on maximal stored energy power for intervals\",\"default\":null},{\"name\":\"forbiddenChargeIntervals\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"doc\":\"Set of intervals at which charging is forbidden\",\"default\":[]},{\"name\":\"forbiddenDischargeIntervals\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"doc\":\"Set of intervals at which discharging is forbidden\",\"default\":[]},{\"name\":\"minChargeValues\",\"type\":[\"null\",{\"type\":\"record\",\"name\":\"IntervalValuesDto\",\"fields\":[{\"name\":\"intervals\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"doc\":\"Intervals of constrained values\"},{\"name\":\"values\",\"type\":{\"type\":\"array\",\"items\":\"double\"},\"doc\":\"Constraint values, value at given position applies to interval at the same position\"}]}],\"doc\":\"Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present\",\"default\":null},{\"name\":\"maxChargeValues\",\"type\":[\"null\",\"IntervalValuesDto\"],\"doc\":\"Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present\",\"default\":null},{\"name\":\"minDischargeValues\",\"type\":[\"null\",\"IntervalValuesDto\"],\"doc\":\"Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present\",\"default\":null},{\"name\":\"maxDischargeValues\",\"type\":[\"null\",\"IntervalValuesDto\"],\"doc\":\"Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present\",\"default\":null},{\"name\":\"minEnergyValues\",\"type\":[\"null\",\"IntervalValuesDto\"],\"doc\":\"Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present\",\"default\":null},{\"name\":\"maxEnergyValues\",\"type\":[\"null\",\"IntervalValuesDto\"],\"doc\":\"Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present\",\"default\":null}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -95,6 +95,18 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
   private java.util.List<java.lang.Integer> forbiddenChargeIntervals;
   /** Set of intervals at which discharging is forbidden */
   private java.util.List<java.lang.Integer> forbiddenDischargeIntervals;
+  /** Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minChargeValues;
+  /** Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxChargeValues;
+  /** Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minDischargeValues;
+  /** Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxDischargeValues;
+  /** Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minEnergyValues;
+  /** Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present */
+  private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxEnergyValues;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -119,8 +131,14 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
    * @param maxEnergyConstraints Constraints on maximal stored energy power for intervals
    * @param forbiddenChargeIntervals Set of intervals at which charging is forbidden
    * @param forbiddenDischargeIntervals Set of intervals at which discharging is forbidden
+   * @param minChargeValues Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+   * @param maxChargeValues Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+   * @param minDischargeValues Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+   * @param maxDischargeValues Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+   * @param minEnergyValues Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+   * @param maxEnergyValues Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
    */
-  public StorageDto(java.lang.Long id, java.lang.CharSequence name, java.lang.Double maxCharge, java.lang.Double maxDischarge, java.lang.Double maxCapacity, java.lang.Double initialEnergy, java.util.Map<java.lang.CharSequence,java.lang.Double> minChargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> maxChargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> minDischargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> maxDischargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> minEnergyConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> maxEnergyConstraints, java.util.List<java.lang.Integer> forbiddenChargeIntervals, java.util.List<java.lang.Integer> forbiddenDischargeIntervals) {
+  public StorageDto(java.lang.Long id, java.lang.CharSequence name, java.lang.Double maxCharge, java.lang.Double maxDischarge, java.lang.Double maxCapacity, java.lang.Double initialEnergy, java.util.Map<java.lang.CharSequence,java.lang.Double> minChargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> maxChargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> minDischargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> maxDischargeConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> minEnergyConstraints, java.util.Map<java.lang.CharSequence,java.lang.Double> maxEnergyConstraints, java.util.List<java.lang.Integer> forbiddenChargeIntervals, java.util.List<java.lang.Integer> forbiddenDischargeIntervals, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minChargeValues, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxChargeValues, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minDischargeValues, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxDischargeValues, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minEnergyValues, com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxEnergyValues) {
     this.id = id;
     this.name = name;
     this.maxCharge = maxCharge;
@@ -135,6 +153,12 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
     this.maxEnergyConstraints = maxEnergyConstraints;
     this.forbiddenChargeIntervals = forbiddenChargeIntervals;
     this.forbiddenDischargeIntervals = forbiddenDischargeIntervals;
+    this.minChargeValues = minChargeValues;
+    this.maxChargeValues = maxChargeValues;
+    this.minDischargeValues = minDischargeValues;
+    this.maxDischargeValues = maxDischargeValues;
+    this.minEnergyValues = minEnergyValues;
+    this.maxEnergyValues = maxEnergyValues;
   }
 
   @Override
@@ -161,6 +185,12 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
     case 11: return maxEnergyConstraints;
     case 12: return forbiddenChargeIntervals;
     case 13: return forbiddenDischargeIntervals;
+    case 14: return minChargeValues;
+    case 15: return maxChargeValues;
+    case 16: return minDischargeValues;
+    case 17: return maxDischargeValues;
+    case 18: return minEnergyValues;
+    case 19: return maxEnergyValues;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -184,6 +214,12 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
     case 11: maxEnergyConstraints = (java.util.Map<java.lang.CharSequence,java.lang.Double>)value$; break;
     case 12: forbiddenChargeIntervals = (java.util.List<java.lang.Integer>)value$; break;
     case 13: forbiddenDischargeIntervals = (java.util.List<java.lang.Integer>)value$; break;
+    case 14: minChargeValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
+    case 15: maxChargeValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
+    case 16: minDischargeValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
+    case 17: maxDischargeValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
+    case 18: minEnergyValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
+    case 19: maxEnergyValues = (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -434,6 +470,114 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
     this.forbiddenDischargeIntervals = value;
   }
 
+  /**
+   * Gets the value of the 'minChargeValues' field.
+   * @return Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinChargeValues() {
+    return minChargeValues;
+  }
+
+
+  /**
+   * Sets the value of the 'minChargeValues' field.
+   * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+   * @param value the value to set.
+   */
+  public void setMinChargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.minChargeValues = value;
+  }
+
+  /**
+   * Gets the value of the 'maxChargeValues' field.
+   * @return Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxChargeValues() {
+    return maxChargeValues;
+  }
+
+
+  /**
+   * Sets the value of the 'maxChargeValues' field.
+   * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+   * @param value the value to set.
+   */
+  public void setMaxChargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.maxChargeValues = value;
+  }
+
+  /**
+   * Gets the value of the 'minDischargeValues' field.
+   * @return Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinDischargeValues() {
+    return minDischargeValues;
+  }
+
+
+  /**
+   * Sets the value of the 'minDischargeValues' field.
+   * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+   * @param value the value to set.
+   */
+  public void setMinDischargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.minDischargeValues = value;
+  }
+
+  /**
+   * Gets the value of the 'maxDischargeValues' field.
+   * @return Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxDischargeValues() {
+    return maxDischargeValues;
+  }
+
+
+  /**
+   * Sets the value of the 'maxDischargeValues' field.
+   * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+   * @param value the value to set.
+   */
+  public void setMaxDischargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.maxDischargeValues = value;
+  }
+
+  /**
+   * Gets the value of the 'minEnergyValues' field.
+   * @return Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinEnergyValues() {
+    return minEnergyValues;
+  }
+
+
+  /**
+   * Sets the value of the 'minEnergyValues' field.
+   * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+   * @param value the value to set.
+   */
+  public void setMinEnergyValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.minEnergyValues = value;
+  }
+
+  /**
+   * Gets the value of the 'maxEnergyValues' field.
+   * @return Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+   */
+  public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxEnergyValues() {
+    return maxEnergyValues;
+  }
+
+
+  /**
+   * Sets the value of the 'maxEnergyValues' field.
+   * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+   * @param value the value to set.
+   */
+  public void setMaxEnergyValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+    this.maxEnergyValues = value;
+  }
+
   /**
    * Creates a new StorageDto RecordBuilder.
    * @return A new StorageDto RecordBuilder
@@ -497,6 +641,24 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
     private java.util.List<java.lang.Integer> forbiddenChargeIntervals;
     /** Set of intervals at which discharging is forbidden */
     private java.util.List<java.lang.Integer> forbiddenDischargeIntervals;
+    /** Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minChargeValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder minChargeValuesBuilder;
+    /** Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxChargeValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder maxChargeValuesBuilder;
+    /** Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minDischargeValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder minDischargeValuesBuilder;
+    /** Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxDischargeValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder maxDischargeValuesBuilder;
+    /** Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto minEnergyValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder minEnergyValuesBuilder;
+    /** Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present */
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto maxEnergyValues;
+    private com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder maxEnergyValuesBuilder;
 
     /** Creates a new Builder */
     private Builder() {
@@ -565,6 +727,48 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
         this.forbiddenDischargeIntervals = data().deepCopy(fields()[13].schema(), other.forbiddenDischargeIntervals);
         fieldSetFlags()[13] = other.fieldSetFlags()[13];
       }
+      if (isValidValue(fields()[14], other.minChargeValues)) {
+        this.minChargeValues = data().deepCopy(fields()[14].schema(), other.minChargeValues);
+        fieldSetFlags()[14] = other.fieldSetFlags()[14];
+      }
+      if (other.hasMinChargeValuesBuilder()) {
+        this.minChargeValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMinChargeValuesBuilder());
+      }
+      if (isValidValue(fields()[15], other.maxChargeValues)) {
+        this.maxChargeValues = data().deepCopy(fields()[15].schema(), other.maxChargeValues);
+        fieldSetFlags()[15] = other.fieldSetFlags()[15];
+      }
+      if (other.hasMaxChargeValuesBuilder()) {
+        this.maxChargeValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMaxChargeValuesBuilder());
+      }
+      if (isValidValue(fields()[16], other.minDischargeValues)) {
+        this.minDischargeValues = data().deepCopy(fields()[16].schema(), other.minDischargeValues);
+        fieldSetFlags()[16] = other.fieldSetFlags()[16];
+      }
+      if (other.hasMinDischargeValuesBuilder()) {
+        this.minDischargeValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMinDischargeValuesBuilder());
+      }
+      if (isValidValue(fields()[17], other.maxDischargeValues)) {
+        this.maxDischargeValues = data().deepCopy(fields()[17].schema(), other.maxDischargeValues);
+        fieldSetFlags()[17] = other.fieldSetFlags()[17];
+      }
+      if (other.hasMaxDischargeValuesBuilder()) {
+        this.maxDischargeValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMaxDischargeValuesBuilder());
+      }
+      if (isValidValue(fields()[18], other.minEnergyValues)) {
+        this.minEnergyValues = data().deepCopy(fields()[18].schema(), other.minEnergyValues);
+        fieldSetFlags()[18] = other.fieldSetFlags()[18];
+      }
+      if (other.hasMinEnergyValuesBuilder()) {
+        this.minEnergyValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMinEnergyValuesBuilder());
+      }
+      if (isValidValue(fields()[19], other.maxEnergyValues)) {
+        this.maxEnergyValues = data().deepCopy(fields()[19].schema(), other.maxEnergyValues);
+        fieldSetFlags()[19] = other.fieldSetFlags()[19];
+      }
+      if (other.hasMaxEnergyValuesBuilder()) {
+        this.maxEnergyValuesBuilder = com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(other.getMaxEnergyValuesBuilder());
+      }
     }
 
     /**
@@ -629,6 +833,36 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
         this.forbiddenDischargeIntervals = data().deepCopy(fields()[13].schema(), other.forbiddenDischargeIntervals);
         fieldSetFlags()[13] = true;
       }
+      if (isValidValue(fields()[14], other.minChargeValues)) {
+        this.minChargeValues = data().deepCopy(fields()[14].schema(), other.minChargeValues);
+        fieldSetFlags()[14] = true;
+      }
+      this.minChargeValuesBuilder = null;
+      if (isValidValue(fields()[15], other.maxChargeValues)) {
+        this.maxChargeValues = data().deepCopy(fields()[15].schema(), other.maxChargeValues);
+        fieldSetFlags()[15] = true;
+      }
+      this.maxChargeValuesBuilder = null;
+      if (isValidValue(fields()[16], other.minDischargeValues)) {
+        this.minDischargeValues = data().deepCopy(fields()[16].schema(), other.minDischargeValues);
+        fieldSetFlags()[16] = true;
+      }
+      this.minDischargeValuesBuilder = null;
+      if (isValidValue(fields()[17], other.maxDischargeValues)) {
+        this.maxDischargeValues = data().deepCopy(fields()[17].schema(), other.maxDischargeValues);
+        fieldSetFlags()[17] = true;
+      }
+      this.maxDischargeValuesBuilder = null;
+      if (isValidValue(fields()[18], other.minEnergyValues)) {
+        this.minEnergyValues = data().deepCopy(fields()[18].schema(), other.minEnergyValues);
+        fieldSetFlags()[18] = true;
+      }
+      this.minEnergyValuesBuilder = null;
+      if (isValidValue(fields()[19], other.maxEnergyValues)) {
+        this.maxEnergyValues = data().deepCopy(fields()[19].schema(), other.maxEnergyValues);
+        fieldSetFlags()[19] = true;
+      }
+      this.maxEnergyValuesBuilder = null;
     }
 
     /**
@@ -1218,6 +1452,504 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
       return this;
     }
 
+    /**
+      * Gets the value of the 'minChargeValues' field.
+      * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinChargeValues() {
+      return minChargeValues;
+    }
+
+
+    /**
+      * Sets the value of the 'minChargeValues' field.
+      * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+      * @param value The value of 'minChargeValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMinChargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[14], value);
+      this.minChargeValuesBuilder = null;
+      this.minChargeValues = value;
+      fieldSetFlags()[14] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'minChargeValues' field has been set.
+      * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+      * @return True if the 'minChargeValues' field has been set, false otherwise.
+      */
+    public boolean hasMinChargeValues() {
+      return fieldSetFlags()[14];
+    }
+
+    /**
+     * Gets the Builder instance for the 'minChargeValues' field and creates one if it doesn't exist yet.
+     * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMinChargeValuesBuilder() {
+      if (minChargeValuesBuilder == null) {
+        if (hasMinChargeValues()) {
+          setMinChargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(minChargeValues));
+        } else {
+          setMinChargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return minChargeValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'minChargeValues' field
+     * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMinChargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMinChargeValues();
+      minChargeValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'minChargeValues' field has an active Builder instance
+     * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+     * @return True if the 'minChargeValues' field has an active Builder instance
+     */
+    public boolean hasMinChargeValuesBuilder() {
+      return minChargeValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'minChargeValues' field.
+      * Constraints on minimal charging power for intervals as parallel arrays, used instead of minChargeConstraints map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder clearMinChargeValues() {
+      minChargeValues = null;
+      minChargeValuesBuilder = null;
+      fieldSetFlags()[14] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'maxChargeValues' field.
+      * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxChargeValues() {
+      return maxChargeValues;
+    }
+
+
+    /**
+      * Sets the value of the 'maxChargeValues' field.
+      * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+      * @param value The value of 'maxChargeValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMaxChargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[15], value);
+      this.maxChargeValuesBuilder = null;
+      this.maxChargeValues = value;
+      fieldSetFlags()[15] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'maxChargeValues' field has been set.
+      * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+      * @return True if the 'maxChargeValues' field has been set, false otherwise.
+      */
+    public boolean hasMaxChargeValues() {
+      return fieldSetFlags()[15];
+    }
+
+    /**
+     * Gets the Builder instance for the 'maxChargeValues' field and creates one if it doesn't exist yet.
+     * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMaxChargeValuesBuilder() {
+      if (maxChargeValuesBuilder == null) {
+        if (hasMaxChargeValues()) {
+          setMaxChargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(maxChargeValues));
+        } else {
+          setMaxChargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return maxChargeValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'maxChargeValues' field
+     * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMaxChargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMaxChargeValues();
+      maxChargeValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'maxChargeValues' field has an active Builder instance
+     * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+     * @return True if the 'maxChargeValues' field has an active Builder instance
+     */
+    public boolean hasMaxChargeValuesBuilder() {
+      return maxChargeValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'maxChargeValues' field.
+      * Constraints on maximal charging power for intervals as parallel arrays, used instead of maxChargeConstraints map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder clearMaxChargeValues() {
+      maxChargeValues = null;
+      maxChargeValuesBuilder = null;
+      fieldSetFlags()[15] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'minDischargeValues' field.
+      * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinDischargeValues() {
+      return minDischargeValues;
+    }
+
+
+    /**
+      * Sets the value of the 'minDischargeValues' field.
+      * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+      * @param value The value of 'minDischargeValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMinDischargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[16], value);
+      this.minDischargeValuesBuilder = null;
+      this.minDischargeValues = value;
+      fieldSetFlags()[16] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'minDischargeValues' field has been set.
+      * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+      * @return True if the 'minDischargeValues' field has been set, false otherwise.
+      */
+    public boolean hasMinDischargeValues() {
+      return fieldSetFlags()[16];
+    }
+
+    /**
+     * Gets the Builder instance for the 'minDischargeValues' field and creates one if it doesn't exist yet.
+     * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMinDischargeValuesBuilder() {
+      if (minDischargeValuesBuilder == null) {
+        if (hasMinDischargeValues()) {
+          setMinDischargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(minDischargeValues));
+        } else {
+          setMinDischargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return minDischargeValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'minDischargeValues' field
+     * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMinDischargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMinDischargeValues();
+      minDischargeValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'minDischargeValues' field has an active Builder instance
+     * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+     * @return True if the 'minDischargeValues' field has an active Builder instance
+     */
+    public boolean hasMinDischargeValuesBuilder() {
+      return minDischargeValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'minDischargeValues' field.
+      * Constraints on minimal discharging power for intervals as parallel arrays, used instead of minDischargeConstraints map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder clearMinDischargeValues() {
+      minDischargeValues = null;
+      minDischargeValuesBuilder = null;
+      fieldSetFlags()[16] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'maxDischargeValues' field.
+      * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxDischargeValues() {
+      return maxDischargeValues;
+    }
+
+
+    /**
+      * Sets the value of the 'maxDischargeValues' field.
+      * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+      * @param value The value of 'maxDischargeValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMaxDischargeValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[17], value);
+      this.maxDischargeValuesBuilder = null;
+      this.maxDischargeValues = value;
+      fieldSetFlags()[17] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'maxDischargeValues' field has been set.
+      * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+      * @return True if the 'maxDischargeValues' field has been set, false otherwise.
+      */
+    public boolean hasMaxDischargeValues() {
+      return fieldSetFlags()[17];
+    }
+
+    /**
+     * Gets the Builder instance for the 'maxDischargeValues' field and creates one if it doesn't exist yet.
+     * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMaxDischargeValuesBuilder() {
+      if (maxDischargeValuesBuilder == null) {
+        if (hasMaxDischargeValues()) {
+          setMaxDischargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(maxDischargeValues));
+        } else {
+          setMaxDischargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return maxDischargeValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'maxDischargeValues' field
+     * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMaxDischargeValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMaxDischargeValues();
+      maxDischargeValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'maxDischargeValues' field has an active Builder instance
+     * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+     * @return True if the 'maxDischargeValues' field has an active Builder instance
+     */
+    public boolean hasMaxDischargeValuesBuilder() {
+      return maxDischargeValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'maxDischargeValues' field.
+      * Constraints on maximal discharging power for intervals as parallel arrays, used instead of maxDischargeConstraints map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder clearMaxDischargeValues() {
+      maxDischargeValues = null;
+      maxDischargeValuesBuilder = null;
+      fieldSetFlags()[17] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'minEnergyValues' field.
+      * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMinEnergyValues() {
+      return minEnergyValues;
+    }
+
+
+    /**
+      * Sets the value of the 'minEnergyValues' field.
+      * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+      * @param value The value of 'minEnergyValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMinEnergyValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[18], value);
+      this.minEnergyValuesBuilder = null;
+      this.minEnergyValues = value;
+      fieldSetFlags()[18] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'minEnergyValues' field has been set.
+      * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+      * @return True if the 'minEnergyValues' field has been set, false otherwise.
+      */
+    public boolean hasMinEnergyValues() {
+      return fieldSetFlags()[18];
+    }
+
+    /**
+     * Gets the Builder instance for the 'minEnergyValues' field and creates one if it doesn't exist yet.
+     * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMinEnergyValuesBuilder() {
+      if (minEnergyValuesBuilder == null) {
+        if (hasMinEnergyValues()) {
+          setMinEnergyValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(minEnergyValues));
+        } else {
+          setMinEnergyValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return minEnergyValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'minEnergyValues' field
+     * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMinEnergyValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMinEnergyValues();
+      minEnergyValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'minEnergyValues' field has an active Builder instance
+     * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+     * @return True if the 'minEnergyValues' field has an active Builder instance
+     */
+    public boolean hasMinEnergyValuesBuilder() {
+      return minEnergyValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'minEnergyValues' field.
+      * Constraints on minimal stored energy for intervals as parallel arrays, used instead of minEnergyConstraints map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder clearMinEnergyValues() {
+      minEnergyValues = null;
+      minEnergyValuesBuilder = null;
+      fieldSetFlags()[18] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'maxEnergyValues' field.
+      * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+      * @return The value.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto getMaxEnergyValues() {
+      return maxEnergyValues;
+    }
+
+
+    /**
+      * Sets the value of the 'maxEnergyValues' field.
+      * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+      * @param value The value of 'maxEnergyValues'.
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMaxEnergyValues(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto value) {
+      validate(fields()[19], value);
+      this.maxEnergyValuesBuilder = null;
+      this.maxEnergyValues = value;
+      fieldSetFlags()[19] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'maxEnergyValues' field has been set.
+      * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+      * @return True if the 'maxEnergyValues' field has been set, false otherwise.
+      */
+    public boolean hasMaxEnergyValues() {
+      return fieldSetFlags()[19];
+    }
+
+    /**
+     * Gets the Builder instance for the 'maxEnergyValues' field and creates one if it doesn't exist yet.
+     * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+     * @return This builder.
+     */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder getMaxEnergyValuesBuilder() {
+      if (maxEnergyValuesBuilder == null) {
+        if (hasMaxEnergyValues()) {
+          setMaxEnergyValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder(maxEnergyValues));
+        } else {
+          setMaxEnergyValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.newBuilder());
+        }
+      }
+      return maxEnergyValuesBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'maxEnergyValues' field
+     * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder setMaxEnergyValuesBuilder(com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto.Builder value) {
+      clearMaxEnergyValues();
+      maxEnergyValuesBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'maxEnergyValues' field has an active Builder instance
+     * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+     * @return True if the 'maxEnergyValues' field has an active Builder instance
+     */
+    public boolean hasMaxEnergyValuesBuilder() {
+      return maxEnergyValuesBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'maxEnergyValues' field.
+      * Constraints on maximal stored energy for intervals as parallel arrays, used instead of maxEnergyConstraints map when present
+      * @return This builder.
+      */
+    public com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.StorageDto.Builder clearMaxEnergyValues() {
+      maxEnergyValues = null;
+      maxEnergyValuesBuilder = null;
+      fieldSetFlags()[19] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public StorageDto build() {
@@ -1237,6 +1969,66 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
         record.maxEnergyConstraints = fieldSetFlags()[11] ? this.maxEnergyConstraints : (java.util.Map<java.lang.CharSequence,java.lang.Double>) defaultValue(fields()[11]);
         record.forbiddenChargeIntervals = fieldSetFlags()[12] ? this.forbiddenChargeIntervals : (java.util.List<java.lang.Integer>) defaultValue(fields()[12]);
         record.forbiddenDischargeIntervals = fieldSetFlags()[13] ? this.forbiddenDischargeIntervals : (java.util.List<java.lang.Integer>) defaultValue(fields()[13]);
+        if (minChargeValuesBuilder != null) {
+          try {
+            record.minChargeValues = this.minChargeValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("minChargeValues"));
+            throw e;
+          }
+        } else {
+          record.minChargeValues = fieldSetFlags()[14] ? this.minChargeValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[14]);
+        }
+        if (maxChargeValuesBuilder != null) {
+          try {
+            record.maxChargeValues = this.maxChargeValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("maxChargeValues"));
+            throw e;
+          }
+        } else {
+          record.maxChargeValues = fieldSetFlags()[15] ? this.maxChargeValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[15]);
+        }
+        if (minDischargeValuesBuilder != null) {
+          try {
+            record.minDischargeValues = this.minDischargeValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("minDischargeValues"));
+            throw e;
+          }
+        } else {
+          record.minDischargeValues = fieldSetFlags()[16] ? this.minDischargeValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[16]);
+        }
+        if (maxDischargeValuesBuilder != null) {
+          try {
+            record.maxDischargeValues = this.maxDischargeValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("maxDischargeValues"));
+            throw e;
+          }
+        } else {
+          record.maxDischargeValues = fieldSetFlags()[17] ? this.maxDischargeValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[17]);
+        }
+        if (minEnergyValuesBuilder != null) {
+          try {
+            record.minEnergyValues = this.minEnergyValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("minEnergyValues"));
+            throw e;
+          }
+        } else {
+          record.minEnergyValues = fieldSetFlags()[18] ? this.minEnergyValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[18]);
+        }
+        if (maxEnergyValuesBuilder != null) {
+          try {
+            record.maxEnergyValues = this.maxEnergyValuesBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("maxEnergyValues"));
+            throw e;
+          }
+        } else {
+          record.maxEnergyValues = fieldSetFlags()[19] ? this.maxEnergyValues : (com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto) defaultValue(fields()[19]);
+        }
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -1433,6 +2225,54 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
     if (actualSize7 != size7)
       throw new java.util.ConcurrentModificationException("Array-size written was " + size7 + ", but element count was " + actualSize7 + ".");
 
+    if (this.minChargeValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.minChargeValues.customEncode(out);
+    }
+
+    if (this.maxChargeValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.maxChargeValues.customEncode(out);
+    }
+
+    if (this.minDischargeValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.minDischargeValues.customEncode(out);
+    }
+
+    if (this.maxDischargeValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.maxDischargeValues.customEncode(out);
+    }
+
+    if (this.minEnergyValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.minEnergyValues.customEncode(out);
+    }
+
+    if (this.maxEnergyValues == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      this.maxEnergyValues.customEncode(out);
+    }
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -1608,8 +2448,68 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
         }
       }
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.minChargeValues = null;
+      } else {
+        if (this.minChargeValues == null) {
+          this.minChargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.minChargeValues.customDecode(in);
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.maxChargeValues = null;
+      } else {
+        if (this.maxChargeValues == null) {
+          this.maxChargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.maxChargeValues.customDecode(in);
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.minDischargeValues = null;
+      } else {
+        if (this.minDischargeValues == null) {
+          this.minDischargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.minDischargeValues.customDecode(in);
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.maxDischargeValues = null;
+      } else {
+        if (this.maxDischargeValues == null) {
+          this.maxDischargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.maxDischargeValues.customDecode(in);
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.minEnergyValues = null;
+      } else {
+        if (this.minEnergyValues == null) {
+          this.minEnergyValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.minEnergyValues.customDecode(in);
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.maxEnergyValues = null;
+      } else {
+        if (this.maxEnergyValues == null) {
+          this.maxEnergyValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+        }
+        this.maxEnergyValues.customDecode(in);
+      }
+
     } else {
-      for (int i = 0; i < 14; i++) {
+      for (int i = 0; i < 20; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.id = in.readLong();
@@ -1807,6 +2707,78 @@ public class StorageDto extends org.apache.avro.specific.SpecificRecordBase impl
           }
           break;
 
+        case 14:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.minChargeValues = null;
+          } else {
+            if (this.minChargeValues == null) {
+              this.minChargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.minChargeValues.customDecode(in);
+          }
+          break;
+
+        case 15:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.maxChargeValues = null;
+          } else {
+            if (this.maxChargeValues == null) {
+              this.maxChargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.maxChargeValues.customDecode(in);
+          }
+          break;
+
+        case 16:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.minDischargeValues = null;
+          } else {
+            if (this.minDischargeValues == null) {
+              this.minDischargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.minDischargeValues.customDecode(in);
+          }
+          break;
+
+        case 17:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.maxDischargeValues = null;
+          } else {
+            if (this.maxDischargeValues == null) {
+              this.maxDischargeValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.maxDischargeValues.customDecode(in);
+          }
+          break;
+
+        case 18:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.minEnergyValues = null;
+          } else {
+            if (this.minEnergyValues == null) {
+              this.minEnergyValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.minEnergyValues.customDecode(in);
+          }
+          break;
+
+        case 19:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.maxEnergyValues = null;
+          } else {
+            if (this.maxEnergyValues == null) {
+              this.maxEnergyValues = new com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.IntervalValuesDto();
+            }
+            this.maxEnergyValues.customDecode(in);
+          }
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
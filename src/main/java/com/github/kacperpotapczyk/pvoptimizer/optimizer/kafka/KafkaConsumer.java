@@ -4,22 +4,51 @@ import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result.ResultDto;
 import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.TaskDto;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.mapper.Mapper;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizationStage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizerMetrics;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.Cancellation;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.OptimizationContext;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.Optimizer;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.kafka.annotation.KafkaListener;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+/**
+ * Receives tasks and solves up to {@link ThreadPoolTaskExecutor#getMaxPoolSize() executor pool size} of them concurrently.
+ * Tasks with the same key are solved and their results published in order of arrival. Order is kept per key rather
+ * than per partition on purpose: key identifies task lineage and results are published with the same key, so
+ * consumers of results can rely only on order of results with the same key, while chaining whole partitions would
+ * limit concurrency to number of assigned partitions. Keyless tasks and tasks with different keys of one partition
+ * are independent and finish in any order. Results are published asynchronously and record is acknowledged when its
+ * result is confirmed by broker and all preceding records of partition are processed, so committed offsets still
+ * follow partition order.
+ * Result which can not be published in configured number of attempts is dropped and its record is acknowledged anyway,
+ * so single failed record does not hold back commits of all following records of partition. Records of revoked
+ * partitions are not acknowledged, see {@link OffsetTracker}.
+ * <p>
+ * When supersession is enabled, task with key supersedes all earlier tasks with the same key. Superseded tasks waiting
+ * for their turn are not solved and optimization of superseded task in progress is aborted. Superseded tasks are
+ * answered with {@link OptimizationStatus#SUPERSEDED superseded} result.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -28,12 +57,23 @@ public class KafkaConsumer {
     @Value("${spring.kafka.consumer.containerId}")
     private String containerId;
 
+    @Value("${spring.kafka.producer.sendAttempts}")
+    private int sendAttempts;
+
+    @Value("${optimizer.supersession.enabled}")
+    private boolean supersessionEnabled;
+
     private final KafkaProducer kafkaProducer;
     private final Optimizer optimizer;
     private final Mapper<TaskDto, Task> taskToDtoTaskMapper;
     private final Mapper<Result, ResultDto> resultToResultDtoMapper;
     private final KafkaListenerEndpointRegistry registry;
-    private final AsyncTaskExecutor executor;
+    private final ThreadPoolTaskExecutor executor;
+    private final OptimizerMetrics optimizerMetrics;
+    private final OffsetTracker offsetTracker;
+    private final Map<String, CompletableFuture<?>> lastTaskForKey = new ConcurrentHashMap<>();
+    private final Map<String, Cancellation> lastCancellationForKey = new ConcurrentHashMap<>();
+    private int tasksInFlight = 0;
 
     @KafkaListener(topics = "${spring.kafka.consumer.topic}", id = "${spring.kafka.consumer.containerId}")
     public void listener(@Payload ConsumerRecord<String, TaskDto> consumerRecord, Acknowledgment acknowledgment) {
@@ -42,19 +82,169 @@ public class KafkaConsumer {
         TaskDto taskDto = consumerRecord.value();
         log.info("Record contains task with id={}", taskDto.getId());
 
-        getContainer(containerId).ifPresent(MessageListenerContainer::pause);
-        log.debug("Pausing container={}", getContainer(containerId));
+        TopicPartition topicPartition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+        OffsetTracker.Registration registration = offsetTracker.register(topicPartition, consumerRecord.offset(), acknowledgment);
+        taskSubmitted();
+
+        Cancellation cancellation = supersede(consumerRecord.key());
+        submitInKeyOrder(consumerRecord.key(), () -> process(consumerRecord.key(), taskDto, cancellation))
+                .whenComplete((publication, exception) -> {
+                    taskFinished();
+                    if (cancellation != null) {
+                        lastCancellationForKey.remove(consumerRecord.key(), cancellation);
+                    }
+                    if (exception != null) {
+                        log.error("Exception at processing record with partition={}, offset={}, details={}",
+                                consumerRecord.partition(), consumerRecord.offset(), exception.getMessage());
+                        acknowledge(registration);
+                        return;
+                    }
+                    publication.whenComplete((sendResult, sendException) -> {
+                        if (sendException != null) {
+                            log.error("Result of record with partition={}, offset={} was not published in {} attempts, record is acknowledged without result",
+                                    consumerRecord.partition(), consumerRecord.offset(), sendAttempts);
+                        }
+                        acknowledge(registration);
+                    });
+                });
+    }
+
+    private CompletableFuture<SendResult<String, ResultDto>> process(String key, TaskDto taskDto, Cancellation cancellation) {
 
-        executor.submitCompletable(() -> {
+        Result result;
+        if (cancellation != null && cancellation.isCancelled()) {
+            log.info("Task with id={} superseded before optimization", taskDto.getId());
+            result = supersededResult(taskDto.getId());
+        }
+        else {
+            Timer.Sample sample = optimizerMetrics.start();
             Task task = taskToDtoTaskMapper.map(taskDto);
-            Result result = optimizer.solve(task);
-            ResultDto resultDto = resultToResultDtoMapper.map(result);
-            kafkaProducer.send(consumerRecord.key(), resultDto);
-        }).thenAccept(result -> {
-            acknowledgment.acknowledge();
-            getContainer(containerId).ifPresent(MessageListenerContainer::resume);
-            log.debug("Resume container");
-        });
+            optimizerMetrics.stop(sample, OptimizationStage.TASK_MAPPING);
+
+            OptimizationContext context = OptimizationContext.builder()
+                    .lineageKey(key)
+                    .intermediateResultConsumer(intermediateResult -> {
+                        if (cancellation == null || !cancellation.isCancelled()) {
+                            publishIntermediateResult(key, intermediateResult);
+                        }
+                    })
+                    .cancellation(cancellation)
+                    .build();
+            result = optimizer.solve(task, context);
+            if (context.isCancelled()) {
+                log.info("Optimization of task with id={} aborted, task superseded", taskDto.getId());
+                result = supersededResult(taskDto.getId());
+            }
+        }
+
+        Timer.Sample sample = optimizerMetrics.start();
+        ResultDto resultDto = resultToResultDtoMapper.map(result);
+        optimizerMetrics.stop(sample, OptimizationStage.RESULT_MAPPING);
+
+        return send(key, resultDto);
+    }
+
+    /**
+     * Sends result, repeating failed sends up to configured number of attempts.
+     */
+    private CompletableFuture<SendResult<String, ResultDto>> send(String key, ResultDto resultDto) {
+
+        CompletableFuture<SendResult<String, ResultDto>> publication = kafkaProducer.send(key, resultDto);
+        for (int attempt = 2; attempt <= sendAttempts; attempt++) {
+            int currentAttempt = attempt;
+            publication = publication.exceptionallyCompose(exception -> {
+                log.warn("Sending result of task with id={}, attempt={}", resultDto.getId(), currentAttempt);
+                return kafkaProducer.send(key, resultDto);
+            });
+        }
+        return publication;
+    }
+
+    /**
+     * Cancels last task with the same key and registers cancellation of received task. Has to be called from listener
+     * thread.
+     * @return cancellation of received task, or null if task can not be superseded
+     */
+    private Cancellation supersede(String key) {
+
+        if (!supersessionEnabled || key == null) {
+            return null;
+        }
+        Cancellation cancellation = new Cancellation();
+        Cancellation previousCancellation = lastCancellationForKey.put(key, cancellation);
+        if (previousCancellation != null) {
+            previousCancellation.cancel();
+        }
+        return cancellation;
+    }
+
+    private Result supersededResult(long taskId) {
+
+        return Result.builder()
+                .id(taskId)
+                .optimizationStatus(OptimizationStatus.SUPERSEDED)
+                .errorMessage("Task superseded by newer task with the same key")
+                .build();
+    }
+
+    /**
+     * Publishes intermediate result without waiting for broker acknowledgment, record is acknowledged after
+     * publication of final result. Results are sent by single producer, so results of the same key keep their order.
+     */
+    private void publishIntermediateResult(String key, Result intermediateResult) {
+
+        Timer.Sample sample = optimizerMetrics.start();
+        ResultDto resultDto = resultToResultDtoMapper.map(intermediateResult);
+        optimizerMetrics.stop(sample, OptimizationStage.RESULT_MAPPING);
+
+        kafkaProducer.send(key, resultDto);
+    }
+
+    private void acknowledge(OffsetTracker.Registration registration) {
+
+        offsetTracker.complete(registration)
+                .ifPresent(Acknowledgment::acknowledge);
+    }
+
+    /**
+     * Runs task after all previously submitted tasks with the same key are finished, keyless tasks are run at once.
+     * Has to be called from listener thread.
+     */
+    private <T> CompletableFuture<T> submitInKeyOrder(String key, Supplier<T> task) {
+
+        if (key == null) {
+            return CompletableFuture.supplyAsync(task, executor);
+        }
+
+        CompletableFuture<?> previousTask = lastTaskForKey.get(key);
+        CompletableFuture<T> future = previousTask == null
+                ? CompletableFuture.supplyAsync(task, executor)
+                : previousTask.handle((result, exception) -> null).thenApplyAsync(ignored -> task.get(), executor);
+        lastTaskForKey.put(key, future);
+        future.whenComplete((result, exception) -> lastTaskForKey.remove(key, future));
+        return future;
+    }
+
+    private synchronized void taskSubmitted() {
+
+        tasksInFlight++;
+        if (tasksInFlight >= executor.getMaxPoolSize()) {
+            getContainer(containerId).ifPresent(MessageListenerContainer::pause);
+            log.debug("Pausing container, tasks in flight={}", tasksInFlight);
+        }
+    }
+
+    private synchronized void taskFinished() {
+
+        tasksInFlight--;
+        if (tasksInFlight < executor.getMaxPoolSize()) {
+            getContainer(containerId)
+                    .filter(MessageListenerContainer::isPauseRequested)
+                    .ifPresent(container -> {
+                        container.resume();
+                        log.debug("Resume container, tasks in flight={}", tasksInFlight);
+                    });
+        }
     }
 
     private Optional<MessageListenerContainer> getContainer(String containerId) {
@@ -1,9 +1,10 @@
 package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
 
 import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.TaskDto;
-import io.confluent.kafka.streams.serdes.avro.SpecificAvroDeserializer;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizerMetrics;
 import lombok.AllArgsConstructor;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +13,7 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @EnableKafka
 @Configuration
@@ -19,17 +21,41 @@ import org.springframework.kafka.listener.ContainerProperties;
 public class KafkaConsumerConfig {
 
     private KafkaProperties kafkaProperties;
+    private OptimizerMetrics optimizerMetrics;
+    private OffsetTracker offsetTracker;
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, TaskDto> kafkaListenerContainerFactory() {
         var factory = new ConcurrentKafkaListenerContainerFactory<String, TaskDto>();
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        // records of revoked partitions are redelivered, so they must not be acknowledged by this consumer
+        factory.getContainerProperties().setConsumerRebalanceListener(offsetTracker);
         return factory;
     }
 
     @Bean
     public ConsumerFactory<String, TaskDto> consumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(kafkaProperties.buildConsumerProperties(), StringDeserializer::new, SpecificAvroDeserializer<TaskDto>::new);
+        return new DefaultKafkaConsumerFactory<>(
+                kafkaProperties.buildConsumerProperties(),
+                StringDeserializer::new,
+                () -> new TimedDeserializer<>(new PrimitiveArraysAvroDeserializer<TaskDto>(TaskDto.getClassSchema()), optimizerMetrics));
+    }
+
+    /**
+     * Executor solving received tasks. Its pool size limits number of tasks solved concurrently,
+     * by default it is equal to number of available processors.
+     * @param maxInFlightTasks maximal number of tasks solved concurrently
+     * @return optimizer tasks executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor optimizerTaskExecutor(
+            @Value("${optimizer.maxInFlightTasks:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int maxInFlightTasks) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlightTasks);
+        executor.setMaxPoolSize(maxInFlightTasks);
+        executor.setThreadNamePrefix("optimizer-");
+        return executor;
     }
 }
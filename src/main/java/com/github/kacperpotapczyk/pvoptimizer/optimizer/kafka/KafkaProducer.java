@@ -1,11 +1,16 @@
 package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
 
 import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result.ResultDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 public class KafkaProducer {
@@ -14,15 +19,38 @@ public class KafkaProducer {
     private String topic;
 
     private final KafkaTemplate<String, ResultDto> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
-    public KafkaProducer(KafkaTemplate<String, ResultDto> kafkaTemplate) {
+    public KafkaProducer(KafkaTemplate<String, ResultDto> kafkaTemplate, MeterRegistry meterRegistry) {
         this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
     }
 
-    public void send(String key, ResultDto resultDto) {
+    /**
+     * Sends result asynchronously. Record is batched by producer according to linger and batch size settings.
+     * Time between send and broker acknowledgment is recorded as pvoptimizer.kafka.publish timer.
+     * @param key record key
+     * @param resultDto result to send
+     * @return future completed when record is acknowledged by broker
+     */
+    public CompletableFuture<SendResult<String, ResultDto>> send(String key, ResultDto resultDto) {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return kafkaTemplate.send(topic, key, resultDto)
+                .whenComplete((sendResult, exception) -> {
+                    sample.stop(Timer.builder("pvoptimizer.kafka.publish")
+                            .description("Time between result send and broker acknowledgment")
+                            .tag("outcome", exception == null ? "success" : "failure")
+                            .publishPercentiles(0.5, 0.95, 0.99)
+                            .register(meterRegistry));
 
-        kafkaTemplate.send(topic, key, resultDto);
-        kafkaTemplate.flush();
-        log.info("Record with key={} containing result of task with id={} was send", key, resultDto.getId());
+                    if (exception == null) {
+                        log.info("Record with key={} containing result of task with id={} was send", key, resultDto.getId());
+                    }
+                    else {
+                        log.error("Record with key={} containing result of task with id={} could not be send, details={}",
+                                key, resultDto.getId(), exception.getMessage());
+                    }
+                });
     }
 }
@@ -2,6 +2,7 @@ package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
 
 import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result.ResultDto;
 import io.confluent.kafka.streams.serdes.avro.SpecificAvroSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
@@ -10,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
 @EnableKafka
@@ -18,6 +20,7 @@ import org.springframework.kafka.core.ProducerFactory;
 public class KafkaProducerConfig {
 
     private final KafkaProperties kafkaProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public KafkaTemplate<String, ResultDto> kafkaTemplate(final ProducerFactory<String, ResultDto> producerFactory) {
@@ -26,6 +29,9 @@ public class KafkaProducerConfig {
 
     @Bean
     public ProducerFactory<String, ResultDto> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties(), StringSerializer::new, SpecificAvroSerializer<ResultDto>::new);
+        DefaultKafkaProducerFactory<String, ResultDto> producerFactory = new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties(), StringSerializer::new, SpecificAvroSerializer<ResultDto>::new);
+        // exposes producer client metrics, e.g. kafka.producer.batch.size.avg and kafka.producer.record.queue.time.avg
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
     }
 }
@@ -0,0 +1,112 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Tracks records that are processed concurrently. Records can be finished in any order, but acknowledgment is released
+ * only for the highest offset below which all records of given partition are finished. Committed offset never skips
+ * record that is still being processed.
+ * <p>
+ * Records of revoked or lost partitions are dropped, as they are redelivered to consumer the partition is assigned to.
+ * Records are completed by their {@link Registration registration}, so record processed before revocation can not
+ * complete the same offset registered again after the partition is assigned back.
+ */
+@Slf4j
+@Component
+public class OffsetTracker implements ConsumerAwareRebalanceListener {
+
+    private final Map<TopicPartition, NavigableMap<Long, Registration>> pendingRecords = new HashMap<>();
+
+    /**
+     * Registers record that is going to be processed.
+     * @param topicPartition record partition
+     * @param offset record offset
+     * @param acknowledgment acknowledgment of record
+     * @return registration completing the record
+     */
+    public synchronized Registration register(TopicPartition topicPartition, long offset, Acknowledgment acknowledgment) {
+
+        Registration registration = new Registration(topicPartition, offset, acknowledgment);
+        pendingRecords.computeIfAbsent(topicPartition, partition -> new TreeMap<>())
+                .put(offset, registration);
+        return registration;
+    }
+
+    /**
+     * Marks record as finished.
+     * @param registration registration of record
+     * @return acknowledgment that commits all contiguous finished records of partition, empty if record with lower
+     * offset is still processed or record is no longer tracked
+     */
+    public synchronized Optional<Acknowledgment> complete(Registration registration) {
+
+        NavigableMap<Long, Registration> partitionRecords = pendingRecords.get(registration.topicPartition);
+        if (partitionRecords == null || partitionRecords.get(registration.offset) != registration) {
+            return Optional.empty();
+        }
+        registration.finished = true;
+
+        Acknowledgment contiguousAcknowledgment = null;
+        while (!partitionRecords.isEmpty() && partitionRecords.firstEntry().getValue().finished) {
+            contiguousAcknowledgment = partitionRecords.pollFirstEntry().getValue().acknowledgment;
+        }
+        if (partitionRecords.isEmpty()) {
+            pendingRecords.remove(registration.topicPartition);
+        }
+        return Optional.ofNullable(contiguousAcknowledgment);
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        drop(partitions);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        drop(partitions);
+    }
+
+    /**
+     * Stops tracking records of given partitions. Their results may still be published, but they are not acknowledged.
+     * @param partitions revoked partitions
+     */
+    public synchronized void drop(Collection<TopicPartition> partitions) {
+
+        for (TopicPartition partition : partitions) {
+            NavigableMap<Long, Registration> partitionRecords = pendingRecords.remove(partition);
+            if (partitionRecords != null) {
+                log.info("Partition={} revoked, {} records in progress are not acknowledged", partition, partitionRecords.size());
+            }
+        }
+    }
+
+    /**
+     * Record registered for processing.
+     */
+    public static final class Registration {
+
+        private final TopicPartition topicPartition;
+        private final long offset;
+        private final Acknowledgment acknowledgment;
+        private boolean finished;
+
+        private Registration(TopicPartition topicPartition, long offset, Acknowledgment acknowledgment) {
+
+            this.topicPartition = topicPartition;
+            this.offset = offset;
+            this.acknowledgment = acknowledgment;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deserializer of specific records serialized in Schema Registry wire format (magic byte, schema id, Avro binary data).
+ * Records are decoded with {@link PrimitiveArraysDatumReader}, so arrays of doubles and ints are not boxed.
+ * Writer schemas are fetched from Schema Registry configured the same way as for {@link KafkaAvroDeserializer},
+ * readers are cached per schema id.
+ * @param <T> deserialized specific record type
+ */
+public class PrimitiveArraysAvroDeserializer<T extends SpecificRecord> implements Deserializer<T> {
+
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_SIZE = 5;
+
+    private final Schema readerSchema;
+    private final SchemaRegistryDeserializer schemaRegistryDeserializer = new SchemaRegistryDeserializer();
+    private final Map<Integer, PrimitiveArraysDatumReader<T>> readers = new ConcurrentHashMap<>();
+
+    /**
+     * Deserializer of records with given schema.
+     * @param readerSchema schema of deserialized specific record
+     */
+    public PrimitiveArraysAvroDeserializer(Schema readerSchema) {
+        this.readerSchema = readerSchema;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        schemaRegistryDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || buffer.get() != MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte for record from topic: " + topic);
+        }
+        int schemaId = buffer.getInt();
+
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, null);
+            return reader(schemaId).read(null, decoder);
+        }
+        catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error deserializing Avro message for schema id: " + schemaId, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        schemaRegistryDeserializer.close();
+    }
+
+    private PrimitiveArraysDatumReader<T> reader(int schemaId) throws IOException {
+
+        PrimitiveArraysDatumReader<T> reader = readers.get(schemaId);
+        if (reader == null) {
+            reader = new PrimitiveArraysDatumReader<>(writerSchema(schemaId), readerSchema);
+            readers.put(schemaId, reader);
+        }
+        return reader;
+    }
+
+    private Schema writerSchema(int schemaId) throws IOException {
+
+        try {
+            return ((AvroSchema) schemaRegistryDeserializer.schemaRegistry().getSchemaById(schemaId)).rawSchema();
+        }
+        catch (RestClientException e) {
+            throw new IOException("Could not fetch schema with id: " + schemaId, e);
+        }
+    }
+
+    /**
+     * Exposes Schema Registry client configured by {@link KafkaAvroDeserializer}.
+     */
+    private static class SchemaRegistryDeserializer extends KafkaAvroDeserializer {
+
+        private SchemaRegistryClient schemaRegistry() {
+            return schemaRegistry;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.DoubleArrayList;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.IntArrayList;
+import org.apache.avro.Schema;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+
+import java.io.IOException;
+
+/**
+ * Specific datum reader decoding Avro arrays of doubles and ints straight into {@link DoubleArrayList} and
+ * {@link IntArrayList} instead of lists of boxed values. Arrays of other types are decoded by {@link SpecificDatumReader}.
+ * Custom coders of generated classes are disabled, because they bypass array decoding of this reader.
+ * @param <T> decoded specific record type
+ */
+public class PrimitiveArraysDatumReader<T> extends SpecificDatumReader<T> {
+
+    /**
+     * Reader resolving data written with writer schema to reader schema.
+     * @param writerSchema schema data was written with
+     * @param readerSchema schema of decoded specific record
+     */
+    public PrimitiveArraysDatumReader(Schema writerSchema, Schema readerSchema) {
+        super(writerSchema, readerSchema, specificData());
+    }
+
+    @Override
+    protected Object readArray(Object old, Schema expected, ResolvingDecoder in) throws IOException {
+
+        return switch (expected.getElementType().getType()) {
+            case DOUBLE -> readDoubleArray(in);
+            case INT -> readIntArray(in);
+            default -> super.readArray(old, expected, in);
+        };
+    }
+
+    private static DoubleArrayList readDoubleArray(ResolvingDecoder in) throws IOException {
+
+        long blockSize = in.readArrayStart();
+        DoubleArrayList array = new DoubleArrayList((int) blockSize);
+        while (blockSize > 0) {
+            for (long i = 0; i < blockSize; i++) {
+                array.addDouble(in.readDouble());
+            }
+            blockSize = in.arrayNext();
+        }
+        return array;
+    }
+
+    private static IntArrayList readIntArray(ResolvingDecoder in) throws IOException {
+
+        long blockSize = in.readArrayStart();
+        IntArrayList array = new IntArrayList((int) blockSize);
+        while (blockSize > 0) {
+            for (long i = 0; i < blockSize; i++) {
+                array.addInt(in.readInt());
+            }
+            blockSize = in.arrayNext();
+        }
+        return array;
+    }
+
+    private static SpecificData specificData() {
+
+        SpecificData specificData = new SpecificData(PrimitiveArraysDatumReader.class.getClassLoader());
+        specificData.setCustomCoders(false);
+        return specificData;
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizationStage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizerMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * Deserializer decorator recording deserialization time as {@link OptimizationStage#DESERIALIZATION} stage.
+ * @param <T> deserialized type
+ */
+public class TimedDeserializer<T> implements Deserializer<T> {
+
+    private final Deserializer<T> delegate;
+    private final OptimizerMetrics optimizerMetrics;
+
+    public TimedDeserializer(Deserializer<T> delegate, OptimizerMetrics optimizerMetrics) {
+        this.delegate = delegate;
+        this.optimizerMetrics = optimizerMetrics;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+
+        Timer.Sample sample = optimizerMetrics.start();
+        try {
+            return delegate.deserialize(topic, data);
+        }
+        finally {
+            optimizerMetrics.stop(sample, OptimizationStage.DESERIALIZATION);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+
+        Timer.Sample sample = optimizerMetrics.start();
+        try {
+            return delegate.deserialize(topic, headers, data);
+        }
+        finally {
+            optimizerMetrics.stop(sample, OptimizationStage.DESERIALIZATION);
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
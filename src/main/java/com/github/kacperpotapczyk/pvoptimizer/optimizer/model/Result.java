@@ -15,7 +15,7 @@ import java.util.List;
 /**
  * Structure containing results of given {@link Task task} obtained from {@link Optimizer optimizer}.
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class Result {
 
@@ -85,6 +85,22 @@ public class Storage {
         return new StorageBuilder(id, name, maxCharge, maxDischarge, maxCapacity);
     }
 
+    /**
+     * Returns maximal change of energy stored within single interval. Energy stored is limited by maximal capacity
+     * from above and by 0 or lowest minimal energy constraint from below.
+     * @return energy range
+     */
+    public double energyRange() {
+
+        double minEnergy = 0.0;
+        if (minEnergyConstraints != null) {
+            for (double value : minEnergyConstraints.values()) {
+                minEnergy = Math.min(minEnergy, value);
+            }
+        }
+        return maxCapacity - minEnergy;
+    }
+
     private boolean setInitialEnergy(double initialEnergy) {
 
         if (initialEnergy >= 0 && initialEnergy <= maxCapacity) {
@@ -1,35 +1,67 @@
 package com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 /**
  * Profile of storage operation modes. Special case of {@link com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile}.
+ * Modes are stored as one byte per interval, {@link #getValues() list of modes} is read only view of them.
  */
-@Getter
-@RequiredArgsConstructor
 public class StorageModeProfile {
 
+    private static final StorageMode[] MODES = StorageMode.values();
+
     /**
      * Initial interval
      */
+    @Getter
     private final int startInterval;
     /**
-     * List of consecutive operation modes.
+     * Ordinals of consecutive operation modes.
+     */
+    private final byte[] modes;
+
+    /**
+     * Profile with defined start interval.
+     * @param startInterval first interval of profile
+     * @param values consecutive operation modes
+     */
+    public StorageModeProfile(int startInterval, StorageMode[] values) {
+        this.startInterval = startInterval;
+        this.modes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            this.modes[i] = (byte) values[i].ordinal();
+        }
+    }
+
+    /**
+     * Profile with start interval equals 0.
+     * @param values consecutive operation modes
+     */
+    public StorageModeProfile(StorageMode[] values) {
+        this(0, values);
+    }
+
+    /**
+     * Profile with defined start interval.
+     * @param startInterval first interval of profile
+     * @param values list of consecutive operation modes
      */
-    private final List<StorageMode> values;
+    public StorageModeProfile(int startInterval, List<StorageMode> values) {
+        this(startInterval, values.toArray(new StorageMode[0]));
+    }
 
     /**
      * Profile with start interval equals 0.
      * @param values list of consecutive operation modes
      */
     public StorageModeProfile(List<StorageMode> values) {
-        this.startInterval = 0;
-        this.values = values;
+        this(0, values);
     }
 
     /**
@@ -38,11 +70,7 @@ public class StorageModeProfile {
      * @param constantValue constant mode
      */
     public StorageModeProfile(int length, StorageMode constantValue) {
-        this.startInterval = 0;
-        values = new ArrayList<>(length);
-        for (int i=0; i<length; i++) {
-            values.add(constantValue);
-        }
+        this(0, length, constantValue);
     }
 
     /**
@@ -53,10 +81,8 @@ public class StorageModeProfile {
      */
     public StorageModeProfile(int startInterval, int length, StorageMode constantValue) {
         this.startInterval = startInterval;
-        values = new ArrayList<>(length);
-        for (int i=0; i<length; i++) {
-            values.add(constantValue);
-        }
+        this.modes = new byte[length];
+        Arrays.fill(this.modes, (byte) constantValue.ordinal());
     }
 
     /**
@@ -64,7 +90,7 @@ public class StorageModeProfile {
      * @return profile length
      */
     public int getLength() {
-        return values.size();
+        return modes.length;
     }
 
     /**
@@ -75,6 +101,14 @@ public class StorageModeProfile {
         return this.getStartInterval() + this.getLength();
     }
 
+    /**
+     * Returns read only list view of profile modes.
+     * @return list of consecutive operation modes
+     */
+    public List<StorageMode> getValues() {
+        return new ModesView(modes);
+    }
+
     /**
      * Returns mode for internal profile index
      * @param index internal index
@@ -82,7 +116,7 @@ public class StorageModeProfile {
      */
     public Optional<StorageMode> getValueForIndex(int index) {
         if (isIndexValid(index)) {
-            return Optional.of(values.get(index));
+            return Optional.of(MODES[modes[index]]);
         }
         else {
             return Optional.empty();
@@ -99,7 +133,37 @@ public class StorageModeProfile {
         return this.getValueForIndex(index);
     }
 
+    /**
+     * Returns mode at given interval or default mode if interval does not exist in profile.
+     * @param interval optimization task interval
+     * @param defaultMode mode returned for intervals outside of profile
+     * @return mode for given interval or default mode
+     */
+    public StorageMode modeAt(int interval, StorageMode defaultMode) {
+        int index = interval - startInterval;
+        return isIndexValid(index) ? MODES[modes[index]] : defaultMode;
+    }
+
     private boolean isIndexValid(int index) {
         return index >=0 && index < this.getLength();
     }
+
+    private static class ModesView extends AbstractList<StorageMode> implements RandomAccess {
+
+        private final byte[] modes;
+
+        private ModesView(byte[] modes) {
+            this.modes = modes;
+        }
+
+        @Override
+        public StorageMode get(int index) {
+            return MODES[modes[index]];
+        }
+
+        @Override
+        public int size() {
+            return modes.length;
+        }
+    }
 }
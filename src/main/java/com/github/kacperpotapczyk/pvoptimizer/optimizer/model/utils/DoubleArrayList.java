@@ -0,0 +1,100 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Growable list of doubles backed by primitive array. Used to decode Avro double arrays without boxing,
+ * use primitive accessors like {@link #getDouble(int) getDouble} in performance critical code.
+ * {@link Profile} created from this list takes over its array instead of copying it.
+ */
+public class DoubleArrayList extends AbstractList<Double> implements RandomAccess {
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Empty list with default capacity.
+     */
+    public DoubleArrayList() {
+        this(10);
+    }
+
+    /**
+     * Empty list with given capacity.
+     * @param capacity initial capacity
+     */
+    public DoubleArrayList(int capacity) {
+        this.elements = new double[capacity];
+    }
+
+    /**
+     * Appends value to the end of list.
+     * @param value value to be added
+     */
+    public void addDouble(double value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(2 * elements.length, 10));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Returns value at given position.
+     * @param index position in list
+     * @return value at given position
+     * @throws IndexOutOfBoundsException if index is out of list range
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Returns backing array trimmed to list size. Array is shared with list, it is not copied.
+     * @return list values
+     */
+    public double[] elements() {
+        if (elements.length != size) {
+            elements = Arrays.copyOf(elements, size);
+        }
+        return elements;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+        double previous = getDouble(index);
+        elements[index] = value;
+        return previous;
+    }
+
+    @Override
+    public boolean add(Double value) {
+        addDouble(value);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of list of size: " + size);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Growable list of integers backed by primitive array. Used to decode Avro int arrays without boxing,
+ * use primitive accessors like {@link #getInt(int) getInt} in performance critical code.
+ */
+public class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Empty list with default capacity.
+     */
+    public IntArrayList() {
+        this(10);
+    }
+
+    /**
+     * Empty list with given capacity.
+     * @param capacity initial capacity
+     */
+    public IntArrayList(int capacity) {
+        this.elements = new int[capacity];
+    }
+
+    /**
+     * Appends value to the end of list.
+     * @param value value to be added
+     */
+    public void addInt(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(2 * elements.length, 10));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Returns value at given position.
+     * @param index position in list
+     * @return value at given position
+     * @throws IndexOutOfBoundsException if index is out of list range
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Returns backing array trimmed to list size. Array is shared with list, it is not copied.
+     * @return list values
+     */
+    public int[] elements() {
+        if (elements.length != size) {
+            elements = Arrays.copyOf(elements, size);
+        }
+        return elements;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        int previous = getInt(index);
+        elements[index] = value;
+        return previous;
+    }
+
+    @Override
+    public boolean add(Integer value) {
+        addInt(value);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of list of size: " + size);
+        }
+    }
+}
@@ -10,8 +10,24 @@ public enum OptimizationStatus {
      * Solution is found. To determine solution quality check results {@link Result#getRelativeGap() relative gap}.
      */
     SOLUTION_FOUND,
+    /**
+     * Intermediate solution found while optimization continues, result with final status follows.
+     * Published only when {@link com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.OptimizationContext
+     * context} of task requests intermediate results.
+     */
+    INTERMEDIATE_SOLUTION_FOUND,
     /**
      * Solution is not found. Check {@link Result#getErrorMessage() error message}.
      */
-    SOLUTION_NOT_FOUND
+    SOLUTION_NOT_FOUND,
+    /**
+     * Task was not solved, or its optimization was aborted, because newer task with the same key arrived.
+     * Result of the newer task replaces result of this one.
+     */
+    SUPERSEDED,
+    /**
+     * Task was not solved, because its predicted cost does not fit optimizer capacity.
+     * Check {@link Result#getErrorMessage() error message}.
+     */
+    REJECTED
 }
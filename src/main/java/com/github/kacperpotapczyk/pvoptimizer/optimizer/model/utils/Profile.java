@@ -1,36 +1,65 @@
 package com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 /**
  * List of consecutive values that have initial interval corresponding to {@link com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task Task}
  * or {@link com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result Result} intervals.
+ * Values are stored in primitive array, use primitive accessors like {@link #valueAt(int) valueAt} in performance
+ * critical code. {@link #getValues() List of values} is read only view of the array.
  */
-@Getter
-@RequiredArgsConstructor
 public class Profile {
 
     /**
      * Initial interval.
      */
+    @Getter
     private final int startInterval;
     /**
-     * List of consecutive values.
+     * Consecutive values.
      */
-    private final List<Double> values;
+    private final double[] values;
+
+    /**
+     * Profile with defined start interval backed by given array. Array is not copied.
+     * @param startInterval first interval of profile
+     * @param values consecutive values
+     */
+    public Profile(int startInterval, double[] values) {
+        this.startInterval = startInterval;
+        this.values = values;
+    }
+
+    /**
+     * Profile with start interval equals 0 backed by given array. Array is not copied.
+     * @param values consecutive values
+     */
+    public Profile(double[] values) {
+        this(0, values);
+    }
+
+    /**
+     * Profile with defined start interval. Values are copied, unless list is {@link DoubleArrayList}
+     * which backing array is shared with profile.
+     * @param startInterval first interval of profile
+     * @param values list of consecutive values
+     */
+    public Profile(int startInterval, List<Double> values) {
+        this(startInterval, toArray(values));
+    }
 
     /**
      * Profile with start interval equals 0.
      * @param values list of consecutive values
      */
     public Profile(List<Double> values) {
-        this.startInterval = 0;
-        this.values = values;
+        this(0, values);
     }
 
     /**
@@ -39,11 +68,7 @@ public class Profile {
      * @param constantValue constant value
      */
     public Profile(int length, Double constantValue) {
-        this.startInterval = 0;
-        values = new ArrayList<>(length);
-        for (int i=0; i<length; i++) {
-            values.add(constantValue);
-        }
+        this(0, length, constantValue);
     }
 
     /**
@@ -54,10 +79,8 @@ public class Profile {
      */
     public Profile(int startInterval, int length, Double constantValue) {
         this.startInterval = startInterval;
-        values = new ArrayList<>(length);
-        for (int i=0; i<length; i++) {
-            values.add(constantValue);
-        }
+        this.values = new double[length];
+        Arrays.fill(this.values, constantValue);
     }
 
     /**
@@ -65,7 +88,7 @@ public class Profile {
      * @return profile length
      */
     public int getLength() {
-        return values.size();
+        return values.length;
     }
 
     /**
@@ -76,6 +99,14 @@ public class Profile {
         return this.getStartInterval() + this.getLength();
     }
 
+    /**
+     * Returns read only list view of profile values. Each access to list element boxes value.
+     * @return list of consecutive values
+     */
+    public List<Double> getValues() {
+        return new ValuesView(values);
+    }
+
     /**
      * Returns profile value for internal profile index
      * @param index internal index
@@ -83,7 +114,7 @@ public class Profile {
      */
     public Optional<Double> getValueForIndex(int index) {
         if (isIndexValid(index)) {
-            return Optional.of(values.get(index));
+            return Optional.of(values[index]);
         }
         else {
             return Optional.empty();
@@ -100,7 +131,110 @@ public class Profile {
         return this.getValueForIndex(index);
     }
 
+    /**
+     * Checks if profile has value at given interval.
+     * @param interval optimization task interval
+     * @return true if interval is covered by profile
+     */
+    public boolean containsInterval(int interval) {
+        return isIndexValid(interval - startInterval);
+    }
+
+    /**
+     * Returns profile value for internal profile index.
+     * @param index internal index
+     * @return value for given index
+     * @throws IndexOutOfBoundsException if index does not exist in profile
+     */
+    public double valueAtIndex(int index) {
+        if (!isIndexValid(index)) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of profile of length: " + values.length);
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns profile value at given interval.
+     * @param interval optimization task interval
+     * @return value for given interval
+     * @throws IndexOutOfBoundsException if interval does not exist in profile
+     */
+    public double valueAt(int interval) {
+        return valueAtIndex(interval - startInterval);
+    }
+
+    /**
+     * Returns profile value at given interval or default value if interval does not exist in profile.
+     * @param interval optimization task interval
+     * @param defaultValue value returned for intervals outside of profile
+     * @return value for given interval or default value
+     */
+    public double valueAt(int interval, double defaultValue) {
+        int index = interval - startInterval;
+        return isIndexValid(index) ? values[index] : defaultValue;
+    }
+
+    /**
+     * Copies values of intervals from given range. Intervals outside of profile are filled with default value.
+     * @param fromInterval first interval of range, inclusive
+     * @param toInterval last interval of range, exclusive
+     * @param defaultValue value for intervals outside of profile
+     * @return values of intervals from range
+     */
+    public double[] slice(int fromInterval, int toInterval, double defaultValue) {
+
+        double[] slice = new double[Math.max(toInterval - fromInterval, 0)];
+        Arrays.fill(slice, defaultValue);
+        int first = Math.max(fromInterval, startInterval);
+        int last = Math.min(toInterval, getLastInterval());
+        if (first < last) {
+            System.arraycopy(values, first - startInterval, slice, first - fromInterval, last - first);
+        }
+        return slice;
+    }
+
+    /**
+     * Returns copy of profile values.
+     * @return consecutive values
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
     private boolean isIndexValid(int index) {
         return index >=0 && index < this.getLength();
     }
+
+    private static double[] toArray(List<Double> values) {
+
+        if (values instanceof DoubleArrayList doubleArrayList) {
+            return doubleArrayList.elements();
+        }
+
+        double[] array = new double[values.size()];
+        int index = 0;
+        for (double value : values) {
+            array[index++] = value;
+        }
+        return array;
+    }
+
+    private static class ValuesView extends AbstractList<Double> implements RandomAccess {
+
+        private final double[] values;
+
+        private ValuesView(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
 }
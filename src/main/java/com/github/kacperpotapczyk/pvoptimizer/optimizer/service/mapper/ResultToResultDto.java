@@ -94,6 +94,15 @@ public class ResultToResultDto implements Mapper<Result, ResultDto> {
         if (OptimizationStatus.SOLUTION_FOUND == optimizationStatus) {
             return OptimizationStatusDto.SOLUTION_FOUND;
         }
+        else if (OptimizationStatus.INTERMEDIATE_SOLUTION_FOUND == optimizationStatus) {
+            return OptimizationStatusDto.INTERMEDIATE_SOLUTION_FOUND;
+        }
+        else if (OptimizationStatus.SUPERSEDED == optimizationStatus) {
+            return OptimizationStatusDto.SUPERSEDED;
+        }
+        else if (OptimizationStatus.REJECTED == optimizationStatus) {
+            return OptimizationStatusDto.REJECTED;
+        }
         else {
             return OptimizationStatusDto.SOLUTION_NOT_FOUND;
         }
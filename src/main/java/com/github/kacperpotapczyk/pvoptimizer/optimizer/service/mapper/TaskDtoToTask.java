@@ -8,12 +8,15 @@ import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.DoubleArrayList;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.IntArrayList;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service responsible for mapping incoming TaskDto to Task used by {@link com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.Optimizer optimizer}.
@@ -76,16 +79,8 @@ public class TaskDtoToTask implements Mapper<TaskDto, Task> {
                     contractDirectionMapper(contractDto.getContractDirection())
             );
 
-            if (contractDto.getMinPower() != null) {
-                contractDto.getMinPower().forEach(
-                        (key, value) -> contractBuilder.minPowerConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
-            if (contractDto.getMaxPower() != null) {
-                contractDto.getMaxPower().forEach(
-                        (key, value) -> contractBuilder.maxPowerConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
+            mapIntervalValues(contractDto.getMinPowerValues(), contractDto.getMinPower(), contractBuilder::minPowerConstraint);
+            mapIntervalValues(contractDto.getMaxPowerValues(), contractDto.getMaxPower(), contractBuilder::maxPowerConstraint);
 
             if (contractDto.getMinEnergy() != null) {
                 contractDto.getMinEnergy().forEach(
@@ -121,38 +116,12 @@ public class TaskDtoToTask implements Mapper<TaskDto, Task> {
 
             storageBuilder.initialEnergy(storageDto.getInitialEnergy());
 
-            if (storageDto.getMinChargeConstraints() != null) {
-                storageDto.getMinChargeConstraints().forEach(
-                        (key, value) -> storageBuilder.minChargeConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
-            if (storageDto.getMaxChargeConstraints() != null) {
-                storageDto.getMaxChargeConstraints().forEach(
-                        (key, value) -> storageBuilder.maxChargeConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
-
-            if (storageDto.getMinDischargeConstraints() != null) {
-                storageDto.getMinDischargeConstraints().forEach(
-                        (key, value) -> storageBuilder.minDischargeConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
-            if (storageDto.getMaxDischargeConstraints() != null) {
-                storageDto.getMaxDischargeConstraints().forEach(
-                        (key, value) -> storageBuilder.maxDischargeConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
-
-            if (storageDto.getMinEnergyConstraints() != null) {
-                storageDto.getMinEnergyConstraints().forEach(
-                        (key, value) -> storageBuilder.minEnergyConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
-            if (storageDto.getMaxEnergyConstraints() != null) {
-                storageDto.getMaxEnergyConstraints().forEach(
-                        (key, value) -> storageBuilder.maxEnergyConstraint(Integer.parseInt(key.toString()), value)
-                );
-            }
+            mapIntervalValues(storageDto.getMinChargeValues(), storageDto.getMinChargeConstraints(), storageBuilder::minChargeConstraint);
+            mapIntervalValues(storageDto.getMaxChargeValues(), storageDto.getMaxChargeConstraints(), storageBuilder::maxChargeConstraint);
+            mapIntervalValues(storageDto.getMinDischargeValues(), storageDto.getMinDischargeConstraints(), storageBuilder::minDischargeConstraint);
+            mapIntervalValues(storageDto.getMaxDischargeValues(), storageDto.getMaxDischargeConstraints(), storageBuilder::maxDischargeConstraint);
+            mapIntervalValues(storageDto.getMinEnergyValues(), storageDto.getMinEnergyConstraints(), storageBuilder::minEnergyConstraint);
+            mapIntervalValues(storageDto.getMaxEnergyValues(), storageDto.getMaxEnergyConstraints(), storageBuilder::maxEnergyConstraint);
 
             if (storageDto.getForbiddenChargeIntervals() != null) {
                 storageBuilder.forbiddenChargeIntervals(new HashSet<>(storageDto.getForbiddenChargeIntervals()));
@@ -179,6 +148,44 @@ public class TaskDtoToTask implements Mapper<TaskDto, Task> {
         }
     }
 
+    /**
+     * Passes interval constraints to consumer. Constraints encoded as parallel arrays are preferred,
+     * map keyed by interval number is used when arrays are not present.
+     * @param intervalValuesDto constraints as parallel arrays of intervals and values, may be null
+     * @param intervalValuesMap constraints as map of interval and value pairs, may be null
+     * @param consumer consumer of interval and value pairs
+     */
+    private void mapIntervalValues(IntervalValuesDto intervalValuesDto, Map<CharSequence, Double> intervalValuesMap, IntervalValueConsumer consumer) {
+
+        if (intervalValuesDto != null) {
+            List<Integer> intervals = intervalValuesDto.getIntervals();
+            List<Double> values = intervalValuesDto.getValues();
+            if (intervals.size() != values.size()) {
+                throw new IllegalArgumentException("Number of intervals: " + intervals.size() + " differs from number of values: " + values.size());
+            }
+            if (intervals instanceof IntArrayList intArrayList && values instanceof DoubleArrayList doubleArrayList) {
+                for (int i = 0; i < intArrayList.size(); i++) {
+                    consumer.accept(intArrayList.getInt(i), doubleArrayList.getDouble(i));
+                }
+            }
+            else {
+                for (int i = 0; i < intervals.size(); i++) {
+                    consumer.accept(intervals.get(i), values.get(i));
+                }
+            }
+        }
+        else if (intervalValuesMap != null) {
+            intervalValuesMap.forEach(
+                    (key, value) -> consumer.accept(Integer.parseInt(key.toString()), value)
+            );
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntervalValueConsumer {
+        void accept(int interval, double value);
+    }
+
     private ContractDirection contractDirectionMapper(ContractDirectionDto contractDirectionDto) {
 
         if (ContractDirectionDto.PURCHASE == contractDirectionDto) {
@@ -0,0 +1,32 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stages of task processing measured by {@link OptimizerMetrics}. Result publication is measured separately
+ * by {@code pvoptimizer.kafka.publish} timer.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OptimizationStage {
+
+    DESERIALIZATION("deserialization"),
+    TASK_MAPPING("task_mapping"),
+    MODEL_COPY("model_copy"),
+    VARIABLES_ALLOCATION("variables_allocation"),
+    POWER_BALANCE("power_balance"),
+    CONTRACT_CONSTRAINTS("contract_constraints"),
+    STORAGE_CONSTRAINTS("storage_constraints"),
+    MOVABLE_DEMAND_CONSTRAINTS("movable_demand_constraints"),
+    OBJECTIVE_FUNCTION("objective_function"),
+    WARM_START("warm_start"),
+    SOLVE("solve"),
+    RESULT_EXTRACTION("result_extraction"),
+    RESULT_MAPPING("result_mapping");
+
+    /**
+     * Value of stage tag.
+     */
+    private final String tag;
+}
@@ -0,0 +1,93 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records duration of every {@link OptimizationStage stage} of task processing as {@code pvoptimizer.optimizer.stage}
+ * timer tagged by stage, and size of built models as {@code pvoptimizer.optimizer.model.size} distribution tagged by
+ * dimension and optimization outcome. Model size is recorded as distribution instead of gauge, because many tasks are
+ * solved concurrently and gauge would only show size of the last one. Lookups of result cache are counted as
+ * {@code pvoptimizer.optimizer.result.cache} counter and admissions of tasks as {@code pvoptimizer.optimizer.admission}
+ * counter, both tagged by outcome.
+ */
+@Component
+public class OptimizerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public OptimizerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stops sample and records its duration for given stage.
+     * @param sample sample started at the beginning of stage
+     * @param stage measured stage
+     */
+    public void stop(Timer.Sample sample, OptimizationStage stage) {
+
+        sample.stop(Timer.builder("pvoptimizer.optimizer.stage")
+                .description("Duration of task processing stage")
+                .tag("stage", stage.getTag())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records number of rows, columns, binary variables and non-zero coefficients of solver model.
+     * @param solver solver containing built model
+     * @param outcome optimization outcome, e.g. solution status
+     */
+    public void recordModelSize(Solver solver, String outcome) {
+
+        recordModelSize("rows", outcome, solver.getNumberOfConstraints());
+        recordModelSize("columns", outcome, solver.getNumberOfVariables());
+        recordModelSize("binaries", outcome, solver.getNumberOfBinaryVariables());
+        recordModelSize("nonzeros", outcome, solver.getNumberOfNonZeros());
+    }
+
+    /**
+     * Counts lookup of task result in result cache.
+     * @param hit if result was found
+     */
+    public void recordResultCacheLookup(boolean hit) {
+
+        Counter.builder("pvoptimizer.optimizer.result.cache")
+                .description("Lookups of task results in result cache")
+                .tag("outcome", hit ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Counts admission decision of task.
+     * @param outcome admission outcome, e.g. admitted, heavy or rejected
+     */
+    public void recordAdmission(String outcome) {
+
+        Counter.builder("pvoptimizer.optimizer.admission")
+                .description("Admission decisions of tasks")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordModelSize(String dimension, String outcome, int value) {
+
+        DistributionSummary.builder("pvoptimizer.optimizer.model.size")
+                .description("Size of optimization model")
+                .tag("dimension", dimension)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(value);
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds native memory of tasks solved at once by {@link TaskCost predicted cost} of tasks. Task is admitted when its
+ * predicted memory fits remaining budget, otherwise it waits until tasks in flight release enough of budget.
+ * Heavy tasks, which predicted solve time exceeds configured threshold, are solved in separate lane of limited size,
+ * so they do not occupy all capacity meant for regular tasks.
+ * <p>
+ * Tasks are rejected without waiting when their predicted memory exceeds whole budget or when they are heavy and heavy
+ * lane is disabled, and after waiting when budget is not released in time.
+ */
+@Slf4j
+@Component
+public class AdmissionControl {
+
+    private final long memoryBudget;
+    private final double heavyTaskSeconds;
+    private final int heavyLaneSize;
+    private final long maxWait;
+    private long memoryInFlight = 0;
+    private int heavyTasksInFlight = 0;
+
+    /**
+     * @param memoryBudget native memory of all tasks solved at once in bytes
+     * @param heavyTaskSeconds predicted solve time in seconds from which task is heavy
+     * @param heavyLaneSize maximal number of heavy tasks solved at once, heavy tasks are rejected when 0
+     * @param maxWait maximal time of waiting for admission in milliseconds
+     */
+    public AdmissionControl(
+            @Value("${optimizer.admission.memoryBudget}") long memoryBudget,
+            @Value("${optimizer.admission.heavyTaskSeconds}") double heavyTaskSeconds,
+            @Value("${optimizer.admission.heavyLaneSize}") int heavyLaneSize,
+            @Value("${optimizer.admission.maxWait}") long maxWait) {
+
+        this.memoryBudget = memoryBudget;
+        this.heavyTaskSeconds = heavyTaskSeconds;
+        this.heavyLaneSize = heavyLaneSize;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Waits until task of given cost can be solved. Admission has to be closed when task is solved.
+     * @param taskId id of task
+     * @param taskCost predicted cost of task
+     * @return admission of task, which may be rejected
+     */
+    public Admission admit(long taskId, TaskCost taskCost) {
+
+        boolean heavy = taskCost.solveSeconds() >= heavyTaskSeconds;
+        if (taskCost.nativeMemory() > memoryBudget) {
+            return Admission.rejected(String.format("Task predicted native memory %d B exceeds optimizer memory budget %d B",
+                    taskCost.nativeMemory(), memoryBudget));
+        }
+        if (heavy && heavyLaneSize <= 0) {
+            return Admission.rejected(String.format("Task predicted solve time %.1f s exceeds heavy task threshold %.1f s",
+                    taskCost.solveSeconds(), heavyTaskSeconds));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWait);
+        synchronized (this) {
+            try {
+                while (!fits(taskCost, heavy)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return Admission.rejected("Optimizer capacity was not released within " + maxWait + " ms");
+                    }
+                    log.debug("Task={} waits for admission, predicted memory={}, memory in flight={}", taskId, taskCost.nativeMemory(), memoryInFlight);
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Admission.rejected("Waiting for admission was interrupted");
+            }
+            memoryInFlight += taskCost.nativeMemory();
+            if (heavy) {
+                heavyTasksInFlight++;
+            }
+        }
+        return new Admission(this, taskCost.nativeMemory(), heavy, null);
+    }
+
+    /**
+     * Returns predicted native memory of tasks in flight.
+     * @return memory in bytes
+     */
+    public synchronized long getMemoryInFlight() {
+        return memoryInFlight;
+    }
+
+    private boolean fits(TaskCost taskCost, boolean heavy) {
+        return memoryInFlight + taskCost.nativeMemory() <= memoryBudget && (!heavy || heavyTasksInFlight < heavyLaneSize);
+    }
+
+    private synchronized void release(long nativeMemory, boolean heavy) {
+
+        memoryInFlight -= nativeMemory;
+        if (heavy) {
+            heavyTasksInFlight--;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Admission of single task, which releases its budget when closed. Rejected admission holds no budget.
+     */
+    public static final class Admission implements AutoCloseable {
+
+        private final AdmissionControl admissionControl;
+        private final long nativeMemory;
+        private final boolean heavy;
+        private final String rejectionReason;
+        private boolean closed = false;
+
+        private Admission(AdmissionControl admissionControl, long nativeMemory, boolean heavy, String rejectionReason) {
+
+            this.admissionControl = admissionControl;
+            this.nativeMemory = nativeMemory;
+            this.heavy = heavy;
+            this.rejectionReason = rejectionReason;
+        }
+
+        private static Admission rejected(String reason) {
+            return new Admission(null, 0, false, reason);
+        }
+
+        public boolean isRejected() {
+            return rejectionReason != null;
+        }
+
+        public boolean isHeavy() {
+            return heavy;
+        }
+
+        /**
+         * Returns reason of rejection.
+         * @return reason, or null if task was admitted
+         */
+        public String getRejectionReason() {
+            return rejectionReason;
+        }
+
+        /**
+         * Releases budget of admitted task. Further calls have no effect.
+         */
+        @Override
+        public void close() {
+
+            if (admissionControl != null && !closed) {
+                closed = true;
+                admissionControl.release(nativeMemory, heavy);
+            }
+        }
+    }
+}
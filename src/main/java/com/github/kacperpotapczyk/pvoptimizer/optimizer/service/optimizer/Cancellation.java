@@ -0,0 +1,46 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to stop optimization of task, which can be made from any thread. Solvers of task are registered in
+ * cancellation and aborted when it is cancelled, solvers registered after cancellation are aborted immediately.
+ * Aborting already freed solver has no effect, so solvers are never unregistered.
+ */
+public class Cancellation {
+
+    private final List<Solver> solvers = new ArrayList<>();
+    private boolean cancelled = false;
+
+    /**
+     * Cancels optimization and aborts all registered solvers.
+     */
+    public synchronized void cancel() {
+
+        cancelled = true;
+        solvers.forEach(Solver::abort);
+    }
+
+    /**
+     * Checks if optimization was cancelled.
+     * @return if cancellation was requested
+     */
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Registers solver of task, which is aborted on cancellation.
+     * @param solver solver of task
+     */
+    synchronized void register(Solver solver) {
+
+        solvers.add(solver);
+        if (cancelled) {
+            solver.abort();
+        }
+    }
+}
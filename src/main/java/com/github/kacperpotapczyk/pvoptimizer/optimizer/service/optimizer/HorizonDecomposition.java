@@ -0,0 +1,568 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemandResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageMode;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageModeProfile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits long optimization horizon into windows solved as separate tasks on shared pool of threads. Each window
+ * covers its core intervals and overlap of following intervals, which lets window anticipate what comes after its core.
+ * Results of core intervals are stitched together.
+ * <p>
+ * Windows are linked by energy stored in storages. All windows are solved at once with guessed initial energies,
+ * then windows which initial energy differs from energy at the end of previous window core are solved again, until
+ * energies converge or number of iterations is reached. Remaining differences are removed by solving windows one
+ * after another. All solves of windows share time limit of task.
+ * <p>
+ * Horizon is never cut inside range of movable demand start intervals or contract energy constraint, so each of them
+ * belongs to core of exactly one window.
+ */
+@Slf4j
+@Component
+public class HorizonDecomposition implements DisposableBean {
+
+    private final boolean enabled;
+    private final int windowLength;
+    private final int overlap;
+    private final int maxIterations;
+    private final double energyTolerance;
+    private final ExecutorService executor;
+
+    public HorizonDecomposition(
+            @Value("${optimizer.decomposition.enabled}") boolean enabled,
+            @Value("${optimizer.decomposition.windowLength}") int windowLength,
+            @Value("${optimizer.decomposition.overlap}") int overlap,
+            @Value("${optimizer.decomposition.maxIterations}") int maxIterations,
+            @Value("${optimizer.decomposition.energyTolerance}") double energyTolerance,
+            @Value("${optimizer.decomposition.threads}") int threads) {
+
+        this.enabled = enabled;
+        this.windowLength = Math.max(windowLength, 1);
+        this.overlap = Math.max(overlap, 0);
+        this.maxIterations = maxIterations;
+        this.energyTolerance = energyTolerance;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "horizon-window-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Checks if task horizon is split into more than one window.
+     * @param task optimization task
+     * @return if task is solved by decomposition
+     */
+    public boolean isDecomposed(Task task) {
+        return enabled && windows(task).size() > 1;
+    }
+
+    /**
+     * Solves task window by window. Windows are solved without lineage and intermediate results, iterations stop
+     * when context is cancelled or time limit is reached. Every window is given time remaining until time limit, and
+     * window which would have less than one second is not solved. When time limit stops iterations, results of the
+     * last solved windows are stitched, even if storage energies of neighbouring windows do not meet.
+     * @param task optimization task
+     * @param timeoutSeconds time limit of all windows in seconds, not limited when 0
+     * @param windowContext context of every window task
+     * @param windowOptimizer optimizer of single window task
+     * @return stitched result of all windows, or result of the first window which solution was not found
+     */
+    public Result solve(Task task, long timeoutSeconds, OptimizationContext windowContext, Optimizer windowOptimizer) {
+
+        long startNanos = System.nanoTime();
+        Budget budget = new Budget(timeoutSeconds > 0, startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds));
+        List<Window> windows = windows(task);
+        log.info("Task={} decomposed into {} windows", task.getId(), windows.size());
+
+        Map<Long, Double> taskInitialEnergies = new HashMap<>();
+        task.getStorages().forEach(storage -> taskInitialEnergies.put(storage.getId(), storage.getInitialEnergy()));
+        List<Map<Long, Double>> initialEnergies = new ArrayList<>(Collections.nCopies(windows.size(), taskInitialEnergies));
+        // initial energies with which current result of each window was solved
+        List<Map<Long, Double>> solvedEnergies = new ArrayList<>(Collections.nCopies(windows.size(), null));
+        Result[] results = new Result[windows.size()];
+
+        List<Integer> unsolved = new ArrayList<>();
+        for (int window = 0; window < windows.size(); window++) {
+            unsolved.add(window);
+        }
+        for (int iteration = 0; iteration <= maxIterations && !unsolved.isEmpty(); iteration++) {
+            if (iteration > 0 && (windowContext.isCancelled() || budget.isExhausted())) {
+                break;
+            }
+            solveAll(task, windows, initialEnergies, unsolved, results, solvedEnergies, budget, windowContext, windowOptimizer);
+            unsolved.clear();
+            for (int window = 1; window < windows.size(); window++) {
+                Optional<Map<Long, Double>> boundaryEnergies = boundaryEnergies(windows.get(window - 1), results[window - 1]);
+                if (boundaryEnergies.isPresent() && !isSolvedWith(boundaryEnergies.get(), solvedEnergies.get(window))) {
+                    initialEnergies.set(window, boundaryEnergies.get());
+                    unsolved.add(window);
+                }
+            }
+            log.debug("Task={} iteration={} windows with changed initial energy={}", task.getId(), iteration, unsolved.size());
+        }
+
+        // each window is solved again with energy its predecessor actually ends with
+        for (int window = 1; window < windows.size(); window++) {
+            Optional<Map<Long, Double>> boundaryEnergies = boundaryEnergies(windows.get(window - 1), results[window - 1]);
+            if (boundaryEnergies.isEmpty() || windowContext.isCancelled() || budget.isExhausted()) {
+                break;
+            }
+            if (!isSolvedWith(boundaryEnergies.get(), solvedEnergies.get(window))) {
+                Result result = windowOptimizer.solve(windowTask(task, windows.get(window), boundaryEnergies.get(), budget.windowTimeoutSeconds()), windowContext);
+                accept(window, result, boundaryEnergies.get(), results, solvedEnergies);
+            }
+        }
+
+        for (int window = 0; window < windows.size(); window++) {
+            if (results[window] == null) {
+                log.info("Time limit of task={} reached before window={} was solved", task.getId(), windows.get(window));
+                return Result.builder()
+                        .id(task.getId())
+                        .optimizationStatus(OptimizationStatus.SOLUTION_NOT_FOUND)
+                        .errorMessage("Time limit reached before all windows were solved.")
+                        .build();
+            }
+            if (results[window].getOptimizationStatus() != OptimizationStatus.SOLUTION_FOUND) {
+                log.info("Solution of task={} could not be found for window={}", task.getId(), windows.get(window));
+                return Result.builder()
+                        .id(task.getId())
+                        .optimizationStatus(OptimizationStatus.SOLUTION_NOT_FOUND)
+                        .errorMessage(results[window].getErrorMessage())
+                        .build();
+            }
+        }
+
+        Result result = stitch(task, windows, results, (System.nanoTime() - startNanos) / 1e9);
+        for (int window = 1; window < windows.size(); window++) {
+            Optional<Map<Long, Double>> boundaryEnergies = boundaryEnergies(windows.get(window - 1), results[window - 1]);
+            if (boundaryEnergies.isPresent() && !isSolvedWith(boundaryEnergies.get(), solvedEnergies.get(window))) {
+                log.warn("Storage energies of task={} windows were not reconciled before optimization stopped", task.getId());
+                return result.toBuilder()
+                        .errorMessage("Optimization stopped before storage energies of windows were reconciled.")
+                        .build();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Solves given windows at once. Window which starts after time limit is reached is not solved and keeps its
+     * previous result.
+     */
+    private void solveAll(
+            Task task,
+            List<Window> windows,
+            List<Map<Long, Double>> initialEnergies,
+            List<Integer> windowIndexes,
+            Result[] results,
+            List<Map<Long, Double>> solvedEnergies,
+            Budget budget,
+            OptimizationContext windowContext,
+            Optimizer windowOptimizer) {
+
+        List<CompletableFuture<Result>> futures = new ArrayList<>(windowIndexes.size());
+        for (int window : windowIndexes) {
+            Window solvedWindow = windows.get(window);
+            Map<Long, Double> windowInitialEnergies = initialEnergies.get(window);
+            futures.add(CompletableFuture.supplyAsync(() -> budget.isExhausted()
+                    ? null
+                    : windowOptimizer.solve(windowTask(task, solvedWindow, windowInitialEnergies, budget.windowTimeoutSeconds()), windowContext),
+                    executor));
+        }
+        for (int i = 0; i < windowIndexes.size(); i++) {
+            int window = windowIndexes.get(i);
+            Result result = futures.get(i).join();
+            if (result != null) {
+                accept(window, result, initialEnergies.get(window), results, solvedEnergies);
+            }
+        }
+    }
+
+    /**
+     * Replaces result of window, unless new result has no solution and previous one has.
+     */
+    private static void accept(int window, Result result, Map<Long, Double> initialEnergies, Result[] results, List<Map<Long, Double>> solvedEnergies) {
+
+        if (result.getOptimizationStatus() == OptimizationStatus.SOLUTION_FOUND
+                || results[window] == null
+                || results[window].getOptimizationStatus() != OptimizationStatus.SOLUTION_FOUND) {
+            results[window] = result;
+            solvedEnergies.set(window, initialEnergies);
+        }
+    }
+
+    /**
+     * Splits horizon into windows of configured length. Window core end is moved forward while it would cut range
+     * of movable demand variants or contract energy constraint.
+     */
+    List<Window> windows(Task task) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        // cutCrossings[c] > 0 when some range contains both interval c - 1 and c
+        int[] cutCrossings = new int[horizonLength + 2];
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+            if (!movableDemand.startIntervals().isEmpty()) {
+                int first = Collections.min(movableDemand.startIntervals());
+                int last = Collections.max(movableDemand.startIntervals()) + movableDemand.profile().size() - 1;
+                markRange(cutCrossings, first, last, horizonLength);
+            }
+        }
+        for (Contract contract : task.getContracts()) {
+            for (List<SumConstraint> energyConstraints : Arrays.asList(contract.getMinEnergyConstraints(), contract.getMaxEnergyConstraints())) {
+                if (energyConstraints != null) {
+                    energyConstraints.forEach(constraint -> markRange(cutCrossings, constraint.startInterval(), constraint.endInterval(), horizonLength));
+                }
+            }
+        }
+        for (int cut = 1; cut <= horizonLength; cut++) {
+            cutCrossings[cut] += cutCrossings[cut - 1];
+        }
+
+        List<Window> windows = new ArrayList<>();
+        int from = 0;
+        while (from < horizonLength) {
+            int coreEnd = from + windowLength;
+            while (coreEnd < horizonLength && cutCrossings[coreEnd] > 0) {
+                coreEnd++;
+            }
+            coreEnd = Math.min(coreEnd, horizonLength);
+            windows.add(new Window(from, coreEnd, Math.min(coreEnd + overlap, horizonLength)));
+            from = coreEnd;
+        }
+        return windows;
+    }
+
+    private static void markRange(int[] cutCrossings, int first, int last, int horizonLength) {
+
+        int firstCut = Math.max(first, 0) + 1;
+        int lastCut = Math.min(last, horizonLength - 1);
+        if (firstCut <= lastCut) {
+            cutCrossings[firstCut]++;
+            cutCrossings[lastCut + 1]--;
+        }
+    }
+
+    /**
+     * Creates task of window intervals with given storages initial energies and timeout. Interval 0 of window task is the first
+     * interval of window. Movable demands and energy constraints not contained in window are left out.
+     */
+    Task windowTask(Task task, Window window, Map<Long, Double> initialEnergies, long timeoutSeconds) {
+
+        int from = window.from();
+        int to = window.to();
+        Task.TaskBuilder taskBuilder = Task.builder()
+                .id(task.getId())
+                .timeoutSeconds(timeoutSeconds)
+                .relativeGap(task.getRelativeGap())
+                .intervals(new Profile(task.getIntervals().slice(from, to, 0.0)))
+                .production(new Production(task.getProduction().getId(), task.getProduction().getName(),
+                        new Profile(task.getProduction().getProfile().slice(from, to, 0.0))))
+                .demand(new Demand(task.getDemand().getId(), task.getDemand().getName(),
+                        new Profile(task.getDemand().getProfile().slice(from, to, 0.0))));
+
+        for (Contract contract : task.getContracts()) {
+
+            int first = Math.max(contract.getStartInterval(), from);
+            int last = Math.min(contract.getLastInterval(), to);
+            if (first >= last) {
+                continue;
+            }
+            Contract.ContractBuilder contractBuilder = new Contract.ContractBuilder(
+                    contract.getId(),
+                    contract.getName(),
+                    new Profile(first - from, contract.getUnitPrice().slice(first, last, 0.0)),
+                    contract.getContractDirection()
+            );
+            forEachInRange(contract.getMinPowerConstraints(), first, last, (interval, value) -> contractBuilder.minPowerConstraint(interval - from, value));
+            forEachInRange(contract.getMaxPowerConstraints(), first, last, (interval, value) -> contractBuilder.maxPowerConstraint(interval - from, value));
+            forEachInRange(contract.getMinEnergyConstraints(), first, last, constraint -> contractBuilder.minEnergyConstraint(shift(constraint, from)));
+            forEachInRange(contract.getMaxEnergyConstraints(), first, last, constraint -> contractBuilder.maxEnergyConstraint(shift(constraint, from)));
+            taskBuilder.contract(contractBuilder.build());
+        }
+
+        for (Storage storage : task.getStorages()) {
+
+            Storage.StorageBuilder storageBuilder = new Storage.StorageBuilder(
+                    storage.getId(),
+                    storage.getName(),
+                    storage.getMaxCharge(),
+                    storage.getMaxDischarge(),
+                    storage.getMaxCapacity()
+            );
+            // boundary energy read from solution may exceed capacity by numerical error
+            double initialEnergy = initialEnergies.getOrDefault(storage.getId(), storage.getInitialEnergy());
+            storageBuilder.initialEnergy(Math.min(Math.max(initialEnergy, 0.0), storage.getMaxCapacity()));
+            forEachInRange(storage.getMinChargeConstraints(), from, to, (interval, value) -> storageBuilder.minChargeConstraint(interval - from, value));
+            forEachInRange(storage.getMaxChargeConstraints(), from, to, (interval, value) -> storageBuilder.maxChargeConstraint(interval - from, value));
+            forEachInRange(storage.getMinDischargeConstraints(), from, to, (interval, value) -> storageBuilder.minDischargeConstraint(interval - from, value));
+            forEachInRange(storage.getMaxDischargeConstraints(), from, to, (interval, value) -> storageBuilder.maxDischargeConstraint(interval - from, value));
+            forEachInRange(storage.getMinEnergyConstraints(), from, to, (interval, value) -> storageBuilder.minEnergyConstraint(interval - from, value));
+            forEachInRange(storage.getMaxEnergyConstraints(), from, to, (interval, value) -> storageBuilder.maxEnergyConstraint(interval - from, value));
+            forEachInRange(storage.getForbiddenChargeIntervals(), from, to, interval -> storageBuilder.forbiddenChargeInterval(interval - from));
+            forEachInRange(storage.getForbiddenDischargeIntervals(), from, to, interval -> storageBuilder.forbiddenDischargeInterval(interval - from));
+            taskBuilder.storage(storageBuilder.build());
+        }
+
+        int horizonLength = task.optimizationHorizonLength();
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+
+            if (movableDemand.startIntervals().isEmpty()) {
+                continue;
+            }
+            int first = Collections.min(movableDemand.startIntervals());
+            int last = Collections.max(movableDemand.startIntervals()) + movableDemand.profile().size();
+            if (first >= from && (last <= to || to == horizonLength)) {
+                Set<Integer> startIntervals = new HashSet<>(movableDemand.startIntervals().size());
+                movableDemand.startIntervals().forEach(startInterval -> startIntervals.add(startInterval - from));
+                taskBuilder.movableDemand(new MovableDemand(movableDemand.id(), movableDemand.name(), movableDemand.profile(), startIntervals));
+            }
+        }
+        return taskBuilder.build();
+    }
+
+    private static void forEachInRange(Map<Integer, Double> values, int from, int to, IntervalValueConsumer consumer) {
+
+        if (values != null) {
+            values.forEach((interval, value) -> {
+                if (interval >= from && interval < to) {
+                    consumer.accept(interval, value);
+                }
+            });
+        }
+    }
+
+    private static void forEachInRange(Set<Integer> intervals, int from, int to, IntervalConsumer consumer) {
+
+        if (intervals != null) {
+            intervals.stream()
+                    .filter(interval -> interval >= from && interval < to)
+                    .forEach(consumer::accept);
+        }
+    }
+
+    private static void forEachInRange(List<SumConstraint> constraints, int from, int to, SumConstraintConsumer consumer) {
+
+        if (constraints != null) {
+            constraints.stream()
+                    .filter(constraint -> constraint.startInterval() >= from && constraint.endInterval() < to)
+                    .forEach(consumer::accept);
+        }
+    }
+
+    private static SumConstraint shift(SumConstraint constraint, int from) {
+        return new SumConstraint(constraint.startInterval() - from, constraint.endInterval() - from, constraint.sum());
+    }
+
+    /**
+     * Returns energy stored in storages at the last core interval of window, empty if window has no solution.
+     */
+    private Optional<Map<Long, Double>> boundaryEnergies(Window window, Result result) {
+
+        if (result.getOptimizationStatus() != OptimizationStatus.SOLUTION_FOUND) {
+            return Optional.empty();
+        }
+        Map<Long, Double> energies = new HashMap<>();
+        for (StorageResult storageResult : result.getStorageResults()) {
+            energies.put(storageResult.id(), storageResult.energy().valueAt(window.coreEnd() - 1 - window.from(), 0.0));
+        }
+        return Optional.of(energies);
+    }
+
+    /**
+     * Checks if window result was solved with initial energies equal to given boundary energies within tolerance.
+     */
+    private boolean isSolvedWith(Map<Long, Double> boundaryEnergies, Map<Long, Double> initialEnergies) {
+
+        if (initialEnergies == null) {
+            return false;
+        }
+        for (Map.Entry<Long, Double> entry : boundaryEnergies.entrySet()) {
+            if (Math.abs(entry.getValue() - initialEnergies.get(entry.getKey())) > energyTolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Joins core intervals of window results. Objective function value is recomputed from stitched contracts costs.
+     */
+    private Result stitch(Task task, List<Window> windows, Result[] results, double elapsedTime) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        Result.ResultBuilder resultBuilder = Result.builder()
+                .id(task.getId())
+                .optimizationStatus(OptimizationStatus.SOLUTION_FOUND)
+                .errorMessage("")
+                .elapsedTime(elapsedTime)
+                .relativeGap(Arrays.stream(results).mapToDouble(Result::getRelativeGap).max().orElse(0.0));
+
+        double objectiveFunctionValue = 0.0;
+        for (Contract contract : task.getContracts()) {
+
+            int first = Math.max(contract.getStartInterval(), 0);
+            int length = Math.max(Math.min(contract.getLastInterval(), horizonLength) - first, 0);
+            double[] power = new double[length];
+            double[] energy = new double[length];
+            double[] cost = new double[length];
+            for (int window = 0; window < windows.size(); window++) {
+
+                Window currentWindow = windows.get(window);
+                Optional<ContractResult> contractResult = results[window].getContractResults().stream()
+                        .filter(windowContractResult -> windowContractResult.id() == contract.getId())
+                        .findFirst();
+                if (contractResult.isEmpty()) {
+                    continue;
+                }
+                for (int interval = Math.max(currentWindow.from(), first); interval < Math.min(currentWindow.coreEnd(), first + length); interval++) {
+                    int windowInterval = interval - currentWindow.from();
+                    power[interval - first] = contractResult.get().power().valueAt(windowInterval, 0.0);
+                    energy[interval - first] = contractResult.get().energy().valueAt(windowInterval, 0.0);
+                    cost[interval - first] = contractResult.get().cost().valueAt(windowInterval, 0.0);
+                }
+            }
+            double direction = contract.getContractDirection() == ContractDirection.PURCHASE ? 1.0 : -1.0;
+            objectiveFunctionValue += direction * Arrays.stream(cost).sum();
+            resultBuilder.contractResult(new ContractResult(
+                    contract.getId(),
+                    contract.getName(),
+                    new Profile(contract.getStartInterval(), power),
+                    new Profile(contract.getStartInterval(), energy),
+                    new Profile(contract.getStartInterval(), cost)
+            ));
+        }
+        resultBuilder.objectiveFunctionValue(objectiveFunctionValue);
+
+        for (Storage storage : task.getStorages()) {
+
+            double[] charge = new double[horizonLength];
+            double[] discharge = new double[horizonLength];
+            double[] energy = new double[horizonLength];
+            StorageMode[] modes = new StorageMode[horizonLength];
+            for (int window = 0; window < windows.size(); window++) {
+
+                Window currentWindow = windows.get(window);
+                StorageResult storageResult = results[window].getStorageResults().stream()
+                        .filter(windowStorageResult -> windowStorageResult.id() == storage.getId())
+                        .findFirst()
+                        .orElseThrow();
+                for (int interval = currentWindow.from(); interval < currentWindow.coreEnd(); interval++) {
+                    int windowInterval = interval - currentWindow.from();
+                    charge[interval] = storageResult.charge().valueAt(windowInterval);
+                    discharge[interval] = storageResult.discharge().valueAt(windowInterval);
+                    energy[interval] = storageResult.energy().valueAt(windowInterval);
+                    modes[interval] = storageResult.storageMode().modeAt(windowInterval, StorageMode.DISABLED);
+                }
+            }
+            resultBuilder.storageResult(new StorageResult(
+                    storage.getId(),
+                    storage.getName(),
+                    new Profile(charge),
+                    new Profile(discharge),
+                    new Profile(energy),
+                    new StorageModeProfile(modes)
+            ));
+        }
+
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+
+            int startInterval = -1;
+            if (!movableDemand.startIntervals().isEmpty()) {
+                int first = Collections.min(movableDemand.startIntervals());
+                for (int window = 0; window < windows.size(); window++) {
+                    if (windows.get(window).containsInCore(first)) {
+                        int windowFrom = windows.get(window).from();
+                        startInterval = results[window].getMovableDemandResults().stream()
+                                .filter(movableDemandResult -> movableDemandResult.id() == movableDemand.id())
+                                .mapToInt(MovableDemandResult::startInterval)
+                                .map(windowStartInterval -> windowStartInterval >= 0 ? windowStartInterval + windowFrom : -1)
+                                .findFirst()
+                                .orElse(-1);
+                    }
+                }
+            }
+            resultBuilder.movableDemandResult(new MovableDemandResult(movableDemand.id(), movableDemand.name(), startInterval));
+        }
+        return resultBuilder.build();
+    }
+
+    /**
+     * Horizon window.
+     * @param from first interval of window
+     * @param coreEnd interval after the last core interval, results of core intervals are used
+     * @param to interval after the last window interval
+     */
+    record Window(int from, int coreEnd, int to) {
+
+        boolean containsInCore(int interval) {
+            return interval >= from && interval < coreEnd;
+        }
+    }
+
+    /**
+     * Time limit shared by all windows of task. Solver timeout is given in whole seconds and timeout of 0 means no
+     * limit, so limited budget is exhausted when less than one second remains.
+     * @param limited if time is limited
+     * @param deadlineNanos {@link System#nanoTime() time} at which limit is reached
+     */
+    private record Budget(boolean limited, long deadlineNanos) {
+
+        boolean isExhausted() {
+            return limited && windowTimeoutSeconds() < 1;
+        }
+
+        /**
+         * Returns timeout of window solved now.
+         * @return whole seconds remaining until deadline, 0 when time is not limited
+         */
+        long windowTimeoutSeconds() {
+            return limited ? Math.max(TimeUnit.NANOSECONDS.toSeconds(deadlineNanos - System.nanoTime()), 0) : 0;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntervalValueConsumer {
+        void accept(int interval, double value);
+    }
+
+    @FunctionalInterface
+    private interface IntervalConsumer {
+        void accept(int interval);
+    }
+
+    @FunctionalInterface
+    private interface SumConstraintConsumer {
+        void accept(SumConstraint constraint);
+    }
+}
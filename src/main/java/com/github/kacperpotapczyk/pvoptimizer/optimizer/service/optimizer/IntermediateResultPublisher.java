@@ -0,0 +1,81 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverProgressListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Publishes improved solutions of running optimization as intermediate results. Solution is published only when its
+ * objective function value is lower than value of previously published one, and not sooner than minimal interval after
+ * previous publication. One publisher is shared by all solvers of task, including solvers raced concurrently and
+ * solvers of consecutive storage relaxation rounds.
+ */
+@Slf4j
+class IntermediateResultPublisher {
+
+    private final Consumer<Result> consumer;
+    private final long minIntervalNanos;
+    private final long startNanos;
+    private boolean published = false;
+    private double publishedObjectiveValue;
+    private long publishedNanos;
+
+    /**
+     * @param consumer consumer of intermediate results
+     * @param minIntervalMillis minimal time between publications in milliseconds
+     */
+    IntermediateResultPublisher(Consumer<Result> consumer, long minIntervalMillis) {
+
+        this.consumer = consumer;
+        this.minIntervalNanos = minIntervalMillis * 1_000_000;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates listener publishing solutions of one model.
+     * @param resultReader reads solution of model into intermediate result
+     * @return solver progress listener
+     */
+    SolverProgressListener listener(ResultReader resultReader) {
+        return (objectiveValue, solutionValues) -> publish(objectiveValue, solutionValues, resultReader);
+    }
+
+    private synchronized void publish(double objectiveValue, double[] solutionValues, ResultReader resultReader) {
+
+        long now = System.nanoTime();
+        if (published && (objectiveValue >= publishedObjectiveValue || now - publishedNanos < minIntervalNanos)) {
+            return;
+        }
+        try {
+            Optional<Result> result = resultReader.read(objectiveValue, (now - startNanos) / 1e9, solutionValues);
+            if (result.isPresent()) {
+                consumer.accept(result.get());
+                published = true;
+                publishedObjectiveValue = objectiveValue;
+                publishedNanos = now;
+            }
+        }
+        catch (RuntimeException e) {
+            // optimization continues and its final result is published anyway
+            log.warn("Intermediate result could not be published, details={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads solution found during optimization into intermediate result.
+     */
+    @FunctionalInterface
+    interface ResultReader {
+
+        /**
+         * @param objectiveValue objective function value
+         * @param elapsedTime time elapsed since publisher was created in seconds
+         * @param solutionValues values of model variables
+         * @return intermediate result, empty if solution should not be published
+         */
+        Optional<Result> read(double objectiveValue, double elapsedTime, double[] solutionValues);
+    }
+}
@@ -0,0 +1,371 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemandResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageMode;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageModeProfile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
+
+import java.util.*;
+
+/**
+ * Merges runs of consecutive equivalent intervals of task into single intervals of summed duration. Intervals are
+ * equivalent when production, demand, contracts prices and all power constraints are the same in both of them.
+ * Merging is lossless: any solution of original task averaged over run is solution of aggregated task with the same
+ * objective function value, and solution of aggregated task with constant power over run is solution of original task.
+ * <p>
+ * Runs are not merged across storage energy constraint, start or end of contract energy constraint or contract itself,
+ * and intervals in range of movable demand variants are never merged.
+ */
+public final class IntervalAggregation {
+
+    private final Task task;
+    /**
+     * Aggregated interval of each task interval.
+     */
+    private final int[] aggregatedIntervals;
+    /**
+     * First task interval of each aggregated interval, followed by task horizon length.
+     */
+    private final int[] runStarts;
+
+    private IntervalAggregation(Task task, int[] aggregatedIntervals, int[] runStarts) {
+        this.task = task;
+        this.aggregatedIntervals = aggregatedIntervals;
+        this.runStarts = runStarts;
+    }
+
+    /**
+     * Finds runs of equivalent intervals of given task.
+     * @param task optimization task
+     * @return aggregation of task intervals
+     */
+    public static IntervalAggregation of(Task task) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        boolean[] fixed = new boolean[horizonLength];
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+            for (int startInterval : movableDemand.startIntervals()) {
+                int first = Math.max(startInterval, 0);
+                int last = Math.min(startInterval + movableDemand.profile().size(), horizonLength);
+                for (int interval = first; interval < last; interval++) {
+                    fixed[interval] = true;
+                }
+            }
+        }
+
+        int[] aggregatedIntervals = new int[horizonLength];
+        List<Integer> runStarts = new ArrayList<>();
+        for (int interval = 0; interval < horizonLength; interval++) {
+            if (interval == 0 || fixed[interval - 1] || fixed[interval] || !isEquivalent(task, interval - 1, interval)) {
+                runStarts.add(interval);
+            }
+            aggregatedIntervals[interval] = runStarts.size() - 1;
+        }
+        runStarts.add(horizonLength);
+        return new IntervalAggregation(task, aggregatedIntervals, runStarts.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Checks if any intervals were merged.
+     * @return if aggregated task is shorter than original one
+     */
+    public boolean reducesHorizon() {
+        return runStarts.length - 1 < task.optimizationHorizonLength();
+    }
+
+    /**
+     * Returns number of intervals of aggregated task.
+     * @return aggregated horizon length
+     */
+    public int aggregatedHorizonLength() {
+        return runStarts.length - 1;
+    }
+
+    /**
+     * Creates task with runs of equivalent intervals merged. Intervals after task horizon are shifted along
+     * with the last interval of horizon.
+     * @return aggregated task
+     */
+    public Task aggregatedTask() {
+
+        int aggregatedLength = aggregatedHorizonLength();
+        double[] durations = new double[aggregatedLength];
+        for (int interval = 0; interval < task.optimizationHorizonLength(); interval++) {
+            durations[aggregatedIntervals[interval]] += task.getIntervals().valueAt(interval);
+        }
+
+        Task.TaskBuilder taskBuilder = Task.builder()
+                .id(task.getId())
+                .timeoutSeconds(task.getTimeoutSeconds())
+                .relativeGap(task.getRelativeGap())
+                .intervals(new Profile(durations))
+                .production(new Production(task.getProduction().getId(), task.getProduction().getName(),
+                        new Profile(runValues(task.getProduction().getProfile(), 0, aggregatedLength))))
+                .demand(new Demand(task.getDemand().getId(), task.getDemand().getName(),
+                        new Profile(runValues(task.getDemand().getProfile(), 0, aggregatedLength))));
+
+        for (Contract contract : task.getContracts()) {
+
+            int first = aggregatedInterval(contract.getStartInterval());
+            int last = aggregatedInterval(contract.getLastInterval() - 1) + 1;
+            Contract.ContractBuilder contractBuilder = new Contract.ContractBuilder(
+                    contract.getId(),
+                    contract.getName(),
+                    new Profile(first, runValues(contract.getUnitPrice(), first, last)),
+                    contract.getContractDirection()
+            );
+            aggregated(contract.getMinPowerConstraints()).forEach(contractBuilder::minPowerConstraint);
+            aggregated(contract.getMaxPowerConstraints()).forEach(contractBuilder::maxPowerConstraint);
+            aggregated(contract.getMinEnergyConstraints()).forEach(contractBuilder::minEnergyConstraint);
+            aggregated(contract.getMaxEnergyConstraints()).forEach(contractBuilder::maxEnergyConstraint);
+            taskBuilder.contract(contractBuilder.build());
+        }
+
+        for (Storage storage : task.getStorages()) {
+
+            Storage.StorageBuilder storageBuilder = new Storage.StorageBuilder(
+                    storage.getId(),
+                    storage.getName(),
+                    storage.getMaxCharge(),
+                    storage.getMaxDischarge(),
+                    storage.getMaxCapacity()
+            );
+            storageBuilder.initialEnergy(storage.getInitialEnergy());
+            aggregated(storage.getMinChargeConstraints()).forEach(storageBuilder::minChargeConstraint);
+            aggregated(storage.getMaxChargeConstraints()).forEach(storageBuilder::maxChargeConstraint);
+            aggregated(storage.getMinDischargeConstraints()).forEach(storageBuilder::minDischargeConstraint);
+            aggregated(storage.getMaxDischargeConstraints()).forEach(storageBuilder::maxDischargeConstraint);
+            aggregated(storage.getMinEnergyConstraints()).forEach(storageBuilder::minEnergyConstraint);
+            aggregated(storage.getMaxEnergyConstraints()).forEach(storageBuilder::maxEnergyConstraint);
+            if (storage.getForbiddenChargeIntervals() != null) {
+                storage.getForbiddenChargeIntervals().forEach(interval -> storageBuilder.forbiddenChargeInterval(aggregatedInterval(interval)));
+            }
+            if (storage.getForbiddenDischargeIntervals() != null) {
+                storage.getForbiddenDischargeIntervals().forEach(interval -> storageBuilder.forbiddenDischargeInterval(aggregatedInterval(interval)));
+            }
+            taskBuilder.storage(storageBuilder.build());
+        }
+
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+
+            Set<Integer> startIntervals = new HashSet<>(movableDemand.startIntervals().size());
+            movableDemand.startIntervals().forEach(startInterval -> startIntervals.add(aggregatedInterval(startInterval)));
+            taskBuilder.movableDemand(new MovableDemand(movableDemand.id(), movableDemand.name(), movableDemand.profile(), startIntervals));
+        }
+        return taskBuilder.build();
+    }
+
+    /**
+     * Expands result of aggregated task to task intervals. Power of aggregated interval is used in all intervals
+     * of its run, energy and cost are recomputed for each interval.
+     * @param aggregatedResult result of aggregated task
+     * @return result of task
+     */
+    public Result expand(Result aggregatedResult) {
+
+        if (aggregatedResult.getOptimizationStatus() == OptimizationStatus.SOLUTION_NOT_FOUND) {
+            return aggregatedResult;
+        }
+
+        int horizonLength = task.optimizationHorizonLength();
+        Profile intervals = task.getIntervals();
+        Result.ResultBuilder resultBuilder = Result.builder()
+                .id(aggregatedResult.getId())
+                .optimizationStatus(aggregatedResult.getOptimizationStatus())
+                .objectiveFunctionValue(aggregatedResult.getObjectiveFunctionValue())
+                .relativeGap(aggregatedResult.getRelativeGap())
+                .elapsedTime(aggregatedResult.getElapsedTime())
+                .errorMessage(aggregatedResult.getErrorMessage());
+
+        Map<Long, ContractResult> contractResults = new HashMap<>();
+        aggregatedResult.getContractResults().forEach(contractResult -> contractResults.put(contractResult.id(), contractResult));
+        for (Contract contract : task.getContracts()) {
+
+            ContractResult aggregatedContractResult = contractResults.get(contract.getId());
+            int length = Math.max(Math.min(contract.getContractLength(), horizonLength - contract.getStartInterval()), 0);
+            double[] power = new double[length];
+            double[] energy = new double[length];
+            double[] cost = new double[length];
+            for (int index = 0; index < length; index++) {
+                int interval = contract.getStartInterval() + index;
+                power[index] = aggregatedContractResult.power().valueAt(aggregatedInterval(interval), 0.0);
+                energy[index] = power[index] * intervals.valueAt(interval);
+                cost[index] = contract.getUnitPrice().valueAtIndex(index) * energy[index];
+            }
+            resultBuilder.contractResult(new ContractResult(
+                    contract.getId(),
+                    contract.getName(),
+                    new Profile(contract.getStartInterval(), power),
+                    new Profile(contract.getStartInterval(), energy),
+                    new Profile(contract.getStartInterval(), cost)
+            ));
+        }
+
+        Map<Long, StorageResult> storageResults = new HashMap<>();
+        aggregatedResult.getStorageResults().forEach(storageResult -> storageResults.put(storageResult.id(), storageResult));
+        for (Storage storage : task.getStorages()) {
+
+            StorageResult aggregatedStorageResult = storageResults.get(storage.getId());
+            double[] charge = new double[horizonLength];
+            double[] discharge = new double[horizonLength];
+            double[] energy = new double[horizonLength];
+            StorageMode[] modes = new StorageMode[horizonLength];
+            double storedEnergy = storage.getInitialEnergy();
+            for (int interval = 0; interval < horizonLength; interval++) {
+                int aggregatedInterval = aggregatedIntervals[interval];
+                charge[interval] = aggregatedStorageResult.charge().valueAt(aggregatedInterval);
+                discharge[interval] = aggregatedStorageResult.discharge().valueAt(aggregatedInterval);
+                modes[interval] = aggregatedStorageResult.storageMode().modeAt(aggregatedInterval, StorageMode.DISABLED);
+                // the last interval of run takes energy of aggregated interval, which avoids accumulating rounding errors
+                storedEnergy = interval + 1 == runStarts[aggregatedInterval + 1]
+                        ? aggregatedStorageResult.energy().valueAt(aggregatedInterval)
+                        : storedEnergy + (charge[interval] - discharge[interval]) * intervals.valueAt(interval);
+                energy[interval] = storedEnergy;
+            }
+            resultBuilder.storageResult(new StorageResult(
+                    storage.getId(),
+                    storage.getName(),
+                    new Profile(charge),
+                    new Profile(discharge),
+                    new Profile(energy),
+                    new StorageModeProfile(modes)
+            ));
+        }
+
+        for (MovableDemandResult movableDemandResult : aggregatedResult.getMovableDemandResults()) {
+            int startInterval = movableDemandResult.startInterval();
+            resultBuilder.movableDemandResult(new MovableDemandResult(
+                    movableDemandResult.id(),
+                    movableDemandResult.name(),
+                    startInterval >= 0 ? taskInterval(startInterval) : startInterval
+            ));
+        }
+        return resultBuilder.build();
+    }
+
+    /**
+     * Maps task interval to aggregated interval. Intervals before and after horizon are shifted along with
+     * horizon boundaries.
+     */
+    int aggregatedInterval(int interval) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        if (interval < 0) {
+            return interval;
+        }
+        if (interval >= horizonLength) {
+            return aggregatedHorizonLength() + interval - horizonLength;
+        }
+        return aggregatedIntervals[interval];
+    }
+
+    /**
+     * Maps aggregated interval to the first task interval of its run.
+     */
+    int taskInterval(int aggregatedInterval) {
+
+        if (aggregatedInterval < 0) {
+            return aggregatedInterval;
+        }
+        if (aggregatedInterval >= aggregatedHorizonLength()) {
+            return task.optimizationHorizonLength() + aggregatedInterval - aggregatedHorizonLength();
+        }
+        return runStarts[aggregatedInterval];
+    }
+
+    /**
+     * Values of profile at the first task interval of each aggregated interval from given range.
+     */
+    private double[] runValues(Profile profile, int fromAggregatedInterval, int toAggregatedInterval) {
+
+        double[] values = new double[Math.max(toAggregatedInterval - fromAggregatedInterval, 0)];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = profile.valueAt(taskInterval(fromAggregatedInterval + index), 0.0);
+        }
+        return values;
+    }
+
+    private Map<Integer, Double> aggregated(Map<Integer, Double> constraints) {
+
+        Map<Integer, Double> aggregatedConstraints = new HashMap<>();
+        if (constraints != null) {
+            constraints.forEach((interval, value) -> aggregatedConstraints.put(aggregatedInterval(interval), value));
+        }
+        return aggregatedConstraints;
+    }
+
+    private List<SumConstraint> aggregated(List<SumConstraint> constraints) {
+
+        List<SumConstraint> aggregatedConstraints = new ArrayList<>();
+        if (constraints != null) {
+            constraints.forEach(constraint -> aggregatedConstraints.add(new SumConstraint(
+                    aggregatedInterval(constraint.startInterval()),
+                    aggregatedInterval(constraint.endInterval()),
+                    constraint.sum()
+            )));
+        }
+        return aggregatedConstraints;
+    }
+
+    private static boolean isEquivalent(Task task, int interval, int next) {
+
+        if (!sameValue(task.getProduction().getProfile(), interval, next) || !sameValue(task.getDemand().getProfile(), interval, next)) {
+            return false;
+        }
+
+        for (Contract contract : task.getContracts()) {
+            if (contract.isContractActiveAtInterval(interval) != contract.isContractActiveAtInterval(next)
+                    || !sameValue(contract.getUnitPrice(), interval, next)
+                    || !sameValue(contract.getMinPowerConstraints(), interval, next)
+                    || !sameValue(contract.getMaxPowerConstraints(), interval, next)
+                    || splitsEnergyConstraint(contract.getMinEnergyConstraints(), interval)
+                    || splitsEnergyConstraint(contract.getMaxEnergyConstraints(), interval)) {
+                return false;
+            }
+        }
+
+        for (Storage storage : task.getStorages()) {
+            if (!sameValue(storage.getMinChargeConstraints(), interval, next)
+                    || !sameValue(storage.getMaxChargeConstraints(), interval, next)
+                    || !sameValue(storage.getMinDischargeConstraints(), interval, next)
+                    || !sameValue(storage.getMaxDischargeConstraints(), interval, next)
+                    || !sameValue(storage.getForbiddenChargeIntervals(), interval, next)
+                    || !sameValue(storage.getForbiddenDischargeIntervals(), interval, next)
+                    // energy stored at the end of merged interval would no longer be a model variable
+                    || (storage.getMinEnergyConstraints() != null && storage.getMinEnergyConstraints().containsKey(interval))
+                    || (storage.getMaxEnergyConstraints() != null && storage.getMaxEnergyConstraints().containsKey(interval))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameValue(Profile profile, int interval, int next) {
+        return profile.containsInterval(interval) == profile.containsInterval(next)
+                && profile.valueAt(interval, 0.0) == profile.valueAt(next, 0.0);
+    }
+
+    private static boolean sameValue(Map<Integer, Double> constraints, int interval, int next) {
+        return constraints == null || Objects.equals(constraints.get(interval), constraints.get(next));
+    }
+
+    private static boolean sameValue(Set<Integer> intervals, int interval, int next) {
+        return intervals == null || intervals.contains(interval) == intervals.contains(next);
+    }
+
+    private static boolean splitsEnergyConstraint(List<SumConstraint> constraints, int interval) {
+        return constraints != null && constraints.stream()
+                .anyMatch(constraint -> constraint.endInterval() == interval || constraint.startInterval() == interval + 1);
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps built models, which are never solved, keyed by {@link ModelTopology model topology}. Task of known topology is
+ * solved on copy of template with replayed task data, instead of model built from scratch. Least recently used
+ * templates are evicted and freed when number of stored templates or their estimated native memory exceeds configured
+ * limit. Native memory of template is estimated from number of its rows, columns and non-zero coefficients.
+ * <p>
+ * Templates are copied outside of cache lock, so copies of different templates do not wait for each other. Template
+ * counts its copies in progress and evicted template is freed when its last copy is finished.
+ */
+@Component
+public class ModelTemplateCache implements DisposableBean {
+
+    private final Map<ModelTopology, Template> templates = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+    private final long maxMemory;
+    private final long bytesPerNonZero;
+    private long memory = 0;
+
+    /**
+     * @param maxSize maximal number of templates
+     * @param maxMemory maximal estimated native memory of all templates in bytes
+     * @param bytesPerNonZero native memory of single row, column or non-zero coefficient of model in bytes
+     */
+    public ModelTemplateCache(
+            @Value("${optimizer.modelCache.maxSize}") int maxSize,
+            @Value("${optimizer.modelCache.maxMemory}") long maxMemory,
+            @Value("${optimizer.modelCache.bytesPerNonZero}") long bytesPerNonZero) {
+
+        this.maxSize = maxSize;
+        this.maxMemory = maxMemory;
+        this.bytesPerNonZero = bytesPerNonZero;
+    }
+
+    /**
+     * Returns copy of template model of given topology. Copy has to be freed by caller.
+     * @param topology model topology
+     * @return copy of template or empty if topology is not known
+     * @throws SolverException if template can not be copied
+     */
+    public Optional<Solver> copyOf(ModelTopology topology) throws SolverException {
+
+        Template template;
+        synchronized (this) {
+            template = templates.get(topology);
+            if (template == null) {
+                return Optional.empty();
+            }
+            template.copies++;
+        }
+        try {
+            // copying the same native model from several threads at once is not documented as safe
+            synchronized (template) {
+                return Optional.of(template.solver.copy());
+            }
+        }
+        finally {
+            boolean free;
+            synchronized (this) {
+                template.copies--;
+                free = template.evicted && template.copies == 0;
+            }
+            if (free) {
+                template.solver.free();
+            }
+        }
+    }
+
+    /**
+     * Stores template model of given topology. Cache takes ownership of template, template is freed immediately
+     * if topology is already known or template alone exceeds memory limit.
+     * @param topology model topology
+     * @param template complete model
+     */
+    public void put(ModelTopology topology, Solver template) {
+
+        long nativeMemory = bytesPerNonZero
+                * ((long) template.getNumberOfConstraints() + template.getNumberOfVariables() + template.getNumberOfNonZeros());
+        List<Solver> freed = new ArrayList<>();
+        synchronized (this) {
+            if (templates.containsKey(topology) || nativeMemory > maxMemory || maxSize <= 0) {
+                freed.add(template);
+            }
+            else {
+                templates.put(topology, new Template(template, nativeMemory));
+                memory += nativeMemory;
+                Iterator<Template> leastRecentlyUsed = templates.values().iterator();
+                while (templates.size() > maxSize || memory > maxMemory) {
+                    evict(leastRecentlyUsed.next(), freed);
+                    leastRecentlyUsed.remove();
+                }
+            }
+        }
+        freed.forEach(Solver::free);
+    }
+
+    /**
+     * Returns number of stored templates.
+     * @return number of stored templates
+     */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * Returns estimated native memory of stored templates.
+     * @return memory in bytes
+     */
+    public synchronized long memory() {
+        return memory;
+    }
+
+    /**
+     * Frees all stored templates. Templates being copied are freed when their copies are finished.
+     */
+    @Override
+    public void destroy() {
+
+        List<Solver> freed = new ArrayList<>();
+        synchronized (this) {
+            templates.values().forEach(template -> evict(template, freed));
+            templates.clear();
+        }
+        freed.forEach(Solver::free);
+    }
+
+    /**
+     * Marks template as evicted and adds it to freed templates, unless it is being copied. Has to be called under cache lock.
+     */
+    private void evict(Template template, List<Solver> freed) {
+
+        memory -= template.nativeMemory;
+        template.evicted = true;
+        if (template.copies == 0) {
+            freed.add(template.solver);
+        }
+    }
+
+    private static final class Template {
+
+        private final Solver solver;
+        private final long nativeMemory;
+        private int copies = 0;
+        private boolean evicted = false;
+
+        private Template(Solver solver, long nativeMemory) {
+            this.solver = solver;
+            this.nativeMemory = nativeMemory;
+        }
+    }
+}
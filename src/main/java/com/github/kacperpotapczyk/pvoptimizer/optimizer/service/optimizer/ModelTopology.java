@@ -0,0 +1,141 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structure of optimization model built for task. Tasks of equal topology produce models with the same variables,
+ * constraints and constraint coefficients, in the same order, and differ only in right hand sides, bounds and objective
+ * function. Contracts, storages and movable demands are listed in task iteration order, as it determines order of model
+ * variables. Ids are not part of topology.
+ * @param intervals durations of task intervals
+ * @param contracts contracts topology
+ * @param storages storages topology
+ * @param movableDemands movable demands topology
+ */
+public record ModelTopology(
+        List<Double> intervals,
+        List<ContractTopology> contracts,
+        List<StorageTopology> storages,
+        List<MovableDemandTopology> movableDemands) {
+
+    /**
+     * Returns topology of model built for given task.
+     * @param task optimization task
+     * @return model topology
+     */
+    public static ModelTopology of(Task task) {
+
+        List<ContractTopology> contracts = new ArrayList<>(task.getContracts().size());
+        for (Contract contract : task.getContracts()) {
+            contracts.add(new ContractTopology(
+                    contract.getContractDirection(),
+                    contract.getStartInterval(),
+                    contract.getContractLength(),
+                    energyConstraintsRanges(contract.getMinEnergyConstraints()),
+                    energyConstraintsRanges(contract.getMaxEnergyConstraints())
+            ));
+        }
+
+        List<StorageTopology> storages = new ArrayList<>(task.getStorages().size());
+        for (Storage storage : task.getStorages()) {
+            storages.add(new StorageTopology(
+                    storage.getMaxCharge(),
+                    storage.getMaxDischarge(),
+                    storage.energyRange(),
+                    copyOf(storage.getMaxChargeConstraints()),
+                    copyOf(storage.getMaxDischargeConstraints()),
+                    copyOf(storage.getForbiddenChargeIntervals()),
+                    copyOf(storage.getForbiddenDischargeIntervals())
+            ));
+        }
+
+        List<MovableDemandTopology> movableDemands = new ArrayList<>(task.getMovableDemands().size());
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+            movableDemands.add(new MovableDemandTopology(
+                    List.copyOf(movableDemand.profile()),
+                    copyOf(movableDemand.startIntervals())
+            ));
+        }
+
+        // profile values view does not copy intervals, profile is not modified after task is created
+        return new ModelTopology(task.getIntervals().getValues(), contracts, storages, movableDemands);
+    }
+
+    private static List<Integer> energyConstraintsRanges(List<SumConstraint> energyConstraints) {
+
+        if (energyConstraints == null) {
+            return List.of();
+        }
+        List<Integer> ranges = new ArrayList<>(2 * energyConstraints.size());
+        for (SumConstraint energyConstraint : energyConstraints) {
+            ranges.add(energyConstraint.startInterval());
+            ranges.add(energyConstraint.endInterval());
+        }
+        return ranges;
+    }
+
+    private static List<Integer> copyOf(Collection<Integer> values) {
+        return values != null ? new ArrayList<>(values) : List.of();
+    }
+
+    private static Map<Integer, Double> copyOf(Map<Integer, Double> values) {
+        return values != null ? new HashMap<>(values) : Map.of();
+    }
+
+    /**
+     * Contract part of model topology.
+     * @param contractDirection purchase or sell direction, sign of contract power in power balance
+     * @param startInterval first interval of contract
+     * @param length contract length in intervals
+     * @param minEnergyRanges start and end intervals of consecutive minimal energy constraints
+     * @param maxEnergyRanges start and end intervals of consecutive maximal energy constraints
+     */
+    public record ContractTopology(
+            ContractDirection contractDirection,
+            int startInterval,
+            int length,
+            List<Integer> minEnergyRanges,
+            List<Integer> maxEnergyRanges) {
+    }
+
+    /**
+     * Storage part of model topology.
+     * @param maxCharge maximal charge power, determines storage mode constraints coefficients
+     * @param maxDischarge maximal discharge power, determines storage mode constraints coefficients
+     * @param energyRange maximal change of energy stored, determines storage mode constraints coefficients
+     * @param maxChargeConstraints maximal charge power constraints, determine storage mode constraints coefficients
+     * @param maxDischargeConstraints maximal discharge power constraints, determine storage mode constraints coefficients
+     * @param forbiddenChargeIntervals intervals with forbidden charging in iteration order
+     * @param forbiddenDischargeIntervals intervals with forbidden discharging in iteration order
+     */
+    public record StorageTopology(
+            double maxCharge,
+            double maxDischarge,
+            double energyRange,
+            Map<Integer, Double> maxChargeConstraints,
+            Map<Integer, Double> maxDischargeConstraints,
+            List<Integer> forbiddenChargeIntervals,
+            List<Integer> forbiddenDischargeIntervals) {
+    }
+
+    /**
+     * Movable demand part of model topology.
+     * @param profile demand profile, determines power balance coefficients of variant indicators
+     * @param startIntervals variants start intervals in iteration order
+     */
+    public record MovableDemandTopology(
+            List<Double> profile,
+            List<Integer> startIntervals) {
+    }
+}
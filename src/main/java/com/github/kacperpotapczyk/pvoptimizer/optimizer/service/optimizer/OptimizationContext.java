@@ -0,0 +1,51 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.function.Consumer;
+
+/**
+ * Information about origin of {@link Task task} passed to {@link Optimizer optimizer} along with task data.
+ */
+@Getter
+@Builder
+public class OptimizationContext {
+
+    /**
+     * Identifier of task lineage. Consecutive tasks of the same lineage describe the same installation with horizon
+     * shifted in time, so solution of previous task is good starting point for the next one.
+     * Tasks without lineage are solved independently.
+     */
+    private final String lineageKey;
+
+    /**
+     * Consumer of intermediate results, which are published while optimization of task continues.
+     * Intermediate results are not published when consumer is null.
+     */
+    private final Consumer<Result> intermediateResultConsumer;
+
+    /**
+     * Cancellation through which optimization of task can be stopped from other thread. Optimization can not be
+     * stopped when cancellation is null.
+     */
+    private final Cancellation cancellation;
+
+    /**
+     * Checks if optimization of task was cancelled.
+     * @return if cancellation was requested
+     */
+    public boolean isCancelled() {
+        return cancellation != null && cancellation.isCancelled();
+    }
+
+    /**
+     * Context of task solved independently of any other task.
+     * @return context without lineage
+     */
+    public static OptimizationContext empty() {
+        return OptimizationContext.builder().build();
+    }
+}
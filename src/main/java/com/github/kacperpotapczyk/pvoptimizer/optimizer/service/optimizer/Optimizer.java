@@ -13,5 +13,15 @@ public interface Optimizer {
      * @param task model data
      * @return results for given task
      */
-    Result solve(Task task);
+    default Result solve(Task task) {
+        return solve(task, OptimizationContext.empty());
+    }
+
+    /**
+     * Creates model based on received data and then solves optimization problem.
+     * @param task model data
+     * @param context information about task origin
+     * @return results for given task
+     */
+    Result solve(Task task, OptimizationContext context);
 }
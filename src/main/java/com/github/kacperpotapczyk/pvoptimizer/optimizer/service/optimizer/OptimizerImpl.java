@@ -14,20 +14,29 @@ import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageRes
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizationStage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizerMetrics;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index.ContractVariablesStartIndexes;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index.ModelVariablesIndexes;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index.MovableDemandVariablesStartIndexes;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index.StorageVariablesStartIndexes;
-import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.LpSolveSolver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.RowBuffer;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverFactory;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverProgressListener;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverSettings;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.SolutionStatus;
 import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.function.Consumer;
 
 /**
  * Service responsible for creating model based on received {@link Task task} data
@@ -37,6 +46,7 @@ import java.util.stream.IntStream;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class OptimizerImpl implements Optimizer {
 
     @Value("${optimizer.maxAllowedTimeOut}")
@@ -45,52 +55,244 @@ public class OptimizerImpl implements Optimizer {
     @Value("${optimizer.numericalZero}")
     private double numericalZero;
 
+    @Value("${optimizer.warmStart.enabled}")
+    private boolean warmStartEnabled;
+
+    /**
+     * Number of intervals by which horizon of consecutive tasks of the same lineage is shifted.
+     */
+    @Value("${optimizer.warmStart.shiftIntervals}")
+    private int warmStartShiftIntervals;
+
+    @Value("${optimizer.modelCache.enabled}")
+    private boolean modelCacheEnabled;
+
+    /**
+     * Mixed integer models are solved by portfolio of differently configured solvers racing on separate threads,
+     * if solver backend {@link SolverFactory#supportsPortfolio() supports} it.
+     */
+    @Value("${optimizer.portfolio.enabled}")
+    private boolean portfolioEnabled;
+
+    /**
+     * Storage tasks are solved without storage charge indicators first, indicators are added only for intervals
+     * in which storage is charged and discharged at once.
+     */
+    @Value("${optimizer.storageRelaxation.enabled}")
+    private boolean storageRelaxationEnabled;
+
+    /**
+     * Number of rounds adding charge indicators after which all of them are added.
+     */
+    @Value("${optimizer.storageRelaxation.maxRounds}")
+    private int storageRelaxationMaxRounds;
+
+    /**
+     * Improved solutions found during optimization are published to intermediate result consumer of task context.
+     */
+    @Value("${optimizer.intermediateResults.enabled}")
+    private boolean intermediateResultsEnabled;
+
+    /**
+     * Minimal time between consecutive intermediate results of task in milliseconds.
+     */
+    @Value("${optimizer.intermediateResults.minInterval}")
+    private long intermediateResultsMinInterval;
+
+    /**
+     * Runs of consecutive equivalent intervals are merged into single intervals before model is built.
+     */
+    @Value("${optimizer.intervalAggregation.enabled}")
+    private boolean intervalAggregationEnabled;
+
+    /**
+     * Results of solved tasks are kept and returned for tasks with the same data, without solving them again.
+     */
+    @Value("${optimizer.resultCache.enabled}")
+    private boolean resultCacheEnabled;
+
+    /**
+     * Tasks are admitted to solving by their predicted cost, which is learned from solve times of solved tasks.
+     */
+    @Value("${optimizer.admission.enabled}")
+    private boolean admissionEnabled;
+
+    private final OptimizerMetrics optimizerMetrics;
+    private final WarmStartStore warmStartStore;
+    private final ModelTemplateCache modelTemplateCache;
+    private final SolverFactory solverFactory;
+    private final SolverPortfolio solverPortfolio;
+    private final HorizonDecomposition horizonDecomposition;
+    private final ResultCache resultCache;
+    private final TaskCostEstimator taskCostEstimator;
+    private final AdmissionControl admissionControl;
+
     @Override
-    public Result solve(Task task) {
+    public Result solve(Task task, OptimizationContext context) {
 
-        Result.ResultBuilder resultBuilder = Result.builder();
-        Long taskId = task.getId();
-        resultBuilder.id(taskId);
-        log.debug("Building model for task={}", taskId);
-        try {
-            Solver solver = new LpSolveSolver();
-            if (task.getTimeoutSeconds() > maxAllowedTimeOut) {
-                solver.setTimeOut(maxAllowedTimeOut);
-                log.warn("Optimization timeout trimmed from {} to {} according to application properties", task.getTimeoutSeconds(), maxAllowedTimeOut);
-            } else {
-                solver.setTimeOut(task.getTimeoutSeconds());
+        String taskDigest = resultCacheEnabled ? TaskDigest.of(task) : null;
+        Optional<Result> cachedResult = taskDigest != null ? resultCache.get(taskDigest) : Optional.empty();
+        if (taskDigest != null) {
+            optimizerMetrics.recordResultCacheLookup(cachedResult.isPresent());
+        }
+
+        Result result;
+        if (cachedResult.isPresent()) {
+            log.info("Result of task={} found in result cache", task.getId());
+            result = cachedResult.get().toBuilder()
+                    .id(task.getId())
+                    .build();
+        }
+        else {
+            result = solveAdmitted(task, context);
+            // solution of cancelled task may be interrupted before it is optimal
+            if (taskDigest != null && result.getOptimizationStatus() == OptimizationStatus.SOLUTION_FOUND && !context.isCancelled()) {
+                resultCache.put(taskDigest, result);
             }
+        }
+        if (warmStartEnabled && context.getLineageKey() != null && result.getOptimizationStatus() == OptimizationStatus.SOLUTION_FOUND) {
+            warmStartStore.put(context.getLineageKey(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Solves task once its predicted cost fits optimizer capacity, or rejects it when it does not fit.
+     */
+    private Result solveAdmitted(Task task, OptimizationContext context) {
 
-            if (task.getRelativeGap() < numericalZero) {
-                solver.setRelativeGap(numericalZero);
-                log.warn("Optimization relative gap increased from {} to {} according to application properties", task.getRelativeGap(), numericalZero);
-            } else {
-                solver.setRelativeGap(task.getRelativeGap());
+        if (!admissionEnabled) {
+            return solveDecomposed(task, context);
+        }
+        TaskCost taskCost = taskCostEstimator.estimate(task);
+        log.debug("Task={} predicted solve time={}, native memory={}", task.getId(), taskCost.solveSeconds(), taskCost.nativeMemory());
+        try (AdmissionControl.Admission admission = admissionControl.admit(task.getId(), taskCost)) {
+            if (admission.isRejected()) {
+                optimizerMetrics.recordAdmission("rejected");
+                log.warn("Task={} rejected, details={}", task.getId(), admission.getRejectionReason());
+                return Result.builder()
+                        .id(task.getId())
+                        .optimizationStatus(OptimizationStatus.REJECTED)
+                        .errorMessage(admission.getRejectionReason())
+                        .build();
             }
+            optimizerMetrics.recordAdmission(admission.isHeavy() ? "heavy" : "admitted");
+            return solveDecomposed(task, context);
+        }
+    }
 
-            List<Integer> intervals = IntStream.iterate(0, i -> i + 1)
-                    .limit(task.optimizationHorizonLength())
-                    .boxed()
-                    .toList();
+    private Result solveDecomposed(Task task, OptimizationContext context) {
 
-            Map<Long, ContractVariablesStartIndexes> contractStartIndexes = new HashMap<>(task.getContracts().size());
-            Map<Long, StorageVariablesStartIndexes> storageStartIndexes = new HashMap<>(task.getStorages().size());
-            Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemandVariablesIndexes = new HashMap<>(task.getMovableDemands().size());
+        return horizonDecomposition.isDecomposed(task)
+                ? horizonDecomposition.solve(task, timeOut(task), OptimizationContext.builder().cancellation(context.getCancellation()).build(), this::solveAggregated)
+                : solveAggregated(task, context);
+    }
 
-            assignContractsVariables(task, solver, contractStartIndexes);
-            assignStoragesVariables(task, solver, storageStartIndexes);
-            assignMovableDemandVariables(task, solver, movableDemandVariablesIndexes);
+    /**
+     * Solves task with equivalent intervals merged, if any of them can be merged, and expands result to task intervals.
+     * Aggregated task is not warm started, as results of its lineage have different intervals.
+     */
+    private Result solveAggregated(Task task, OptimizationContext context) {
 
-            setUpPowerBalance(task, solver, intervals, contractStartIndexes, storageStartIndexes, movableDemandVariablesIndexes);
+        if (!intervalAggregationEnabled) {
+            return solveModel(task, context);
+        }
+        IntervalAggregation intervalAggregation = IntervalAggregation.of(task);
+        if (!intervalAggregation.reducesHorizon()) {
+            return solveModel(task, context);
+        }
+        log.debug("Intervals of task={} aggregated from {} to {}", task.getId(), task.optimizationHorizonLength(), intervalAggregation.aggregatedHorizonLength());
+        Consumer<Result> intermediateResultConsumer = context.getIntermediateResultConsumer();
+        OptimizationContext aggregatedContext = OptimizationContext.builder()
+                .cancellation(context.getCancellation())
+                .intermediateResultConsumer(intermediateResultConsumer != null
+                        ? aggregatedResult -> intermediateResultConsumer.accept(intervalAggregation.expand(aggregatedResult))
+                        : null)
+                .build();
+        return intervalAggregation.expand(solveModel(intervalAggregation.aggregatedTask(), aggregatedContext));
+    }
 
-            setUpContractsConstraints(task, solver, intervals, contractStartIndexes);
-            setUpStoragesConstraints(task, solver, intervals, storageStartIndexes);
-            setUpMovableDemandConstraints(task, solver, movableDemandVariablesIndexes);
+    /**
+     * Builds and solves model of whole task horizon. Rounds of storage relaxation share task timeout, each round is
+     * given time remaining after previous ones, and elapsed time of result covers all rounds.
+     */
+    private Result solveModel(Task task, OptimizationContext context) {
 
-            setUpObjectiveFunction(task, solver, intervals, contractStartIndexes);
+        Result.ResultBuilder resultBuilder = Result.builder();
+        Long taskId = task.getId();
+        resultBuilder.id(taskId);
+        log.debug("Building model for task={}", taskId);
+        Solver solver = null;
+        List<Solver> solvers = new ArrayList<>();
+        String outcome = "error";
+        try {
+            ModelTopology topology = modelCacheEnabled ? ModelTopology.of(task) : null;
+            // relaxed model has no storage charge indicators, they are added only for intervals in which solution
+            // charges and discharges storage at once
+            Map<Long, BitSet> storageIndicatorIntervals = storageRelaxationEnabled && !task.getStorages().isEmpty() ? new HashMap<>() : null;
+            IntermediateResultPublisher intermediateResultPublisher = intermediateResultsEnabled && context.getIntermediateResultConsumer() != null
+                    ? new IntermediateResultPublisher(context.getIntermediateResultConsumer(), intermediateResultsMinInterval)
+                    : null;
+            ModelVariablesIndexes modelVariablesIndexes = null;
+            SolutionStatus solutionStatus;
+            int round = 0;
+            long timeOut = timeOut(task);
+            long startNanos = System.nanoTime();
+            double previousRoundsElapsedTime = 0.0;
+            while (true) {
+                long remainingTimeOut = remainingTimeOut(timeOut, startNanos, round);
+                if (remainingTimeOut < 0) {
+                    log.info("Time limit of task={} reached before storage charge indicators were resolved", taskId);
+                    solutionStatus = SolutionStatus.TIMEOUT;
+                    break;
+                }
+                modelVariablesIndexes = prepareSolvers(task, context, topology, storageIndicatorIntervals, intermediateResultPublisher, solvers, remainingTimeOut);
+                solver = solvers.get(0);
+
+                log.info("Solving task={}", taskId);
+                Timer.Sample solveSample = optimizerMetrics.start();
+                if (solvers.size() > 1) {
+                    SolverPortfolio.Outcome portfolioOutcome = solverPortfolio.race(solvers);
+                    solver = portfolioOutcome.solver();
+                    solutionStatus = portfolioOutcome.status();
+                    log.debug("Portfolio of task={} won by settings={}", taskId, solverPortfolio.settings().get(solvers.indexOf(solver)).name());
+                }
+                else {
+                    solutionStatus = solver.solve();
+                }
+                optimizerMetrics.stop(solveSample, OptimizationStage.SOLVE);
 
-            log.info("Solving task={}", taskId);
-            SolutionStatus solutionStatus = solver.solve();
+                if (storageIndicatorIntervals == null || (solutionStatus != SolutionStatus.OPTIMAL && solutionStatus != SolutionStatus.SUBOPTIMAL)) {
+                    break;
+                }
+                Map<Long, BitSet> conflictingIntervals = conflictingStorageIntervals(task, solver.getSolutionValues(), modelVariablesIndexes.storages());
+                if (conflictingIntervals.isEmpty()) {
+                    break;
+                }
+
+                round++;
+                if (round > storageRelaxationMaxRounds) {
+                    log.debug("Relaxation of task={} not resolved in {} rounds, adding all storage charge indicators", taskId, storageRelaxationMaxRounds);
+                    storageIndicatorIntervals = null;
+                }
+                else {
+                    log.debug("Relaxed solution of task={} charges and discharges storages at once, adding charge indicators", taskId);
+                    for (Map.Entry<Long, BitSet> entry : conflictingIntervals.entrySet()) {
+                        storageIndicatorIntervals.computeIfAbsent(entry.getKey(), storageId -> new BitSet()).or(entry.getValue());
+                    }
+                }
+                previousRoundsElapsedTime += solver.getSolutionElapsedTime();
+                // only relaxed model, which structure depends on topology alone, is kept as template
+                topology = null;
+                solvers.forEach(Solver::free);
+                solvers.clear();
+                solver = null;
+            }
+            outcome = solutionStatus.name().toLowerCase();
+            if (admissionEnabled && solutionStatus == SolutionStatus.OPTIMAL) {
+                // cost is estimated for model with all charge indicators, so it is learned from time of all relaxation rounds
+                taskCostEstimator.observe(task, previousRoundsElapsedTime + solver.getSolutionElapsedTime());
+            }
 
             if (solutionStatus == SolutionStatus.OPTIMAL || solutionStatus == SolutionStatus.SUBOPTIMAL) {
                 log.info("Solution found for task={}", taskId);
@@ -101,24 +303,398 @@ public class OptimizerImpl implements Optimizer {
                         solver.getSolutionElapsedTime(),
                         solver.getSolutionRelativeGap()
                 );
-                getResult(task, solver, resultBuilder, contractStartIndexes, storageStartIndexes, movableDemandVariablesIndexes);
+                Timer.Sample extractionSample = optimizerMetrics.start();
+                getResult(task, solver, resultBuilder, modelVariablesIndexes);
+                resultBuilder.elapsedTime(previousRoundsElapsedTime + solver.getSolutionElapsedTime());
+                optimizerMetrics.stop(extractionSample, OptimizationStage.RESULT_EXTRACTION);
             }
             else {
                 log.info("Solution could not be found for task={}", taskId);
                 resultBuilder.optimizationStatus(OptimizationStatus.SOLUTION_NOT_FOUND)
                         .errorMessage("Solution could not be found.");
             }
-            solver.free();
         }
         catch (RuntimeException | SolverException exception) {
             log.error("Exception at solving task={}, details={}", taskId, exception.getMessage());
             resultBuilder.optimizationStatus(OptimizationStatus.SOLUTION_NOT_FOUND)
                     .errorMessage(exception.getMessage());
         }
-
+        finally {
+            if (solver != null) {
+                optimizerMetrics.recordModelSize(solver, outcome);
+            }
+            solvers.forEach(Solver::free);
+        }
         return resultBuilder.build();
     }
 
+    /**
+     * Builds model on copy of known template or on new solver and adds it to given solvers, together with
+     * copies raced in portfolio. All solvers are warm started and report improved solutions to publisher, if present.
+     * @return start indexes of model variables
+     */
+    private ModelVariablesIndexes prepareSolvers(
+            Task task,
+            OptimizationContext context,
+            ModelTopology topology,
+            Map<Long, BitSet> storageIndicatorIntervals,
+            IntermediateResultPublisher intermediateResultPublisher,
+            List<Solver> solvers,
+            long timeOut) throws SolverException {
+
+        Solver solver;
+        Optional<Solver> templateCopy = copyTemplate(topology);
+        if (templateCopy.isPresent()) {
+            log.debug("Replaying data of task={} on model template", task.getId());
+            solver = templateCopy.get();
+            solvers.add(solver);
+            solver.beginDataReplay();
+        }
+        else {
+            solver = solverFactory.create();
+            solvers.add(solver);
+        }
+        configureSolver(task, solver, timeOut);
+        ModelVariablesIndexes modelVariablesIndexes = buildModel(task, solver, storageIndicatorIntervals);
+        if (topology != null && templateCopy.isEmpty()) {
+            modelTemplateCache.put(topology, solver.copy());
+        }
+        if (portfolioEnabled && solverFactory.supportsPortfolio() && solver.getNumberOfBinaryVariables() > 0) {
+            addPortfolioSolvers(solvers);
+        }
+        if (context.getCancellation() != null) {
+            solvers.forEach(context.getCancellation()::register);
+        }
+        warmStart(task, context, solvers, modelVariablesIndexes);
+        if (intermediateResultPublisher != null) {
+            SolverProgressListener listener = intermediateResultPublisher.listener((objectiveValue, elapsedTime, solutionValues) ->
+                    intermediateResult(task, objectiveValue, elapsedTime, solutionValues, modelVariablesIndexes));
+            for (Solver preparedSolver : solvers) {
+                preparedSolver.setProgressListener(listener);
+            }
+        }
+        return modelVariablesIndexes;
+    }
+
+    /**
+     * Reads improved solution found during optimization into intermediate result. Relative gap of intermediate
+     * solution is not known. Solution of relaxed storage model, which charges and discharges storage at once,
+     * is skipped as it is not valid.
+     */
+    private Optional<Result> intermediateResult(
+            Task task,
+            double objectiveValue,
+            double elapsedTime,
+            double[] variableValues,
+            ModelVariablesIndexes modelVariablesIndexes) {
+
+        if (!conflictingStorageIntervals(task, variableValues, modelVariablesIndexes.storages()).isEmpty()) {
+            return Optional.empty();
+        }
+        Result.ResultBuilder resultBuilder = Result.builder()
+                .id(task.getId())
+                .optimizationStatus(OptimizationStatus.INTERMEDIATE_SOLUTION_FOUND)
+                .errorMessage("")
+                .relativeGap(Double.NaN)
+                .elapsedTime(elapsedTime)
+                .objectiveFunctionValue(objectiveValue);
+
+        getContractsResults(task, resultBuilder, modelVariablesIndexes.contracts(), variableValues);
+        getStoragesResults(task, resultBuilder, modelVariablesIndexes.storages(), variableValues);
+        getMovableDemandResults(task, resultBuilder, modelVariablesIndexes.movableDemands(), variableValues);
+        return Optional.of(resultBuilder.build());
+    }
+
+    /**
+     * Finds storage intervals without charge indicator in which solution both charges and discharges storage.
+     * @return conflicting intervals keyed by storage id, storages without conflicts are left out
+     */
+    private Map<Long, BitSet> conflictingStorageIntervals(
+            Task task,
+            double[] variableValues,
+            Map<Long, StorageVariablesStartIndexes> storageStartIndexes) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        Map<Long, BitSet> conflictingIntervals = new HashMap<>();
+        for (Storage storage : task.getStorages()) {
+
+            StorageVariablesStartIndexes storageIndexes = storageStartIndexes.get(storage.getId());
+            for (int interval = 0; interval < horizonLength; interval++) {
+                if (!storageIndexes.hasChargeIndicator(interval)
+                        && variableValues[storageIndexes.charge() + interval] > numericalZero
+                        && variableValues[storageIndexes.discharge() + interval] > numericalZero) {
+                    conflictingIntervals.computeIfAbsent(storage.getId(), storageId -> new BitSet(horizonLength)).set(interval);
+                }
+            }
+        }
+        return conflictingIntervals;
+    }
+
+    /**
+     * Copies template model of given topology if it is known.
+     */
+    private Optional<Solver> copyTemplate(ModelTopology topology) throws SolverException {
+
+        if (topology == null) {
+            return Optional.empty();
+        }
+        Timer.Sample sample = optimizerMetrics.start();
+        Optional<Solver> templateCopy = modelTemplateCache.copyOf(topology);
+        optimizerMetrics.stop(sample, OptimizationStage.MODEL_COPY);
+        return templateCopy;
+    }
+
+    /**
+     * Adds copies of built model, one for each raced portfolio settings except the first one, which is applied to built model.
+     */
+    private void addPortfolioSolvers(List<Solver> solvers) throws SolverException {
+
+        Solver solver = solvers.get(0);
+        List<SolverSettings> settings = solverPortfolio.settings();
+        solver.applySettings(settings.get(0));
+        for (SolverSettings copySettings : settings.subList(1, settings.size())) {
+            Solver copy = solver.copy();
+            solvers.add(copy);
+            copy.applySettings(copySettings);
+        }
+    }
+
+    /**
+     * Uses result of previous task of the same lineage, shifted by configured number of intervals,
+     * as initial solution of the models.
+     */
+    private void warmStart(Task task, OptimizationContext context, List<Solver> solvers, ModelVariablesIndexes modelVariablesIndexes) throws SolverException {
+
+        if (!warmStartEnabled || context.getLineageKey() == null) {
+            return;
+        }
+        Optional<Result> previousResult = warmStartStore.get(context.getLineageKey());
+        if (previousResult.isEmpty()) {
+            return;
+        }
+
+        log.debug("Warm starting task={} from result of task={}", task.getId(), previousResult.get().getId());
+        Timer.Sample sample = optimizerMetrics.start();
+        RowBuffer initialSolution = initialSolution(task, previousResult.get(), warmStartShiftIntervals, modelVariablesIndexes);
+        for (Solver solver : solvers) {
+            solver.setInitialSolution(initialSolution);
+        }
+        optimizerMetrics.stop(sample, OptimizationStage.WARM_START);
+    }
+
+    /**
+     * Maps result of previous task onto variables of current model. Value of interval in current task is taken from
+     * interval later by shift in previous result. Variables without corresponding previous value are left out.
+     */
+    RowBuffer initialSolution(Task task, Result previousResult, int shift, ModelVariablesIndexes modelVariablesIndexes) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        RowBuffer values = new RowBuffer(horizonLength * (task.getContracts().size() + 4 * task.getStorages().size() + 1));
+
+        Map<Long, ContractResult> contractResults = previousResult.getContractResults().stream()
+                .collect(Collectors.toMap(ContractResult::id, contractResult -> contractResult));
+        for (Contract contract : task.getContracts()) {
+
+            ContractResult contractResult = contractResults.get(contract.getId());
+            if (contractResult == null) {
+                continue;
+            }
+            ContractVariablesStartIndexes contractIndexes = modelVariablesIndexes.contracts().get(contract.getId());
+            for (int index = 0; index < contractIndexes.length(); index++) {
+                addShiftedValue(values, contractIndexes.power() + index, contractResult.power(), contract.getStartInterval() + index + shift);
+            }
+        }
+
+        Map<Long, StorageResult> storageResults = previousResult.getStorageResults().stream()
+                .collect(Collectors.toMap(StorageResult::id, storageResult -> storageResult));
+        for (Storage storage : task.getStorages()) {
+
+            StorageResult storageResult = storageResults.get(storage.getId());
+            if (storageResult == null) {
+                continue;
+            }
+            StorageVariablesStartIndexes storageIndexes = modelVariablesIndexes.storages().get(storage.getId());
+            for (int interval = 0; interval < horizonLength; interval++) {
+
+                int previousInterval = interval + shift;
+                addShiftedValue(values, storageIndexes.charge() + interval, storageResult.charge(), previousInterval);
+                addShiftedValue(values, storageIndexes.discharge() + interval, storageResult.discharge(), previousInterval);
+                addShiftedValue(values, storageIndexes.energy() + interval, storageResult.energy(), previousInterval);
+                if (storageIndexes.hasChargeIndicator(interval)
+                        && storageResult.storageMode().modeAt(previousInterval, StorageMode.DISABLED) == StorageMode.CHARGING) {
+                    values.add(storageIndexes.chargeIndicators()[interval], 1.0);
+                }
+            }
+        }
+
+        Map<Long, MovableDemandResult> movableDemandResults = previousResult.getMovableDemandResults().stream()
+                .collect(Collectors.toMap(MovableDemandResult::id, movableDemandResult -> movableDemandResult));
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+
+            MovableDemandResult movableDemandResult = movableDemandResults.get(movableDemand.id());
+            if (movableDemandResult == null) {
+                continue;
+            }
+            int startInterval = movableDemandResult.startInterval() - shift;
+            for (MovableDemandVariablesStartIndexes data : modelVariablesIndexes.movableDemands().get(movableDemand.id())) {
+                if (data.startInterval() == startInterval) {
+                    values.add(data.variantIndicator(), 1.0);
+                }
+            }
+        }
+        return values;
+    }
+
+    private void addShiftedValue(RowBuffer values, int variableIndex, Profile previousProfile, int previousInterval) {
+
+        if (previousProfile.containsInterval(previousInterval)) {
+            values.add(variableIndex, previousProfile.valueAt(previousInterval));
+        }
+    }
+
+    /**
+     * Returns timeout of task trimmed to maximal allowed timeout from application properties. Has to be called once
+     * per task, as trimming is logged.
+     */
+    long timeOut(Task task) {
+
+        if (task.getTimeoutSeconds() > maxAllowedTimeOut) {
+            log.warn("Optimization timeout trimmed from {} to {} according to application properties", task.getTimeoutSeconds(), maxAllowedTimeOut);
+            return maxAllowedTimeOut;
+        }
+        return task.getTimeoutSeconds();
+    }
+
+    /**
+     * Returns whole seconds of task timeout remaining for relaxation round. The first round gets whole timeout.
+     * Solver timeout of 0 means no limit, so -1 is returned when less than one second remains.
+     */
+    private static long remainingTimeOut(long timeOut, long startNanos, int round) {
+
+        if (timeOut <= 0 || round == 0) {
+            return timeOut;
+        }
+        long remaining = timeOut - TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos) - 1;
+        return remaining >= 1 ? remaining : -1;
+    }
+
+    /**
+     * Applies timeout and task relative gap to solver, relative gap trimmed to limit from application properties.
+     * @param timeOut timeout in seconds, already trimmed by {@link #timeOut(Task)}
+     */
+    void configureSolver(Task task, Solver solver, long timeOut) {
+
+        solver.setTimeOut(timeOut);
+
+        if (task.getRelativeGap() < numericalZero) {
+            solver.setRelativeGap(numericalZero);
+            log.warn("Optimization relative gap increased from {} to {} according to application properties", task.getRelativeGap(), numericalZero);
+        } else {
+            solver.setRelativeGap(task.getRelativeGap());
+        }
+    }
+
+    /**
+     * Adds task variables, constraints and objective function to empty solver model. When solver replays data on copy
+     * of template model, the same calls overwrite only right hand sides, bounds and objective function of template.
+     * @return start indexes of created variables
+     */
+    ModelVariablesIndexes buildModel(Task task, Solver solver) throws SolverException {
+        return buildModel(task, solver, null);
+    }
+
+    /**
+     * Builds model with storage charge indicators limited to given intervals.
+     * @param storageIndicatorIntervals intervals with charge indicator keyed by storage id, storages not present have
+     *                                  no indicators, null means indicators for all intervals of all storages
+     * @return start indexes of created variables
+     */
+    ModelVariablesIndexes buildModel(Task task, Solver solver, Map<Long, BitSet> storageIndicatorIntervals) throws SolverException {
+
+        int horizonLength = task.optimizationHorizonLength();
+
+        Map<Long, ContractVariablesStartIndexes> contractStartIndexes = new HashMap<>(task.getContracts().size());
+        Map<Long, StorageVariablesStartIndexes> storageStartIndexes = new HashMap<>(task.getStorages().size());
+        Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemandVariablesIndexes = new HashMap<>(task.getMovableDemands().size());
+
+        Timer.Sample sample = optimizerMetrics.start();
+        solver.reserve(numberOfVariables(task, storageIndicatorIntervals), numberOfConstraints(task, storageIndicatorIntervals));
+        assignContractsVariables(task, solver, contractStartIndexes);
+        assignStoragesVariables(task, solver, storageIndicatorIntervals, storageStartIndexes);
+        assignMovableDemandVariables(task, solver, movableDemandVariablesIndexes);
+        optimizerMetrics.stop(sample, OptimizationStage.VARIABLES_ALLOCATION);
+
+        solver.beginModelBuilding();
+
+        sample = optimizerMetrics.start();
+        setUpPowerBalance(task, solver, horizonLength, contractStartIndexes, storageStartIndexes, movableDemandVariablesIndexes);
+        optimizerMetrics.stop(sample, OptimizationStage.POWER_BALANCE);
+
+        sample = optimizerMetrics.start();
+        setUpContractsConstraints(task, solver, horizonLength, contractStartIndexes);
+        optimizerMetrics.stop(sample, OptimizationStage.CONTRACT_CONSTRAINTS);
+
+        sample = optimizerMetrics.start();
+        setUpStoragesConstraints(task, solver, horizonLength, storageStartIndexes);
+        optimizerMetrics.stop(sample, OptimizationStage.STORAGE_CONSTRAINTS);
+
+        sample = optimizerMetrics.start();
+        setUpMovableDemandConstraints(task, solver, movableDemandVariablesIndexes);
+        optimizerMetrics.stop(sample, OptimizationStage.MOVABLE_DEMAND_CONSTRAINTS);
+
+        // objective function and bounds buffered during model building are applied when it ends
+        sample = optimizerMetrics.start();
+        setUpObjectiveFunction(task, solver, horizonLength, contractStartIndexes);
+        solver.endModelBuilding();
+        optimizerMetrics.stop(sample, OptimizationStage.OBJECTIVE_FUNCTION);
+
+        return new ModelVariablesIndexes(contractStartIndexes, storageStartIndexes, movableDemandVariablesIndexes);
+    }
+
+    private int numberOfVariables(Task task, Map<Long, BitSet> storageIndicatorIntervals) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        int numberOfVariables = 0;
+
+        for (Contract contract : task.getContracts()) {
+            numberOfVariables += Math.max(Math.min(contract.getContractLength(), horizonLength - contract.getStartInterval()), 0);
+        }
+        for (Storage storage : task.getStorages()) {
+            numberOfVariables += 3 * horizonLength + numberOfChargeIndicators(storage, horizonLength, storageIndicatorIntervals);
+        }
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+            numberOfVariables += movableDemand.startIntervals().size();
+        }
+        return numberOfVariables;
+    }
+
+    private int numberOfConstraints(Task task, Map<Long, BitSet> storageIndicatorIntervals) {
+
+        int horizonLength = task.optimizationHorizonLength();
+        int numberOfConstraints = horizonLength;
+
+        for (Contract contract : task.getContracts()) {
+            numberOfConstraints += contract.getMinEnergyConstraints() != null ? contract.getMinEnergyConstraints().size() : 0;
+            numberOfConstraints += contract.getMaxEnergyConstraints() != null ? contract.getMaxEnergyConstraints().size() : 0;
+        }
+        for (Storage storage : task.getStorages()) {
+            numberOfConstraints += horizonLength + 2 * numberOfChargeIndicators(storage, horizonLength, storageIndicatorIntervals);
+            numberOfConstraints += storage.getForbiddenChargeIntervals() != null ? storage.getForbiddenChargeIntervals().size() : 0;
+            numberOfConstraints += storage.getForbiddenDischargeIntervals() != null ? storage.getForbiddenDischargeIntervals().size() : 0;
+        }
+        numberOfConstraints += task.getMovableDemands().size();
+        return numberOfConstraints;
+    }
+
+    private int numberOfChargeIndicators(Storage storage, int length, Map<Long, BitSet> storageIndicatorIntervals) {
+
+        if (storageIndicatorIntervals == null) {
+            return length;
+        }
+        BitSet intervals = storageIndicatorIntervals.get(storage.getId());
+        return intervals != null ? intervals.get(0, length).cardinality() : 0;
+    }
+
     private void assignContractsVariables(
             Task task,
             Solver solver,
@@ -140,23 +716,44 @@ public class OptimizerImpl implements Optimizer {
     private void assignStoragesVariables(
             Task task,
             Solver solver,
+            Map<Long, BitSet> storageIndicatorIntervals,
             Map<Long, StorageVariablesStartIndexes> storageStartIndex) throws SolverException {
 
         int taskLength = task.getIntervals().getLength();
 
         for (Storage storage : task.getStorages()) {
+
+            int chargeStartIndex = solver.addVariables(taskLength);
+            int dischargeStartIndex = solver.addVariables(taskLength);
+
+            int[] chargeIndicators = new int[taskLength];
+            int numberOfChargeIndicators = numberOfChargeIndicators(storage, taskLength, storageIndicatorIntervals);
+            if (numberOfChargeIndicators > 0) {
+                int chargeIndicator = solver.addBinaryVariables(numberOfChargeIndicators);
+                BitSet intervals = storageIndicatorIntervals != null ? storageIndicatorIntervals.get(storage.getId()) : null;
+                for (int interval = 0; interval < taskLength; interval++) {
+                    if (intervals == null || intervals.get(interval)) {
+                        chargeIndicators[interval] = chargeIndicator++;
+                    }
+                }
+            }
+
             storageStartIndex.put(
                     storage.getId(),
                     new StorageVariablesStartIndexes(
+                            chargeStartIndex,
+                            dischargeStartIndex,
                             solver.addVariables(taskLength),
-                            solver.addVariables(taskLength),
-                            solver.addBinaryVariables(taskLength),
-                            solver.addVariables(taskLength)
+                            chargeIndicators
                     )
             );
         }
     }
 
+    /**
+     * Assigns one binary indicator per movable demand variant. Variant power is not modeled with separate variables,
+     * indicator enters power balance of each interval covered by variant with profile value as coefficient.
+     */
     private void assignMovableDemandVariables(
             Task task,
             Solver solver,
@@ -169,23 +766,18 @@ public class OptimizerImpl implements Optimizer {
             int demandLength = movableDemand.profile().size();
             Set<Integer> movableDemandStartIntervals = movableDemand.startIntervals();
 
-            Map<Integer, Integer> variantLength = new HashMap<>(movableDemandStartIntervals.size());
             Set<MovableDemandVariablesStartIndexes> movableDemandVariantVariablesStartIndexes = new HashSet<>(movableDemandStartIntervals.size());
 
             for (int startInterval : movableDemandStartIntervals) {
 
                 // check if variant exceeds optimization horizon intervals
                 int adjustedLength = Math.min(demandLength, optimizationHorizonLength - startInterval);
-                variantLength.put(startInterval, adjustedLength);
-
-                int firstVariable = solver.addVariables(adjustedLength);
 
                 movableDemandVariantVariablesStartIndexes.add(
                         new MovableDemandVariablesStartIndexes(
                                 startInterval,
                                 solver.addBinaryVariables(1),
-                                firstVariable,
-                                variantLength.get(startInterval)
+                                adjustedLength
                         )
                 );
             }
@@ -197,129 +789,170 @@ public class OptimizerImpl implements Optimizer {
         }
     }
 
+    /**
+     * Builds power balance row for every interval. Each contract, storage and movable demand variant is swept once
+     * over intervals it covers and its coefficients are scattered into rows, so build cost is proportional to number
+     * of non-zero coefficients. First sweep counts row lengths, second one fills rows laid out in one array.
+     */
     private void setUpPowerBalance(
             Task task,
             Solver solver,
-            List<Integer> intervals,
+            int horizonLength,
             Map<Long, ContractVariablesStartIndexes> contractStartIndexes,
             Map<Long, StorageVariablesStartIndexes> storageStartIndexes,
             Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemandVariablesIndexes) throws SolverException {
 
-        List<Double> powerBalance = new ArrayList<>(task.optimizationHorizonLength());
-        intervals.forEach(interval ->
-                powerBalance.add(
-                        -1.0 * task.getProduction().getProfile().getValueForInterval(interval).orElse(0.0)
-                                + task.getDemand().getProfile().getValueForInterval(interval).orElse(0.0)
-                ));
-
-        Profile rhs = new Profile(powerBalance);
-
-        for (int interval : intervals) {
-
-            Map<Integer, Double> contractBalanceWeights = task.getContracts().stream()
-                    .filter(contract -> contract.isContractActiveAtInterval(interval))
-                    .collect(Collectors.toMap(
-                            contract -> contractStartIndexes.get(contract.getId()).power() + interval - contract.getStartInterval(),
-                            contract -> contract.getContractDirection() == ContractDirection.PURCHASE ? 1.0 : -1.0
-                    ));
-            Map<Integer, Double> balanceWeights = new HashMap<>(contractBalanceWeights);
-
-            Map<Integer, Double> storageChargeBalanceWeights = task.getStorages().stream()
-                    .collect(Collectors.toMap(
-                            storage -> storageStartIndexes.get(storage.getId()).charge() + interval,
-                            value -> -1.0
-                    ));
-            balanceWeights.putAll(storageChargeBalanceWeights);
-
-            Map<Integer, Double> storageDischargeBalanceWeights = task.getStorages().stream()
-                    .collect(Collectors.toMap(
-                            storage -> storageStartIndexes.get(storage.getId()).discharge() + interval,
-                            value -> 1.0
-                    ));
-            balanceWeights.putAll(storageDischargeBalanceWeights);
-
-            for (MovableDemand movableDemand : task.getMovableDemands()) {
-
-                Set<MovableDemandVariablesStartIndexes> movableDemandVariablesStartData = movableDemandVariablesIndexes.get(movableDemand.id());
-
-                Map<Integer, Double> movableDemandWeights = new HashMap<>();
-                for (MovableDemandVariablesStartIndexes data : movableDemandVariablesStartData) {
-
-                    int startInterval = data.startInterval();
-                    if (interval >= startInterval && interval < startInterval + data.length()) {
-                        movableDemandWeights.put(
-                                data.power() + interval - startInterval,
-                                -1.0
-                        );
-                    }
-                    balanceWeights.putAll(movableDemandWeights);
+        int[] rowStart = new int[horizonLength + 1];
+        sweepPowerBalance(task, horizonLength, contractStartIndexes, storageStartIndexes, movableDemandVariablesIndexes,
+                (interval, index, value) -> rowStart[interval + 1]++);
+
+        int maxRowLength = 0;
+        for (int interval = 0; interval < horizonLength; interval++) {
+            maxRowLength = Math.max(maxRowLength, rowStart[interval + 1]);
+            rowStart[interval + 1] += rowStart[interval];
+        }
+
+        int[] indexes = new int[rowStart[horizonLength]];
+        double[] values = new double[rowStart[horizonLength]];
+        int[] rowEnd = Arrays.copyOf(rowStart, horizonLength);
+        sweepPowerBalance(task, horizonLength, contractStartIndexes, storageStartIndexes, movableDemandVariablesIndexes,
+                (interval, index, value) -> {
+                    int position = rowEnd[interval]++;
+                    indexes[position] = index;
+                    values[position] = value;
+                });
+
+        double[] rhs = new double[horizonLength];
+        addProfile(rhs, task.getProduction().getProfile(), -1.0);
+        addProfile(rhs, task.getDemand().getProfile(), 1.0);
+
+        RowBuffer balanceWeights = new RowBuffer(maxRowLength);
+        for (int interval = 0; interval < horizonLength; interval++) {
+
+            balanceWeights.clear();
+            for (int position = rowStart[interval]; position < rowStart[interval + 1]; position++) {
+                balanceWeights.add(indexes[position], values[position]);
+            }
+            solver.addEqWeightedSumConstraint(balanceWeights, rhs[interval]);
+        }
+    }
+
+    private void sweepPowerBalance(
+            Task task,
+            int horizonLength,
+            Map<Long, ContractVariablesStartIndexes> contractStartIndexes,
+            Map<Long, StorageVariablesStartIndexes> storageStartIndexes,
+            Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemandVariablesIndexes,
+            BalanceCoefficientConsumer consumer) {
+
+        for (Contract contract : task.getContracts()) {
+
+            int powerStartIndex = contractStartIndexes.get(contract.getId()).power();
+            double direction = contract.getContractDirection() == ContractDirection.PURCHASE ? 1.0 : -1.0;
+            int firstInterval = Math.max(contract.getStartInterval(), 0);
+            int lastInterval = Math.min(contract.getLastInterval(), horizonLength);
+
+            for (int interval = firstInterval; interval < lastInterval; interval++) {
+                consumer.accept(interval, powerStartIndex + interval - contract.getStartInterval(), direction);
+            }
+        }
+
+        for (Storage storage : task.getStorages()) {
+
+            StorageVariablesStartIndexes storageIndexes = storageStartIndexes.get(storage.getId());
+            for (int interval = 0; interval < horizonLength; interval++) {
+                consumer.accept(interval, storageIndexes.charge() + interval, -1.0);
+                consumer.accept(interval, storageIndexes.discharge() + interval, 1.0);
+            }
+        }
+
+        for (MovableDemand movableDemand : task.getMovableDemands()) {
+            List<Double> profile = movableDemand.profile();
+            for (MovableDemandVariablesStartIndexes data : movableDemandVariablesIndexes.get(movableDemand.id())) {
+                for (int index = 0; index < data.length(); index++) {
+                    consumer.accept(data.startInterval() + index, data.variantIndicator(), -1.0 * profile.get(index));
                 }
             }
-            solver.addEqWeightedSumConstraint(balanceWeights, rhs.getValueForInterval(interval).orElseThrow());
+        }
+    }
+
+    /**
+     * Adds profile values multiplied by factor to array indexed by interval, values outside array are skipped.
+     */
+    private void addProfile(double[] target, Profile profile, double factor) {
+
+        int startInterval = profile.getStartInterval();
+        int first = Math.max(-startInterval, 0);
+        int last = Math.min(profile.getLength(), target.length - startInterval);
+
+        for (int index = first; index < last; index++) {
+            target[startInterval + index] += factor * profile.valueAtIndex(index);
         }
     }
 
     private void setUpContractsConstraints(
             Task task,
             Solver solver,
-            List<Integer> intervals,
+            int horizonLength,
             Map<Long, ContractVariablesStartIndexes> contractStartIndexes) throws SolverException {
 
-        Profile taskIntervals = task.getIntervals();
+        Profile intervalsDuration = task.getIntervals();
+        RowBuffer row = new RowBuffer();
 
         for (Contract contract : task.getContracts()) {
 
             int powerStartIndex = contractStartIndexes.get(contract.getId()).power();
 
-            setUpContractPowerConstraints(solver, intervals, contract, powerStartIndex);
-            setUpContractEnergyConstraints(solver, intervals, contract, powerStartIndex, taskIntervals);
+            setUpContractPowerConstraints(solver, horizonLength, contract, powerStartIndex, row);
+            setUpContractEnergyConstraints(solver, horizonLength, contract, powerStartIndex, intervalsDuration, row);
         }
     }
 
     private void setUpContractPowerConstraints(
             Solver solver,
-            List<Integer> intervals,
+            int horizonLength,
             Contract contract,
-            int powerStartIndex) throws SolverException {
+            int powerStartIndex,
+            RowBuffer row) throws SolverException {
 
         if (contract.getMinPowerConstraints() != null) {
-            solver.addLowerBounds(contract.getMinPowerConstraints().entrySet().stream()
-                    .filter(entry -> intervals.contains(entry.getKey()))
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + powerStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
+            solver.addLowerBounds(contractPowerBounds(contract.getMinPowerConstraints(), horizonLength, contract, powerStartIndex, row));
         }
 
         if (contract.getMaxPowerConstraints() != null) {
-            solver.addUpperBounds(contract.getMaxPowerConstraints().entrySet().stream()
-                    .filter(entry -> intervals.contains(entry.getKey()))
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + powerStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
+            solver.addUpperBounds(contractPowerBounds(contract.getMaxPowerConstraints(), horizonLength, contract, powerStartIndex, row));
         }
     }
 
+    private RowBuffer contractPowerBounds(
+            Map<Integer, Double> powerConstraints,
+            int horizonLength,
+            Contract contract,
+            int powerStartIndex,
+            RowBuffer row) {
+
+        row.clear();
+        for (Map.Entry<Integer, Double> entry : powerConstraints.entrySet()) {
+            int interval = entry.getKey();
+            if (interval >= 0 && interval < horizonLength) {
+                row.add(powerStartIndex + interval - contract.getStartInterval(), entry.getValue());
+            }
+        }
+        return row;
+    }
+
     private void setUpContractEnergyConstraints(
             Solver solver,
-            List<Integer> intervals,
+            int horizonLength,
             Contract contract,
             int powerStartIndex,
-            Profile taskIntervals) throws SolverException {
+            Profile intervalsDuration,
+            RowBuffer row) throws SolverException {
 
         if (contract.getMinEnergyConstraints() != null) {
             for (SumConstraint minEnergyConstraint : contract.getMinEnergyConstraints()) {
-
                 solver.addGeqWeightedSumConstraint(
-                        intervals.stream()
-                                .filter(interval -> interval>=minEnergyConstraint.startInterval() && interval<=minEnergyConstraint.endInterval())
-                                .collect(Collectors.toMap(
-                                        interval -> powerStartIndex + interval,
-                                        interval -> taskIntervals.getValueForInterval(interval).orElseThrow()
-                                )),
+                        contractEnergySum(minEnergyConstraint, horizonLength, contract, powerStartIndex, intervalsDuration, row),
                         minEnergyConstraint.sum()
                 );
             }
@@ -327,239 +960,193 @@ public class OptimizerImpl implements Optimizer {
 
         if (contract.getMaxEnergyConstraints() != null) {
             for (SumConstraint maxEnergyConstraint : contract.getMaxEnergyConstraints()) {
-
                 solver.addLeqWeightedSumConstraint(
-                        intervals.stream()
-                                .filter(interval -> interval>=maxEnergyConstraint.startInterval() && interval<=maxEnergyConstraint.endInterval())
-                                .collect(Collectors.toMap(
-                                        interval -> powerStartIndex + interval,
-                                        interval -> taskIntervals.getValueForInterval(interval).orElseThrow()
-                                )),
+                        contractEnergySum(maxEnergyConstraint, horizonLength, contract, powerStartIndex, intervalsDuration, row),
                         maxEnergyConstraint.sum()
                 );
             }
         }
     }
 
+    private RowBuffer contractEnergySum(
+            SumConstraint energyConstraint,
+            int horizonLength,
+            Contract contract,
+            int powerStartIndex,
+            Profile intervalsDuration,
+            RowBuffer row) {
+
+        row.clear();
+        int firstInterval = Math.max(energyConstraint.startInterval(), 0);
+        int lastInterval = Math.min(energyConstraint.endInterval(), horizonLength - 1);
+        for (int interval = firstInterval; interval <= lastInterval; interval++) {
+            row.add(powerStartIndex + interval - contract.getStartInterval(), intervalsDuration.valueAt(interval));
+        }
+        return row;
+    }
+
     private void setUpStoragesConstraints(
             Task task,
             Solver solver,
-            List<Integer> intervals,
+            int horizonLength,
             Map<Long, StorageVariablesStartIndexes> storageStartIndexes) throws SolverException {
 
+        RowBuffer row = new RowBuffer(horizonLength);
+
         for (Storage storage : task.getStorages()) {
 
             long storageId = storage.getId();
             int energyStartIndex = storageStartIndexes.get(storageId).energy();
             int chargeStartIndex = storageStartIndexes.get(storageId).charge();
-            int chargeIndicatorStartIndex = storageStartIndexes.get(storageId).chargeIndicator();
+            int[] chargeIndicators = storageStartIndexes.get(storageId).chargeIndicators();
             int dischargeStartIndex = storageStartIndexes.get(storageId).discharge();
-            double storageBigM = Math.max(storage.getMaxCharge(), storage.getMaxDischarge()) * 1e2;
 
-            setUpStorageEnergyBalance(solver, intervals, task.getIntervals().getValues(), storage, energyStartIndex, chargeStartIndex, dischargeStartIndex);
-            setUpStorageModeIndicators(solver, intervals, chargeStartIndex, chargeIndicatorStartIndex, dischargeStartIndex, storageBigM);
+            setUpStorageEnergyBalance(solver, horizonLength, task.getIntervals(), storage, energyStartIndex, chargeStartIndex, dischargeStartIndex, row);
+            setUpStorageModeIndicators(solver, horizonLength, task.getIntervals(), storage, chargeStartIndex, chargeIndicators, dischargeStartIndex, row);
 
-            setUpStorageChargeConstraints(solver, intervals, storage, chargeStartIndex);
-            setUpStorageDischargeConstraints(solver, intervals, storage, dischargeStartIndex);
-            setUpStorageEnergyConstraints(solver, intervals, storage, energyStartIndex);
-            setUpStorageForbiddenStates(solver, storage, chargeStartIndex, dischargeStartIndex);
+            setUpStorageBounds(solver, horizonLength, storage.getMinChargeConstraints(), storage.getMaxChargeConstraints(), storage.getMaxCharge(), chargeStartIndex, row);
+            setUpStorageBounds(solver, horizonLength, storage.getMinDischargeConstraints(), storage.getMaxDischargeConstraints(), storage.getMaxDischarge(), dischargeStartIndex, row);
+            setUpStorageBounds(solver, horizonLength, storage.getMinEnergyConstraints(), storage.getMaxEnergyConstraints(), storage.getMaxCapacity(), energyStartIndex, row);
+            setUpStorageForbiddenStates(solver, storage, chargeStartIndex, dischargeStartIndex, row);
         }
     }
 
     private void setUpStorageEnergyBalance(
             Solver solver,
-            List<Integer> intervals,
-            List<Double> intervalsDuration,
+            int horizonLength,
+            Profile intervalsDuration,
             Storage storage,
             int energyStartIndex,
             int chargeStartIndex,
-            int dischargeStartIndex) throws SolverException {
+            int dischargeStartIndex,
+            RowBuffer row) throws SolverException {
 
         // first interval energy balance
-        Map<Integer, Double> firstIntervalBalance = new HashMap<>(3);
-        firstIntervalBalance.put(energyStartIndex, -1.0);
-        firstIntervalBalance.put(chargeStartIndex, 1.0 * intervalsDuration.get(0));
-        firstIntervalBalance.put(dischargeStartIndex, -1.0 * intervalsDuration.get(0));
-        solver.addEqWeightedSumConstraint(firstIntervalBalance,-1.0 * storage.getInitialEnergy());
+        row.clear()
+                .add(energyStartIndex, -1.0)
+                .add(chargeStartIndex, 1.0 * intervalsDuration.valueAt(0))
+                .add(dischargeStartIndex, -1.0 * intervalsDuration.valueAt(0));
+        solver.addEqWeightedSumConstraint(row, -1.0 * storage.getInitialEnergy());
 
         // energy balance for the rest of intervals
-        Map<Integer, Double> intervalBalance = new HashMap<>(4);
-        for (int interval : intervals.stream().skip(1L).toList()) {
-
-            intervalBalance.clear();
-            intervalBalance.put(energyStartIndex + interval - 1, 1.0);
-            intervalBalance.put(energyStartIndex + interval, -1.0);
-            intervalBalance.put(chargeStartIndex + interval, 1.0 * intervalsDuration.get(interval));
-            intervalBalance.put(dischargeStartIndex + interval, -1.0 * intervalsDuration.get(interval));
-            solver.addEqWeightedSumConstraint(intervalBalance,0.0);
+        for (int interval = 1; interval < horizonLength; interval++) {
+
+            double duration = intervalsDuration.valueAt(interval);
+            row.clear()
+                    .add(energyStartIndex + interval - 1, 1.0)
+                    .add(energyStartIndex + interval, -1.0)
+                    .add(chargeStartIndex + interval, 1.0 * duration)
+                    .add(dischargeStartIndex + interval, -1.0 * duration);
+            solver.addEqWeightedSumConstraint(row, 0.0);
         }
     }
 
+    /**
+     * Forbids charging and discharging at once in intervals which have charge indicator. Big-M of each constraint is
+     * the tightest upper bound of charge or discharge power in given interval, see {@link #storageBigM}.
+     */
     private void setUpStorageModeIndicators(
             Solver solver,
-            List<Integer> intervals,
+            int horizonLength,
+            Profile intervalsDuration,
+            Storage storage,
             int chargeStartIndex,
-            int chargeIndicatorStartIndex,
+            int[] chargeIndicators,
             int dischargeStartIndex,
-            double storageBigM) throws SolverException {
-
-        for (int interval : intervals) {
-            Map<Integer, Double> chargeIndexedValues = new HashMap<>(2);
-            chargeIndexedValues.put(chargeStartIndex + interval, 1.0);
-            chargeIndexedValues.put(chargeIndicatorStartIndex + interval, -1.0*storageBigM);
-            solver.addLeqWeightedSumConstraint(
-                    chargeIndexedValues,
-                    0.0
-            );
+            RowBuffer row) throws SolverException {
 
-            Map<Integer, Double> dischargeIndexedValues = new HashMap<>(2);
-            dischargeIndexedValues.put(dischargeStartIndex + interval, 1.0);
-            dischargeIndexedValues.put(chargeIndicatorStartIndex + interval, storageBigM);
-            solver.addLeqWeightedSumConstraint(
-                    dischargeIndexedValues,
-                    storageBigM
-            );
-        }
-    }
+        double energyRange = storage.energyRange();
+        for (int interval = 0; interval < horizonLength; interval++) {
 
-    private void setUpStorageChargeConstraints(
-            Solver solver,
-            List<Integer> intervals,
-            Storage storage,
-            int chargeStartIndex) throws SolverException {
-
-        if (storage.getMinChargeConstraints() != null) {
-            solver.addLowerBounds(storage.getMinChargeConstraints().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + chargeStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
-        }
-        if (storage.getMaxChargeConstraints() != null) {
-            solver.addUpperBounds(storage.getMaxChargeConstraints().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + chargeStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
-            solver.addUpperBounds(intervals.stream()
-                    .filter(interval -> !storage.getMaxChargeConstraints().containsKey(interval))
-                    .collect(Collectors.toMap(
-                            interval -> interval + chargeStartIndex,
-                            interval -> storage.getMaxCharge()
-                    ))
-            );
-        }
-        else {
-            solver.addUpperBounds(intervals.stream()
-                    .collect(Collectors.toMap(
-                            interval -> interval + chargeStartIndex,
-                            interval -> storage.getMaxCharge()
-                    ))
-            );
+            if (chargeIndicators[interval] == 0) {
+                continue;
+            }
+            double duration = intervalsDuration.valueAt(interval);
+            double chargeBigM = storageBigM(storage.getMaxChargeConstraints(), storage.getMaxCharge(), energyRange, interval, duration);
+            double dischargeBigM = storageBigM(storage.getMaxDischargeConstraints(), storage.getMaxDischarge(), energyRange, interval, duration);
+
+            row.clear()
+                    .add(chargeStartIndex + interval, 1.0)
+                    .add(chargeIndicators[interval], -1.0*chargeBigM);
+            solver.addLeqWeightedSumConstraint(row, 0.0);
+
+            row.clear()
+                    .add(dischargeStartIndex + interval, 1.0)
+                    .add(chargeIndicators[interval], dischargeBigM);
+            solver.addLeqWeightedSumConstraint(row, dischargeBigM);
         }
     }
 
-    private void setUpStorageDischargeConstraints(
-            Solver solver,
-            List<Integer> intervals,
-            Storage storage,
-            int dischargeStartIndex) throws SolverException {
-
-        if (storage.getMinDischargeConstraints() != null) {
-            solver.addLowerBounds(storage.getMinDischargeConstraints().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + dischargeStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
-        }
-        if (storage.getMaxDischargeConstraints() != null) {
-            solver.addUpperBounds(storage.getMaxDischargeConstraints().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + dischargeStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
-            solver.addUpperBounds(intervals.stream()
-                    .filter(interval -> !storage.getMaxDischargeConstraints().containsKey(interval))
-                    .collect(Collectors.toMap(
-                            interval -> interval + dischargeStartIndex,
-                            interval -> storage.getMaxDischarge()
-                    ))
-            );
-        }
-        else {
-            solver.addUpperBounds(intervals.stream()
-                    .collect(Collectors.toMap(
-                            interval -> interval + dischargeStartIndex,
-                            interval -> storage.getMaxDischarge()
-                    ))
-            );
+    /**
+     * Returns upper bound of storage charge or discharge power in given interval. Power is limited by its upper bound
+     * and, as storage is only charged or only discharged when mode constraint is active, by energy range over interval
+     * duration. Big-M values are constraint coefficients, so storage data they depend on is part of {@link ModelTopology}.
+     * @param maxConstraints maximal power constraints, may be null
+     * @param maxPower maximal power used when interval has no constraint
+     * @param energyRange maximal change of energy stored
+     * @param interval interval index
+     * @param duration interval duration
+     * @return big-M of storage mode constraint
+     */
+    private static double storageBigM(Map<Integer, Double> maxConstraints, double maxPower, double energyRange, int interval, double duration) {
+
+        Double maxValue = maxConstraints != null ? maxConstraints.get(interval) : null;
+        double bigM = maxValue != null ? maxValue : maxPower;
+        if (duration > 0) {
+            bigM = Math.min(bigM, energyRange / duration);
         }
+        return Math.max(bigM, 0.0);
     }
 
-    private void setUpStorageEnergyConstraints(
+    /**
+     * Sets lower bounds from given constraints and upper bounds from given constraints, variables without upper bound
+     * constraint are limited by default upper bound.
+     */
+    private void setUpStorageBounds(
             Solver solver,
-            List<Integer> intervals,
-            Storage storage,
-            int energyStartIndex) throws SolverException {
-        
-        if (storage.getMinEnergyConstraints() != null) {
-            solver.addLowerBounds(storage.getMinEnergyConstraints().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + energyStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
-        }
-        if (storage.getMaxEnergyConstraints() != null) {
-            solver.addUpperBounds(storage.getMaxEnergyConstraints().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey() + energyStartIndex,
-                            Map.Entry::getValue
-                    ))
-            );
-            solver.addUpperBounds(intervals.stream()
-                    .filter(interval -> !storage.getMaxEnergyConstraints().containsKey(interval))
-                    .collect(Collectors.toMap(
-                            interval -> interval + energyStartIndex,
-                            interval -> storage.getMaxCapacity()
-                    ))
-            );
+            int horizonLength,
+            Map<Integer, Double> minConstraints,
+            Map<Integer, Double> maxConstraints,
+            double defaultUpperBound,
+            int startIndex,
+            RowBuffer row) throws SolverException {
+
+        if (minConstraints != null) {
+            row.clear();
+            for (Map.Entry<Integer, Double> entry : minConstraints.entrySet()) {
+                row.add(entry.getKey() + startIndex, entry.getValue());
+            }
+            solver.addLowerBounds(row);
         }
-        else {
-            solver.addUpperBounds(intervals.stream()
-                    .collect(Collectors.toMap(
-                            interval -> interval + energyStartIndex,
-                            interval -> storage.getMaxCapacity()
-                    ))
-            );
+
+        row.clear();
+        for (int interval = 0; interval < horizonLength; interval++) {
+            Double maxValue = maxConstraints != null ? maxConstraints.get(interval) : null;
+            row.add(interval + startIndex, maxValue != null ? maxValue : defaultUpperBound);
         }
+        solver.addUpperBounds(row);
     }
 
     private void setUpStorageForbiddenStates(
             Solver solver,
             Storage storage,
             int chargeStartIndex,
-            int dischargeStartIndex) throws SolverException {
+            int dischargeStartIndex,
+            RowBuffer row) throws SolverException {
 
         if (storage.getForbiddenChargeIntervals() != null) {
-            solver.fixVariables(storage.getForbiddenChargeIntervals().stream()
-                    .collect(Collectors.toMap(
-                            interval -> interval + chargeStartIndex,
-                            interval -> 0.0
-                    ))
-            );
+            row.clear();
+            for (int interval : storage.getForbiddenChargeIntervals()) {
+                row.add(interval + chargeStartIndex, 0.0);
+            }
+            solver.fixVariables(row);
         }
         if (storage.getForbiddenDischargeIntervals() != null) {
-            solver.fixVariables(storage.getForbiddenDischargeIntervals().stream()
-                    .collect(Collectors.toMap(
-                            interval -> interval + dischargeStartIndex,
-                            interval -> 0.0
-                    ))
-            );
+            row.clear();
+            for (int interval : storage.getForbiddenDischargeIntervals()) {
+                row.add(interval + dischargeStartIndex, 0.0);
+            }
+            solver.fixVariables(row);
         }
     }
 
@@ -568,77 +1155,55 @@ public class OptimizerImpl implements Optimizer {
             Solver solver,
             Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemandVariablesIndexes) throws SolverException {
 
+        RowBuffer row = new RowBuffer();
+
         for (MovableDemand movableDemand : task.getMovableDemands()) {
 
             Set<MovableDemandVariablesStartIndexes> dataSet = movableDemandVariablesIndexes.get(movableDemand.id());
 
-            // connect indicators with variables using equal constraint
+            // sum of all indicators must be 1
+            row.clear();
             for (MovableDemandVariablesStartIndexes data : dataSet) {
-
-                Map<Integer, Double> intervalBalance = new HashMap<>(2);
-                for (int index : IntStream.range(0, data.length()).boxed().toList()) {
-
-                    intervalBalance.clear();
-                    intervalBalance.put(data.variantIndicator(), -1.0*movableDemand.profile().get(index));
-                    intervalBalance.put(data.power() + index, 1.0);
-
-                    solver.addEqWeightedSumConstraint(intervalBalance, 0.0);
-                }
+                row.add(data.variantIndicator(), 1.0);
             }
-
-            // sum of all indicators must be 1
-            solver.addEqSumConstraint(
-                    dataSet.stream()
-                            .map(MovableDemandVariablesStartIndexes::variantIndicator)
-                            .collect(Collectors.toSet()),
-                    1.0
-            );
+            solver.addEqWeightedSumConstraint(row, 1.0);
         }
     }
 
     private void setUpObjectiveFunction(
             Task task,
             Solver solver,
-            List<Integer> intervals,
+            int horizonLength,
             Map<Long, ContractVariablesStartIndexes> contractStartIndexes) throws SolverException {
 
-        Map<Integer, Double> costCoefficients = new HashMap<>();
+        RowBuffer costCoefficients = new RowBuffer(horizonLength * Math.max(task.getContracts().size(), 1));
         Profile taskIntervals = task.getIntervals();
 
         for (Contract contract : task.getContracts()) {
 
             int powerStartIndex = contractStartIndexes.get(contract.getId()).power();
-            for (int interval : intervals) {
-
-                if (contract.isContractActiveAtInterval(interval)) {
-
-                    if (contract.getContractDirection() == ContractDirection.PURCHASE) {
-                        costCoefficients.put(
-                                powerStartIndex + interval - contract.getStartInterval(),
-                                contract.getUnitPrice().getValueForInterval(interval).orElseThrow() *
-                                        taskIntervals.getValueForInterval(interval).orElse(0.0)
-                        );
-                    }
-                    else {
-                        costCoefficients.put(
-                                powerStartIndex + interval - contract.getStartInterval(),
-                                -1.0 * contract.getUnitPrice().getValueForInterval(interval).orElseThrow() *
-                                    taskIntervals.getValueForInterval(interval).orElse(0.0)
-                        );
-                    }
-                }
+            double direction = contract.getContractDirection() == ContractDirection.PURCHASE ? 1.0 : -1.0;
+            int firstInterval = Math.max(contract.getStartInterval(), 0);
+            int lastInterval = Math.min(contract.getLastInterval(), horizonLength);
+
+            for (int interval = firstInterval; interval < lastInterval; interval++) {
+                costCoefficients.add(
+                        powerStartIndex + interval - contract.getStartInterval(),
+                        direction * contract.getUnitPrice().valueAt(interval) * taskIntervals.valueAt(interval, 0.0)
+                );
             }
         }
         solver.setObjectiveFunction(costCoefficients);
     }
 
-    private void getResult(
+    /**
+     * Reads solution of solved model into result builder.
+     */
+    void getResult(
             Task task,
             Solver solver,
             Result.ResultBuilder resultBuilder,
-            Map<Long, ContractVariablesStartIndexes> contractStartIndexes,
-            Map<Long, StorageVariablesStartIndexes> storageStartIndexes,
-            Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemandVariablesData) throws SolverException {
+            ModelVariablesIndexes modelVariablesIndexes) throws SolverException {
 
         resultBuilder
                 .optimizationStatus(OptimizationStatus.SOLUTION_FOUND)
@@ -647,44 +1212,32 @@ public class OptimizerImpl implements Optimizer {
                 .elapsedTime(solver.getSolutionElapsedTime())
                 .objectiveFunctionValue(solver.getObjectiveValue());
 
-        Map<Integer, Double> variableResults = solver.getSolution();
+        double[] variableValues = solver.getSolutionValues();
 
-        getContractsResults(task, resultBuilder, contractStartIndexes, variableResults);
-        getStoragesResults(task, resultBuilder, storageStartIndexes, variableResults);
-        getMovableDemandResults(task, resultBuilder, movableDemandVariablesData, variableResults);
+        getContractsResults(task, resultBuilder, modelVariablesIndexes.contracts(), variableValues);
+        getStoragesResults(task, resultBuilder, modelVariablesIndexes.storages(), variableValues);
+        getMovableDemandResults(task, resultBuilder, modelVariablesIndexes.movableDemands(), variableValues);
     }
 
     private void getContractsResults(
             Task task,
             Result.ResultBuilder resultBuilder,
             Map<Long, ContractVariablesStartIndexes> contractStartIndexes,
-            Map<Integer, Double> variableResults) {
+            double[] variableValues) {
 
         for (Contract contract : task.getContracts()) {
 
             int contractPowerVariableStart = contractStartIndexes.get(contract.getId()).power();
             int contractLength = contractStartIndexes.get(contract.getId()).length();
 
-            List<Double> power = variableResults.entrySet().stream()
-                    .filter(entry -> entry.getKey() >= contractPowerVariableStart &&
-                            entry.getKey() < contractPowerVariableStart + contractLength)
-                    .sorted(Map.Entry.comparingByKey())
-                    .map(Map.Entry::getValue)
-                    .toList();
-
-            List<Double> contractIntervalsDuration = IntStream.range(contract.getStartInterval(), contract.getStartInterval() + contractLength)
-                    .boxed()
-                    .map(
-                            interval -> task.getIntervals().getValueForInterval(interval).orElseThrow()
-                    )
-                    .toList();
+            double[] power = Arrays.copyOfRange(variableValues, contractPowerVariableStart, contractPowerVariableStart + contractLength);
 
-            List<Double> energy = new ArrayList<>(contractLength);
-            for (int i=0; i<power.size(); i++) {
-                energy.add(power.get(i) * contractIntervalsDuration.get(i));
+            double[] energy = new double[contractLength];
+            for (int i = 0; i < contractLength; i++) {
+                energy[i] = power[i] * task.getIntervals().valueAt(contract.getStartInterval() + i);
             }
 
-            List<Double> cost = contractCostForEnergy(contract, energy);
+            double[] cost = contractCostForEnergy(contract, energy);
 
             resultBuilder.contractResult(new ContractResult(
                     contract.getId(),
@@ -700,7 +1253,9 @@ public class OptimizerImpl implements Optimizer {
             Task task,
             Result.ResultBuilder resultBuilder,
             Map<Long, StorageVariablesStartIndexes> storageStartIndexes,
-            Map<Integer, Double> variableResults) {
+            double[] variableValues) {
+
+        int horizonLength = task.optimizationHorizonLength();
 
         for (Storage storage : task.getStorages()) {
 
@@ -708,81 +1263,29 @@ public class OptimizerImpl implements Optimizer {
             int chargeStartIndex = storageStartIndexes.get(storage.getId()).charge();
             int dischargeStartIndex = storageStartIndexes.get(storage.getId()).discharge();
 
-            Profile charge = new Profile(
-                    variableResults.entrySet().stream()
-                            .filter(entry -> entry.getKey() >= chargeStartIndex &&
-                                    entry.getKey() < chargeStartIndex + task.optimizationHorizonLength())
-                            .sorted(Map.Entry.comparingByKey())
-                            .map(Map.Entry::getValue)
-                            .toList()
-            );
-
-            Profile discharge = new Profile(
-                    variableResults.entrySet().stream()
-                            .filter(entry -> entry.getKey() >= dischargeStartIndex &&
-                                    entry.getKey() < dischargeStartIndex + task.optimizationHorizonLength())
-                            .sorted(Map.Entry.comparingByKey())
-                            .map(Map.Entry::getValue)
-                            .toList()
-            );
-
-            Profile energy = new Profile(
-                    variableResults.entrySet().stream()
-                            .filter(entry -> entry.getKey() >= energyStartIndex &&
-                                    entry.getKey() < energyStartIndex + task.optimizationHorizonLength())
-                            .sorted(Map.Entry.comparingByKey())
-                            .map(Map.Entry::getValue)
-                            .toList()
-            );
+            StorageMode[] modes = new StorageMode[horizonLength];
+            for (int interval = 0; interval < horizonLength; interval++) {
 
-            List<Integer> chargeIndicators = variableResults.entrySet().stream()
-                    .filter(entry -> entry.getKey() >= chargeStartIndex &&
-                            entry.getKey() < chargeStartIndex + task.optimizationHorizonLength())
-                    .sorted(Map.Entry.comparingByKey())
-                    .map(entry -> {
-                        if (entry.getValue() > numericalZero) {
-                            return 1;
-                        }
-                        return 0;
-                    })
-                    .toList();
-
-            List<Integer> dischargeIndicators = variableResults.entrySet().stream()
-                    .filter(entry -> entry.getKey() >= dischargeStartIndex &&
-                            entry.getKey() < dischargeStartIndex + task.optimizationHorizonLength())
-                    .sorted(Map.Entry.comparingByKey())
-                    .map(entry -> {
-                        if (entry.getValue() > numericalZero) {
-                            return -1;
-                        }
-                        return 0;
-                    })
-                    .toList();
-
-            StorageModeProfile storageMode = new StorageModeProfile(
-                    IntStream.range(0, task.optimizationHorizonLength())
-                            .map(i -> chargeIndicators.get(i) + dischargeIndicators.get(i))
-                            .mapToObj(modeInteger -> {
-                                if (modeInteger == 1) {
-                                    return StorageMode.CHARGING;
-                                }
-                                else if (modeInteger == -1) {
-                                    return StorageMode.DISCHARGING;
-                                }
-                                else {
-                                    return StorageMode.DISABLED;
-                                }
-                            })
-                            .toList()
-            );
+                boolean charging = variableValues[chargeStartIndex + interval] > numericalZero;
+                boolean discharging = variableValues[dischargeStartIndex + interval] > numericalZero;
+                if (charging && !discharging) {
+                    modes[interval] = StorageMode.CHARGING;
+                }
+                else if (discharging && !charging) {
+                    modes[interval] = StorageMode.DISCHARGING;
+                }
+                else {
+                    modes[interval] = StorageMode.DISABLED;
+                }
+            }
 
             resultBuilder.storageResult(new StorageResult(
                     storage.getId(),
                     storage.getName(),
-                    charge,
-                    discharge,
-                    energy,
-                    storageMode
+                    new Profile(Arrays.copyOfRange(variableValues, chargeStartIndex, chargeStartIndex + horizonLength)),
+                    new Profile(Arrays.copyOfRange(variableValues, dischargeStartIndex, dischargeStartIndex + horizonLength)),
+                    new Profile(Arrays.copyOfRange(variableValues, energyStartIndex, energyStartIndex + horizonLength)),
+                    new StorageModeProfile(modes)
             ));
         }
     }
@@ -791,21 +1294,17 @@ public class OptimizerImpl implements Optimizer {
             Task task,
             Result.ResultBuilder resultBuilder,
             Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemandVariablesData,
-            Map<Integer, Double> variableResults) {
+            double[] variableValues) {
 
         for (MovableDemand movableDemand : task.getMovableDemands()) {
 
-            Map<Integer, Integer> indexIntervalMap = movableDemandVariablesData.get(movableDemand.id()).stream()
-                    .collect(Collectors.toMap(
-                            MovableDemandVariablesStartIndexes::variantIndicator,
-                            MovableDemandVariablesStartIndexes::startInterval
-                    ));
-
-            int interval = variableResults.entrySet().stream()
-                    .filter(entry -> indexIntervalMap.containsKey(entry.getKey()))
-                    .filter(entry -> entry.getValue() == 1)
-                    .map(entry -> indexIntervalMap.get(entry.getKey()))
-                    .findFirst().orElse(-1);
+            // variant with the lowest indicator index wins if more than one is selected, indicators are compared with
+            // half, as solvers accept binary values within their integer tolerance
+            int interval = movableDemandVariablesData.get(movableDemand.id()).stream()
+                    .filter(data -> variableValues[data.variantIndicator()] > 0.5)
+                    .min(Comparator.comparingInt(MovableDemandVariablesStartIndexes::variantIndicator))
+                    .map(MovableDemandVariablesStartIndexes::startInterval)
+                    .orElse(-1);
 
             resultBuilder.movableDemandResult(new MovableDemandResult(
                     movableDemand.id(),
@@ -815,13 +1314,18 @@ public class OptimizerImpl implements Optimizer {
         }
     }
 
-    private List<Double> contractCostForEnergy(Contract contract, List<Double> energy) {
+    private double[] contractCostForEnergy(Contract contract, double[] energy) {
 
-        List<Double> cost = new ArrayList<>(energy.size());
-        for (int i=0; i<energy.size(); i++) {
-            cost.add(contract.getUnitPrice().getValueForIndex(i).orElseThrow() * energy.get(i));
+        double[] cost = new double[energy.length];
+        for (int i=0; i<energy.length; i++) {
+            cost[i] = contract.getUnitPrice().valueAtIndex(i) * energy[i];
         }
 
         return cost;
     }
+
+    @FunctionalInterface
+    private interface BalanceCoefficientConsumer {
+        void accept(int interval, int index, double value);
+    }
 }
@@ -0,0 +1,350 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemandResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageMode;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageModeProfile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Keeps recent results keyed by {@link TaskDigest task digest}, so redelivered and duplicated tasks are not solved
+ * again. Results expire after configured time to live, least recently used results are evicted when number of stored
+ * results exceeds configured limit.
+ * <p>
+ * When directory is configured, results are also written to files, which outlive evicted entries and application
+ * restarts. Expired files are deleted when they are read and when cache is created. Failures of file operations are
+ * logged and treated as cache misses.
+ */
+@Slf4j
+@Component
+public class ResultCache {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_SUFFIX = ".result";
+
+    private final Map<String, Entry> results;
+    private final long timeToLive;
+    private final Path directory;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ResultCache(
+            @Value("${optimizer.resultCache.maxEntries}") int maxEntries,
+            @Value("${optimizer.resultCache.timeToLive}") long timeToLive,
+            @Value("${optimizer.resultCache.directory:}") String directory) {
+
+        this(maxEntries, timeToLive, directory.isBlank() ? null : Path.of(directory), System::currentTimeMillis);
+    }
+
+    /**
+     * @param maxEntries maximal number of results kept in memory
+     * @param timeToLive time in milliseconds after which stored result expires
+     * @param directory directory of result files, files are not used when null
+     * @param clock source of current time in milliseconds
+     */
+    ResultCache(int maxEntries, long timeToLive, Path directory, LongSupplier clock) {
+
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.timeToLive = timeToLive;
+        this.directory = directory;
+        this.clock = clock;
+        if (directory != null) {
+            deleteExpiredFiles();
+        }
+    }
+
+    /**
+     * Returns stored result of task with given digest.
+     * @param taskDigest digest of task data
+     * @return stored result or empty if result is not known or expired
+     */
+    public Optional<Result> get(String taskDigest) {
+
+        long now = clock.getAsLong();
+        synchronized (this) {
+            Entry entry = results.get(taskDigest);
+            if (entry != null) {
+                if (!entry.isExpired(now, timeToLive)) {
+                    return Optional.of(entry.result());
+                }
+                results.remove(taskDigest);
+            }
+        }
+
+        if (directory == null) {
+            return Optional.empty();
+        }
+        Optional<Entry> entry = readFile(taskDigest);
+        if (entry.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entry.get().isExpired(now, timeToLive)) {
+            deleteFile(file(taskDigest));
+            return Optional.empty();
+        }
+        synchronized (this) {
+            results.put(taskDigest, entry.get());
+        }
+        return Optional.of(entry.get().result());
+    }
+
+    /**
+     * Stores result of task with given digest, replacing previous one.
+     * @param taskDigest digest of task data
+     * @param result result to store
+     */
+    public void put(String taskDigest, Result result) {
+
+        Entry entry = new Entry(result, clock.getAsLong());
+        synchronized (this) {
+            results.put(taskDigest, entry);
+        }
+        if (directory != null) {
+            writeFile(taskDigest, entry);
+        }
+    }
+
+    /**
+     * Returns number of results stored in memory.
+     * @return number of stored results
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    private Path file(String taskDigest) {
+        return directory.resolve(taskDigest + FILE_SUFFIX);
+    }
+
+    private Optional<Entry> readFile(String taskDigest) {
+
+        Path file = file(taskDigest);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return Optional.of(readEntry(input));
+        }
+        catch (IOException | RuntimeException e) {
+            log.warn("Result cache file={} could not be read, details={}", file, e.getMessage());
+            deleteFile(file);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes entry to temporary file which is then moved in place, so readers never see partially written file.
+     */
+    private void writeFile(String taskDigest, Entry entry) {
+
+        Path file = file(taskDigest);
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, taskDigest, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                writeEntry(output, entry);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException | RuntimeException e) {
+            log.warn("Result cache file={} could not be written, details={}", file, e.getMessage());
+            if (temporaryFile != null) {
+                deleteFile(temporaryFile);
+            }
+        }
+    }
+
+    private void deleteExpiredFiles() {
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long now = clock.getAsLong();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .filter(file -> isExpiredFile(file, now))
+                    .forEach(this::deleteFile);
+        }
+        catch (IOException e) {
+            log.warn("Result cache directory={} could not be listed, details={}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Checks expiration reading only header of file. Files which can not be read are treated as expired.
+     */
+    private boolean isExpiredFile(Path file, long now) {
+
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+            return input.readInt() != FORMAT_VERSION || now - input.readLong() > timeToLive;
+        }
+        catch (IOException e) {
+            return true;
+        }
+    }
+
+    private void deleteFile(Path file) {
+
+        try {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException e) {
+            log.warn("Result cache file={} could not be deleted, details={}", file, e.getMessage());
+        }
+    }
+
+    private static void writeEntry(DataOutputStream output, Entry entry) throws IOException {
+
+        Result result = entry.result();
+        output.writeInt(FORMAT_VERSION);
+        output.writeLong(entry.storedAt());
+        output.writeLong(result.getId());
+        output.writeUTF(result.getOptimizationStatus().name());
+        output.writeDouble(result.getObjectiveFunctionValue());
+        output.writeDouble(result.getRelativeGap());
+        output.writeDouble(result.getElapsedTime());
+        writeString(output, result.getErrorMessage());
+
+        output.writeInt(result.getContractResults().size());
+        for (ContractResult contractResult : result.getContractResults()) {
+            output.writeLong(contractResult.id());
+            writeString(output, contractResult.name());
+            writeProfile(output, contractResult.power());
+            writeProfile(output, contractResult.energy());
+            writeProfile(output, contractResult.cost());
+        }
+
+        output.writeInt(result.getStorageResults().size());
+        for (StorageResult storageResult : result.getStorageResults()) {
+            output.writeLong(storageResult.id());
+            writeString(output, storageResult.name());
+            writeProfile(output, storageResult.charge());
+            writeProfile(output, storageResult.discharge());
+            writeProfile(output, storageResult.energy());
+            output.writeInt(storageResult.storageMode().getStartInterval());
+            output.writeInt(storageResult.storageMode().getLength());
+            for (StorageMode storageMode : storageResult.storageMode().getValues()) {
+                output.writeUTF(storageMode.name());
+            }
+        }
+
+        output.writeInt(result.getMovableDemandResults().size());
+        for (MovableDemandResult movableDemandResult : result.getMovableDemandResults()) {
+            output.writeLong(movableDemandResult.id());
+            writeString(output, movableDemandResult.name());
+            output.writeInt(movableDemandResult.startInterval());
+        }
+    }
+
+    private static Entry readEntry(DataInputStream input) throws IOException {
+
+        int formatVersion = input.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version: " + formatVersion);
+        }
+        long storedAt = input.readLong();
+        Result.ResultBuilder resultBuilder = Result.builder()
+                .id(input.readLong())
+                .optimizationStatus(OptimizationStatus.valueOf(input.readUTF()))
+                .objectiveFunctionValue(input.readDouble())
+                .relativeGap(input.readDouble())
+                .elapsedTime(input.readDouble())
+                .errorMessage(readString(input));
+
+        int contractResults = input.readInt();
+        for (int i = 0; i < contractResults; i++) {
+            resultBuilder.contractResult(new ContractResult(
+                    input.readLong(),
+                    readString(input),
+                    readProfile(input),
+                    readProfile(input),
+                    readProfile(input)
+            ));
+        }
+
+        int storageResults = input.readInt();
+        for (int i = 0; i < storageResults; i++) {
+            long id = input.readLong();
+            String name = readString(input);
+            Profile charge = readProfile(input);
+            Profile discharge = readProfile(input);
+            Profile energy = readProfile(input);
+            int startInterval = input.readInt();
+            StorageMode[] modes = new StorageMode[input.readInt()];
+            for (int index = 0; index < modes.length; index++) {
+                modes[index] = StorageMode.valueOf(input.readUTF());
+            }
+            resultBuilder.storageResult(new StorageResult(id, name, charge, discharge, energy, new StorageModeProfile(startInterval, modes)));
+        }
+
+        int movableDemandResults = input.readInt();
+        for (int i = 0; i < movableDemandResults; i++) {
+            resultBuilder.movableDemandResult(new MovableDemandResult(input.readLong(), readString(input), input.readInt()));
+        }
+        return new Entry(resultBuilder.build(), storedAt);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    private static void writeProfile(DataOutputStream output, Profile profile) throws IOException {
+
+        output.writeInt(profile.getStartInterval());
+        output.writeInt(profile.getLength());
+        for (int index = 0; index < profile.getLength(); index++) {
+            output.writeDouble(profile.valueAtIndex(index));
+        }
+    }
+
+    private static Profile readProfile(DataInputStream input) throws IOException {
+
+        int startInterval = input.readInt();
+        double[] values = new double[input.readInt()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = input.readDouble();
+        }
+        return new Profile(startInterval, values);
+    }
+
+    /**
+     * Stored result.
+     * @param result result of task
+     * @param storedAt time of storing in milliseconds
+     */
+    private record Entry(Result result, long storedAt) {
+
+        boolean isExpired(long now, long timeToLive) {
+            return now - storedAt > timeToLive;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverSettings;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.BranchingRule;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.NodeSelection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.ObjectiveDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.SolutionStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Races copies of the same model solved with different {@link SolverSettings settings}. First solver in the race is
+ * solved on calling thread, others on shared pool of threads. Solver which finds optimal solution aborts the others,
+ * otherwise best solution found until time limit wins.
+ */
+@Slf4j
+@Component
+public class SolverPortfolio implements DisposableBean {
+
+    /**
+     * Settings raced in portfolio, first settings are the ones used when portfolio is disabled.
+     */
+    static final List<SolverSettings> SETTINGS = List.of(
+            SolverSettings.DEFAULT,
+            new SolverSettings("floor-first", BranchingRule.FLOOR, NodeSelection.FIRST, true, false, -50),
+            new SolverSettings("pseudo-cost", BranchingRule.CEILING, NodeSelection.PSEUDO_COST, false, true, -50),
+            new SolverSettings("automatic-gap", BranchingRule.AUTOMATIC, NodeSelection.GAP, true, true, 0)
+    );
+
+    private final int size;
+    private final ExecutorService executor;
+
+    public SolverPortfolio(@Value("${optimizer.portfolio.size}") int size, @Value("${optimizer.portfolio.threads}") int threads) {
+
+        this.size = Math.max(1, Math.min(size, SETTINGS.size()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "solver-portfolio-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns settings of solvers taking part in race.
+     * @return raced settings
+     */
+    public List<SolverSettings> settings() {
+        return SETTINGS.subList(0, size);
+    }
+
+    /**
+     * Solves given solvers concurrently and waits until all of them finish. Solvers are not freed.
+     * @param solvers copies of the same model with applied settings
+     * @return solver with best solution and its status, first solver if none found solution
+     * @throws SolverException if first solver failed
+     */
+    public Outcome race(List<Solver> solvers) throws SolverException {
+
+        List<Future<Outcome>> futures = new ArrayList<>(solvers.size() - 1);
+        for (Solver solver : solvers.subList(1, solvers.size())) {
+            futures.add(executor.submit(() -> solve(solver, solvers)));
+        }
+
+        Outcome best;
+        try {
+            best = solve(solvers.get(0), solvers);
+        }
+        catch (SolverException | RuntimeException e) {
+            solvers.forEach(Solver::abort);
+            awaitAll(futures);
+            throw e;
+        }
+
+        for (Outcome outcome : awaitAll(futures)) {
+            if (isBetter(outcome, best)) {
+                best = outcome;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private Outcome solve(Solver solver, List<Solver> solvers) throws SolverException {
+
+        SolutionStatus status = solver.solve();
+        if (status == SolutionStatus.OPTIMAL) {
+            solvers.stream()
+                    .filter(other -> other != solver)
+                    .forEach(Solver::abort);
+        }
+        return new Outcome(solver, status, hasSolution(status) ? solver.getObjectiveValue() : Double.NaN);
+    }
+
+    /**
+     * Waits for all pool solvers, which have to finish before they can be freed. Failed solvers are skipped.
+     */
+    private List<Outcome> awaitAll(List<Future<Outcome>> futures) {
+
+        List<Outcome> outcomes = new ArrayList<>(futures.size());
+        boolean interrupted = false;
+        for (Future<Outcome> future : futures) {
+            while (true) {
+                try {
+                    outcomes.add(future.get());
+                    break;
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                catch (ExecutionException e) {
+                    log.warn("Portfolio solver failed, details={}", e.getCause().getMessage());
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return outcomes;
+    }
+
+    private static boolean isBetter(Outcome outcome, Outcome best) {
+
+        if (!hasSolution(outcome.status())) {
+            return false;
+        }
+        if (!hasSolution(best.status())) {
+            return true;
+        }
+        if (outcome.status() != best.status()) {
+            return outcome.status() == SolutionStatus.OPTIMAL;
+        }
+        return outcome.solver().getObjectiveDirection() == ObjectiveDirection.MAX
+                ? outcome.objectiveValue() > best.objectiveValue()
+                : outcome.objectiveValue() < best.objectiveValue();
+    }
+
+    private static boolean hasSolution(SolutionStatus status) {
+        return status == SolutionStatus.OPTIMAL || status == SolutionStatus.SUBOPTIMAL;
+    }
+
+    /**
+     * Result of single solver in race.
+     * @param solver solved solver
+     * @param status solution status
+     * @param objectiveValue objective function value, NaN if solution was not found
+     */
+    public record Outcome(Solver solver, SolutionStatus status, double objectiveValue) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+/**
+ * Predicted cost of solving task.
+ * @param solveSeconds predicted solve time in seconds
+ * @param nativeMemory predicted native memory of task solvers in bytes
+ */
+public record TaskCost(double solveSeconds, long nativeMemory) {
+}
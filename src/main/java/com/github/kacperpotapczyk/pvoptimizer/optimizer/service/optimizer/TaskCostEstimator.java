@@ -0,0 +1,213 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Predicts {@link TaskCost cost} of task from statistics of its model, which are computed from task data without
+ * building model. Native memory is proportional to number of rows, columns and non-zero coefficients of model and to
+ * number of solvers racing in portfolio. Solve time is proportional to model work, number of non-zero coefficients
+ * scaled by logarithm of number of binary variables, and is limited by task timeout.
+ * <p>
+ * Solve time per unit of work is learned from solve times of optimally solved models, as exponential moving average
+ * of its logarithm. Linear and mixed integer models are learned separately, as their solve times differ by orders of
+ * magnitude.
+ */
+@Component
+public class TaskCostEstimator {
+
+    private final long maxAllowedTimeOut;
+    private final int solverCopies;
+    private final long bytesPerNonZero;
+    private final double learningRate;
+    private double linearLogRate;
+    private double integerLogRate;
+
+    @Autowired
+    public TaskCostEstimator(
+            SolverFactory solverFactory,
+            @Value("${optimizer.maxAllowedTimeOut}") long maxAllowedTimeOut,
+            @Value("${optimizer.portfolio.enabled}") boolean portfolioEnabled,
+            @Value("${optimizer.portfolio.size}") int portfolioSize,
+            @Value("${optimizer.admission.bytesPerNonZero}") long bytesPerNonZero,
+            @Value("${optimizer.admission.initialSecondsPerWorkUnit}") double initialSecondsPerWorkUnit,
+            @Value("${optimizer.admission.learningRate}") double learningRate) {
+
+        this(maxAllowedTimeOut,
+                portfolioEnabled && solverFactory.supportsPortfolio() ? Math.max(Math.min(portfolioSize, SolverPortfolio.SETTINGS.size()), 1) : 1,
+                bytesPerNonZero,
+                initialSecondsPerWorkUnit,
+                learningRate);
+    }
+
+    /**
+     * @param maxAllowedTimeOut maximal solve time in seconds
+     * @param solverCopies number of solvers of mixed integer model
+     * @param bytesPerNonZero native memory of single row, column or non-zero coefficient of model in bytes
+     * @param initialSecondsPerWorkUnit solve time per unit of work before any solve time is observed
+     * @param learningRate weight of observed solve time in learned rate, between 0 and 1
+     */
+    TaskCostEstimator(long maxAllowedTimeOut, int solverCopies, long bytesPerNonZero, double initialSecondsPerWorkUnit, double learningRate) {
+
+        this.maxAllowedTimeOut = maxAllowedTimeOut;
+        this.solverCopies = solverCopies;
+        this.bytesPerNonZero = bytesPerNonZero;
+        this.learningRate = learningRate;
+        this.linearLogRate = Math.log(initialSecondsPerWorkUnit);
+        this.integerLogRate = Math.log(initialSecondsPerWorkUnit);
+    }
+
+    /**
+     * Predicts cost of solving task.
+     * @param task optimization task
+     * @return predicted solve time and native memory
+     */
+    public TaskCost estimate(Task task) {
+
+        ModelStatistics statistics = ModelStatistics.of(task);
+        double logRate;
+        synchronized (this) {
+            logRate = statistics.binaryVariables() > 0 ? integerLogRate : linearLogRate;
+        }
+        double solveSeconds = Math.exp(logRate) * statistics.work();
+        long timeOut = task.getTimeoutSeconds() > 0 ? Math.min(task.getTimeoutSeconds(), maxAllowedTimeOut) : maxAllowedTimeOut;
+        if (timeOut > 0) {
+            solveSeconds = Math.min(solveSeconds, timeOut);
+        }
+
+        int copies = statistics.binaryVariables() > 0 ? solverCopies : 1;
+        long nativeMemory = copies * bytesPerNonZero * (statistics.rows() + statistics.columns() + statistics.nonZeros());
+        return new TaskCost(solveSeconds, nativeMemory);
+    }
+
+    /**
+     * Learns solve time from optimally solved task. Solve times of suboptimal solutions are not observed, as they
+     * are usually limited by timeout.
+     * @param task solved task
+     * @param elapsedTime solve time in seconds
+     */
+    public void observe(Task task, double elapsedTime) {
+
+        ModelStatistics statistics = ModelStatistics.of(task);
+        if (elapsedTime <= 0.0 || statistics.work() <= 0.0) {
+            return;
+        }
+        double logRate = Math.log(elapsedTime / statistics.work());
+        synchronized (this) {
+            if (statistics.binaryVariables() > 0) {
+                integerLogRate += learningRate * (logRate - integerLogRate);
+            }
+            else {
+                linearLogRate += learningRate * (logRate - linearLogRate);
+            }
+        }
+    }
+
+    /**
+     * Size of task model with all storage charge indicators, counted the same way model is built.
+     * @param intervals number of intervals of optimization horizon
+     * @param contracts number of contracts
+     * @param storages number of storages
+     * @param movableDemandVariants number of start intervals of all movable demands
+     * @param rows number of constraints
+     * @param columns number of variables
+     * @param binaryVariables number of binary variables
+     * @param nonZeros number of non-zero coefficients of constraints and objective function
+     */
+    record ModelStatistics(
+            int intervals,
+            int contracts,
+            int storages,
+            int movableDemandVariants,
+            long rows,
+            long columns,
+            long binaryVariables,
+            long nonZeros) {
+
+        static ModelStatistics of(Task task) {
+
+            int horizonLength = task.optimizationHorizonLength();
+            long rows = horizonLength;
+            long columns = 0;
+            long binaryVariables = 0;
+            long nonZeros = 0;
+
+            for (Contract contract : task.getContracts()) {
+                long contractLength = Math.max(Math.min(contract.getContractLength(), horizonLength - contract.getStartInterval()), 0);
+                columns += contractLength;
+                // power balance and objective function
+                nonZeros += 2 * contractLength;
+                rows += size(contract.getMinEnergyConstraints()) + size(contract.getMaxEnergyConstraints());
+                nonZeros += span(contract.getMinEnergyConstraints()) + span(contract.getMaxEnergyConstraints());
+            }
+
+            for (Storage storage : task.getStorages()) {
+                // charge, discharge, energy and charge indicator of every interval
+                columns += 4L * horizonLength;
+                binaryVariables += horizonLength;
+                // energy balance and two charge indicator constraints of every interval, power balance coefficients
+                rows += 3L * horizonLength;
+                nonZeros += 2L * horizonLength + 4L * horizonLength + 4L * horizonLength;
+                int forbiddenIntervals = size(storage.getForbiddenChargeIntervals()) + size(storage.getForbiddenDischargeIntervals());
+                rows += forbiddenIntervals;
+                nonZeros += forbiddenIntervals;
+            }
+
+            int movableDemandVariants = 0;
+            for (MovableDemand movableDemand : task.getMovableDemands()) {
+                int variants = movableDemand.startIntervals().size();
+                movableDemandVariants += variants;
+                columns += variants;
+                binaryVariables += variants;
+                rows++;
+                // power balance of every interval covered by variant and single choice constraint
+                nonZeros += (long) variants * (movableDemand.profile().size() + 1);
+            }
+
+            return new ModelStatistics(
+                    horizonLength,
+                    task.getContracts().size(),
+                    task.getStorages().size(),
+                    movableDemandVariants,
+                    rows,
+                    columns,
+                    binaryVariables,
+                    nonZeros);
+        }
+
+        /**
+         * Work of solving model, which grows with logarithm of number of binary variables, as branch and bound
+         * tree of practical models is far smaller than number of their binary combinations.
+         * @return units of work
+         */
+        double work() {
+            return nonZeros * (Math.log(2.0 + binaryVariables) / Math.log(2.0));
+        }
+
+        private static int size(Collection<?> collection) {
+            return collection != null ? collection.size() : 0;
+        }
+
+        private static long span(List<SumConstraint> constraints) {
+
+            if (constraints == null) {
+                return 0;
+            }
+            long span = 0;
+            for (SumConstraint constraint : constraints) {
+                span += constraint.endInterval() - constraint.startInterval() + 1;
+            }
+            return span;
+        }
+    }
+}
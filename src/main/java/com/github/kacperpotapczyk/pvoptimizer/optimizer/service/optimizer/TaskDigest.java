@@ -0,0 +1,158 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * SHA-256 digest of all task data except task id. Tasks of equal digest have the same results, apart from result id.
+ * Contracts, storages and movable demands are digested in order of their ids and constraints in order of their
+ * intervals, so digest does not depend on order in which task was built.
+ */
+public final class TaskDigest {
+
+    private TaskDigest() {
+    }
+
+    /**
+     * Computes digest of task data.
+     * @param task optimization task
+     * @return hexadecimal digest
+     */
+    public static String of(Task task) {
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest))) {
+
+            output.writeLong(task.getTimeoutSeconds());
+            output.writeDouble(task.getRelativeGap());
+            writeProfile(output, task.getIntervals());
+            output.writeLong(task.getProduction().getId());
+            writeString(output, task.getProduction().getName());
+            writeProfile(output, task.getProduction().getProfile());
+            output.writeLong(task.getDemand().getId());
+            writeString(output, task.getDemand().getName());
+            writeProfile(output, task.getDemand().getProfile());
+
+            List<Contract> contracts = new ArrayList<>(task.getContracts());
+            contracts.sort(Comparator.comparingLong(Contract::getId));
+            output.writeInt(contracts.size());
+            for (Contract contract : contracts) {
+                output.writeLong(contract.getId());
+                writeString(output, contract.getName());
+                output.writeInt(contract.getContractDirection().ordinal());
+                writeProfile(output, contract.getUnitPrice());
+                writeConstraints(output, contract.getMinPowerConstraints());
+                writeConstraints(output, contract.getMaxPowerConstraints());
+                writeConstraints(output, contract.getMinEnergyConstraints());
+                writeConstraints(output, contract.getMaxEnergyConstraints());
+            }
+
+            List<Storage> storages = new ArrayList<>(task.getStorages());
+            storages.sort(Comparator.comparingLong(Storage::getId));
+            output.writeInt(storages.size());
+            for (Storage storage : storages) {
+                output.writeLong(storage.getId());
+                writeString(output, storage.getName());
+                output.writeDouble(storage.getMaxCharge());
+                output.writeDouble(storage.getMaxDischarge());
+                output.writeDouble(storage.getMaxCapacity());
+                output.writeDouble(storage.getInitialEnergy());
+                writeConstraints(output, storage.getMinChargeConstraints());
+                writeConstraints(output, storage.getMaxChargeConstraints());
+                writeConstraints(output, storage.getMinDischargeConstraints());
+                writeConstraints(output, storage.getMaxDischargeConstraints());
+                writeConstraints(output, storage.getMinEnergyConstraints());
+                writeConstraints(output, storage.getMaxEnergyConstraints());
+                writeIntervals(output, storage.getForbiddenChargeIntervals());
+                writeIntervals(output, storage.getForbiddenDischargeIntervals());
+            }
+
+            List<MovableDemand> movableDemands = new ArrayList<>(task.getMovableDemands());
+            movableDemands.sort(Comparator.comparingLong(MovableDemand::id));
+            output.writeInt(movableDemands.size());
+            for (MovableDemand movableDemand : movableDemands) {
+                output.writeLong(movableDemand.id());
+                writeString(output, movableDemand.name());
+                output.writeInt(movableDemand.profile().size());
+                for (double value : movableDemand.profile()) {
+                    output.writeDouble(value);
+                }
+                writeIntervals(output, movableDemand.startIntervals());
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static void writeProfile(DataOutputStream output, Profile profile) throws IOException {
+
+        output.writeInt(profile.getStartInterval());
+        output.writeInt(profile.getLength());
+        for (int index = 0; index < profile.getLength(); index++) {
+            output.writeDouble(profile.valueAtIndex(index));
+        }
+    }
+
+    private static void writeConstraints(DataOutputStream output, Map<Integer, Double> constraints) throws IOException {
+
+        Map<Integer, Double> sortedConstraints = constraints != null ? new TreeMap<>(constraints) : Map.of();
+        output.writeInt(sortedConstraints.size());
+        for (Map.Entry<Integer, Double> constraint : sortedConstraints.entrySet()) {
+            output.writeInt(constraint.getKey());
+            output.writeDouble(constraint.getValue());
+        }
+    }
+
+    private static void writeConstraints(DataOutputStream output, List<SumConstraint> constraints) throws IOException {
+
+        List<SumConstraint> sortedConstraints = new ArrayList<>(constraints != null ? constraints : List.of());
+        sortedConstraints.sort(Comparator.comparingInt(SumConstraint::startInterval)
+                .thenComparingInt(SumConstraint::endInterval)
+                .thenComparingDouble(SumConstraint::sum));
+        output.writeInt(sortedConstraints.size());
+        for (SumConstraint constraint : sortedConstraints) {
+            output.writeInt(constraint.startInterval());
+            output.writeInt(constraint.endInterval());
+            output.writeDouble(constraint.sum());
+        }
+    }
+
+    private static void writeIntervals(DataOutputStream output, Set<Integer> intervals) throws IOException {
+
+        Set<Integer> sortedIntervals = intervals != null ? new TreeSet<>(intervals) : Set.of();
+        output.writeInt(sortedIntervals.size());
+        for (int interval : sortedIntervals) {
+            output.writeInt(interval);
+        }
+    }
+}
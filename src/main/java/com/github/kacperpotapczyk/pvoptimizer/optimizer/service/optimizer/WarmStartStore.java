@@ -0,0 +1,56 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps result of the latest solved task of each {@link OptimizationContext#getLineageKey() task lineage}, so the next
+ * task of the same lineage can be warm started. Least recently used lineages are evicted when number of stored
+ * results exceeds configured limit.
+ */
+@Component
+public class WarmStartStore {
+
+    private final Map<String, Result> results;
+
+    public WarmStartStore(@Value("${optimizer.warmStart.maxEntries}") int maxEntries) {
+
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Result> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns result of the latest task of lineage.
+     * @param lineageKey task lineage identifier
+     * @return stored result or empty if lineage is not known
+     */
+    public synchronized Optional<Result> get(String lineageKey) {
+        return Optional.ofNullable(results.get(lineageKey));
+    }
+
+    /**
+     * Stores result as the latest result of lineage, replacing previous one.
+     * @param lineageKey task lineage identifier
+     * @param result result to store
+     */
+    public synchronized void put(String lineageKey, Result result) {
+        results.put(lineageKey, result);
+    }
+
+    /**
+     * Returns number of stored results.
+     * @return number of stored results
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+}
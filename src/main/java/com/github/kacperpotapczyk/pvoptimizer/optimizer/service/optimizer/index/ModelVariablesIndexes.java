@@ -0,0 +1,13 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Start indexes of all model variables, keyed by contract, storage and movable demand id.
+ */
+public record ModelVariablesIndexes(
+        Map<Long, ContractVariablesStartIndexes> contracts,
+        Map<Long, StorageVariablesStartIndexes> storages,
+        Map<Long, Set<MovableDemandVariablesStartIndexes>> movableDemands) {
+}
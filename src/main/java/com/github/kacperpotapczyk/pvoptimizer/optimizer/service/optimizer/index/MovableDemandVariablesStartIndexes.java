@@ -1,4 +1,4 @@
 package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index;
 
-public record MovableDemandVariablesStartIndexes(int startInterval, int variantIndicator, int power, int length) {
+public record MovableDemandVariablesStartIndexes(int startInterval, int variantIndicator, int length) {
 }
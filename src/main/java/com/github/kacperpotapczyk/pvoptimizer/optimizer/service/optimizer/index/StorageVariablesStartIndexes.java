@@ -1,4 +1,12 @@
 package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer.index;
 
-public record StorageVariablesStartIndexes(int charge, int discharge, int chargeIndicator, int energy) {
+/**
+ * Start indexes of storage variables.
+ * @param chargeIndicators index of charge indicator variable of each interval, 0 if interval has no indicator
+ */
+public record StorageVariablesStartIndexes(int charge, int discharge, int energy, int[] chargeIndicators) {
+
+    public boolean hasChargeIndicator(int interval) {
+        return chargeIndicators[interval] != 0;
+    }
 }
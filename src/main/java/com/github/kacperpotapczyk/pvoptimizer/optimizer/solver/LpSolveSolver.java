@@ -8,7 +8,6 @@ import lpsolve.LpSolveException;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
 /**
  * Class implements {@link Solver Solver} interface using LpSolve library. For more information regarding LpSolve library
@@ -18,7 +17,22 @@ import java.util.stream.Collectors;
  */
 public class LpSolveSolver implements Solver {
 
+    private static final int DEFAULT_PRESOLVE =
+            LpSolve.PRESOLVE_ROWS + LpSolve.PRESOLVE_COLS + LpSolve.PRESOLVE_LINDEP + LpSolve.PRESOLVE_SOS + LpSolve.PRESOLVE_KNAPSACK;
+
     private final LpSolve solver;
+    private volatile boolean aborted = false;
+    private int reservedVariables = 0;
+    private int reservedConstraints = 0;
+    private boolean rowModeUsed = false;
+    private int numberOfBinaryVariables = 0;
+    private final RowBuffer pendingLowerBounds = new RowBuffer();
+    private final RowBuffer pendingUpperBounds = new RowBuffer();
+    private RowBuffer pendingObjective = null;
+    private boolean replaying = false;
+    private int replayedVariables = 0;
+    private int replayedConstraints = 0;
+    private double[] replayedRightHandSides = null;
 
     /**
      * Initiates solver with model containing 0 variables and 0 constraints. Default optimization goal is to minimize objective function.
@@ -29,22 +43,40 @@ public class LpSolveSolver implements Solver {
         try {
             solver = LpSolve.makeLp(0, 0);
             setObjectiveDirection(ObjectiveDirection.MIN);
-            solver.setPresolve(
-                    LpSolve.PRESOLVE_ROWS + LpSolve.PRESOLVE_COLS + LpSolve.PRESOLVE_LINDEP + LpSolve.PRESOLVE_SOS + LpSolve.PRESOLVE_KNAPSACK,
-                    solver.getPresolveloops());
+            solver.setPresolve(DEFAULT_PRESOLVE, solver.getPresolveloops());
             solver.setVerbose(LpSolve.IMPORTANT);
+            solver.putAbortfunc((problem, handle) -> aborted, null);
         }
         catch (LpSolveException e) {
             throw new SolverException(e.getMessage());
         }
     }
 
+    /**
+     * Wraps complete model copied by LpSolve together with its settings.
+     * Abort callback is not part of copied settings, so it is registered again.
+     */
+    private LpSolveSolver(LpSolve solver, int numberOfBinaryVariables) throws LpSolveException {
+        this.solver = solver;
+        this.numberOfBinaryVariables = numberOfBinaryVariables;
+        this.rowModeUsed = true;
+        solver.putAbortfunc((problem, handle) -> aborted, null);
+    }
+
     @Override
     public int addVariables(int numberOfVariables) throws SolverException {
 
+        if (replaying) {
+            return replayVariables(numberOfVariables);
+        }
+        if (solver.isAddRowmode()) {
+            throw new SolverException("Variables can not be added during model building");
+        }
+
         int firstVariableIndex = this.solver.getNcolumns() + 1;
 
         try {
+            ensureVariablesCapacity(numberOfVariables);
             double[] column = {0};
             int[] rowNumber = {0};
             for (int i = 0; i < numberOfVariables; i++) {
@@ -60,15 +92,18 @@ public class LpSolveSolver implements Solver {
 
     @Override
     public int addBinaryVariables(int numberOfVariables) throws SolverException {
-        int firstVariableIndex = this.solver.getNcolumns() + 1;
+
+        if (replaying) {
+            return replayVariables(numberOfVariables);
+        }
+        int firstVariableIndex = addVariables(numberOfVariables);
 
         try {
-            double[] column = {0};
-            int[] rowNumber = {0};
+            // LpSolve has no vector variant of set_binary
             for (int i = 0; i < numberOfVariables; i++) {
-                solver.addColumnex(1, column, rowNumber);
                 solver.setBinary(firstVariableIndex + i, true);
             }
+            numberOfBinaryVariables += numberOfVariables;
         }
         catch (LpSolveException e) {
             throw new SolverException(e.getMessage());
@@ -77,17 +112,133 @@ public class LpSolveSolver implements Solver {
         return firstVariableIndex;
     }
 
+    @Override
+    public void reserve(int numberOfVariables, int numberOfConstraints) throws SolverException {
+
+        if (replaying) {
+            return;
+        }
+        reservedVariables = Math.max(reservedVariables, numberOfVariables);
+        reservedConstraints = Math.max(reservedConstraints, numberOfConstraints);
+        resize();
+    }
+
+    /**
+     * Enables LpSolve row entry mode which makes adding constraints significantly faster. LpSolve allows to enter this
+     * mode only once per model, so later calls have no effect and constraints are added in default mode.
+     * @throws SolverException if row entry mode can not be enabled
+     */
+    @Override
+    public void beginModelBuilding() throws SolverException {
+
+        if (rowModeUsed || replaying) {
+            return;
+        }
+        try {
+            solver.setAddRowmode(true);
+            rowModeUsed = true;
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+    }
+
+    /**
+     * Disables LpSolve row entry mode and applies bounds and objective function set while it was enabled.
+     * Ends data replay by setting all replayed right hand sides at once.
+     * @throws SolverException if row entry mode can not be disabled or pending data can not be applied
+     */
+    @Override
+    public void endModelBuilding() throws SolverException {
+
+        if (replaying) {
+            endDataReplay();
+            return;
+        }
+        if (!solver.isAddRowmode()) {
+            return;
+        }
+        try {
+            solver.setAddRowmode(false);
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+
+        addLowerBounds(pendingLowerBounds);
+        addUpperBounds(pendingUpperBounds);
+        pendingLowerBounds.clear();
+        pendingUpperBounds.clear();
+        if (pendingObjective != null) {
+            setObjectiveFunction(pendingObjective);
+            pendingObjective = null;
+        }
+    }
+
+    /**
+     * Resets bounds of continuous variables to LpSolve defaults, binary variables keep their bounds. Right hand sides
+     * of constraints added during replay are collected and set when replay ends.
+     * @throws SolverException if model is being built or bounds can not be reset
+     */
+    @Override
+    public void beginDataReplay() throws SolverException {
+
+        if (solver.isAddRowmode()) {
+            throw new SolverException("Data can not be replayed during model building");
+        }
+
+        int numberOfColumns = solver.getNcolumns();
+        try {
+            double infinity = solver.getInfinity();
+            for (int column = 1; column <= numberOfColumns; column++) {
+                if (!solver.isBinary(column)) {
+                    solver.setLowbo(column, 0.0);
+                    solver.setUpbo(column, infinity);
+                }
+            }
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+
+        replaying = true;
+        replayedVariables = 0;
+        replayedConstraints = 0;
+        replayedRightHandSides = new double[solver.getNrows() + 1];
+    }
+
+    @Override
+    public Solver copy() throws SolverException {
+
+        endModelBuilding();
+        try {
+            return new LpSolveSolver(solver.copyLp(), numberOfBinaryVariables);
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+    }
+
     @Override
     public void fixVariables(Map<Integer, Double> fixedValues) throws SolverException {
 
-        double[] value = new double[1];
+        fixVariables(toRowBuffer(fixedValues));
+    }
+
+    @Override
+    public void fixVariables(RowBuffer fixedValues) throws SolverException {
+
+        double[] value = {1};
         int[] index = new int[1];
 
-        for (Entry<Integer, Double> fixedValue : fixedValues.entrySet()) {
-            value[0] = 1;
-            index[0] = fixedValue.getKey();
+        for (int i = 0; i < fixedValues.size(); i++) {
+            if (replaying) {
+                replayConstraint(fixedValues.getValues()[i]);
+                continue;
+            }
+            index[0] = fixedValues.getIndexes()[i];
             try {
-                solver.addConstraintex(1, value, index, LpSolve.EQ, fixedValue.getValue());
+                solver.addConstraintex(1, value, index, LpSolve.EQ, fixedValues.getValues()[i]);
             } catch (LpSolveException e) {
                 throw new SolverException(e.getMessage());
             }
@@ -97,24 +248,37 @@ public class LpSolveSolver implements Solver {
     @Override
     public void addEqWeightedSumConstraint(Map<Integer, Double> weights, Double value) throws SolverException {
 
+        addWeightedSumConstraint(toRowBuffer(weights), LpSolve.EQ, value);
+    }
+
+    @Override
+    public void addEqWeightedSumConstraint(RowBuffer weights, double value) throws SolverException {
+
         addWeightedSumConstraint(weights, LpSolve.EQ, value);
     }
 
     @Override
     public void addEqSumConstraint(Set<Integer> indexes, Double value) throws SolverException {
 
-        Map<Integer, Double> row = indexes.stream()
-                .collect(Collectors.toMap(index -> index, val -> 1.0));
-
-        addEqWeightedSumConstraint(row, value);
+        addWeightedSumConstraint(toUnitRowBuffer(indexes), LpSolve.EQ, value);
     }
 
     @Override
     public void addUpperBounds(Map<Integer, Double> upperBounds) throws SolverException {
 
-        for(Entry<Integer, Double> upperBound : upperBounds.entrySet()) {
+        addUpperBounds(toRowBuffer(upperBounds));
+    }
+
+    @Override
+    public void addUpperBounds(RowBuffer upperBounds) throws SolverException {
+
+        if (solver.isAddRowmode()) {
+            append(pendingUpperBounds, upperBounds);
+            return;
+        }
+        for (int i = 0; i < upperBounds.size(); i++) {
             try {
-                solver.setUpbo(upperBound.getKey(), upperBound.getValue());
+                solver.setUpbo(upperBounds.getIndexes()[i], upperBounds.getValues()[i]);
             } catch (LpSolveException e) {
                 throw new SolverException(e.getMessage());
             }
@@ -124,24 +288,37 @@ public class LpSolveSolver implements Solver {
     @Override
     public void addLeqWeightedSumConstraint(Map<Integer, Double> weights, Double max) throws SolverException {
 
+        addWeightedSumConstraint(toRowBuffer(weights), LpSolve.LE, max);
+    }
+
+    @Override
+    public void addLeqWeightedSumConstraint(RowBuffer weights, double max) throws SolverException {
+
         addWeightedSumConstraint(weights, LpSolve.LE, max);
     }
 
     @Override
     public void addLeqSumConstraint(Set<Integer> indexes, Double max) throws SolverException {
 
-        Map<Integer, Double> row = indexes.stream()
-                .collect(Collectors.toMap(index -> index, val -> 1.0));
-
-        addLeqWeightedSumConstraint(row, max);
+        addWeightedSumConstraint(toUnitRowBuffer(indexes), LpSolve.LE, max);
     }
 
     @Override
     public void addLowerBounds(Map<Integer, Double> lowerBounds) throws SolverException {
 
-        for (Entry<Integer, Double> lowerBound : lowerBounds.entrySet()) {
+        addLowerBounds(toRowBuffer(lowerBounds));
+    }
+
+    @Override
+    public void addLowerBounds(RowBuffer lowerBounds) throws SolverException {
+
+        if (solver.isAddRowmode()) {
+            append(pendingLowerBounds, lowerBounds);
+            return;
+        }
+        for (int i = 0; i < lowerBounds.size(); i++) {
             try {
-                solver.setLowbo(lowerBound.getKey(), lowerBound.getValue());
+                solver.setLowbo(lowerBounds.getIndexes()[i], lowerBounds.getValues()[i]);
             } catch (LpSolveException e) {
                 throw new SolverException(e.getMessage());
             }
@@ -151,53 +328,93 @@ public class LpSolveSolver implements Solver {
     @Override
     public void addGeqWeightedSumConstraint(Map<Integer, Double> weights, Double min) throws SolverException {
 
+        addWeightedSumConstraint(toRowBuffer(weights), LpSolve.GE, min);
+    }
+
+    @Override
+    public void addGeqWeightedSumConstraint(RowBuffer weights, double min) throws SolverException {
+
         addWeightedSumConstraint(weights, LpSolve.GE, min);
     }
 
     @Override
     public void addGeqSumConstraint(List<Integer> indexes, Double min) throws SolverException {
 
-        Map<Integer, Double> row = indexes.stream()
-                .collect(Collectors.toMap(index -> index, val -> 1.0));
-
-        addGeqWeightedSumConstraint(row, min);
+        addWeightedSumConstraint(toUnitRowBuffer(indexes), LpSolve.GE, min);
     }
 
     @Override
     public void addImplication(int continuousVariableIndex, int binaryVariableIndex, double bigM) throws SolverException {
 
-        Map<Integer, Double> indexedValues = new HashMap<>(2);
-        indexedValues.put(continuousVariableIndex, 1.0);
-        indexedValues.put(binaryVariableIndex, -1.0*bigM);
+        RowBuffer row = new RowBuffer(2)
+                .add(continuousVariableIndex, 1.0)
+                .add(binaryVariableIndex, -1.0*bigM);
 
-        addLeqWeightedSumConstraint(indexedValues, 0.0);
+        addWeightedSumConstraint(row, LpSolve.LE, 0.0);
     }
 
     @Override
     public void addSumImplication(List<Integer> continuousVariableIndexes, int binaryVariableIndex, double bigM) throws SolverException {
 
-        Map<Integer, Double> indexedValues = continuousVariableIndexes.stream()
-                        .collect(Collectors.toMap(index -> index, val -> 1.0));
-        indexedValues.put(binaryVariableIndex, -1.0*bigM);
+        RowBuffer row = toUnitRowBuffer(continuousVariableIndexes)
+                .add(binaryVariableIndex, -1.0*bigM);
 
-        addLeqWeightedSumConstraint(indexedValues, 0.0);
+        addWeightedSumConstraint(row, LpSolve.LE, 0.0);
     }
 
     @Override
     public void setObjectiveFunction(Map<Integer, Double> coefficients) throws SolverException {
 
-        int size = coefficients.size();
-        double[] coefficientsArray = new double[size];
-        int[] columnIndexesArray = new int[size];
-        int i = 0;
+        setObjectiveFunction(toRowBuffer(coefficients));
+    }
+
+    @Override
+    public void setObjectiveFunction(RowBuffer coefficients) throws SolverException {
+
+        if (solver.isAddRowmode()) {
+            pendingObjective = append(new RowBuffer(coefficients.size()), coefficients);
+            return;
+        }
+        try {
+            solver.setObjFnex(coefficients.size(), coefficients.getValues(), coefficients.getIndexes());
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+    }
+
+    /**
+     * Guesses starting basis of the first LP relaxation from given values. LpSolve has no MIP start, so branching
+     * direction of binary variables is set towards their expected values instead and depth first branch and bound
+     * reaches solution close to the given one early. Pre-solve is disabled as it would remove rows and columns
+     * the basis refers to.
+     * @throws SolverException if basis can not be set or variable index is out of range
+     */
+    @Override
+    public void setInitialSolution(RowBuffer values) throws SolverException {
+
+        endModelBuilding();
 
-        for (Entry<Integer, Double> coefficient : coefficients.entrySet()) {
-            columnIndexesArray[i] = coefficient.getKey();
-            coefficientsArray[i] = coefficient.getValue();
-            i++;
+        int numberOfColumns = solver.getNcolumns();
+        double[] guess = new double[numberOfColumns + 1];
+        for (int i = 0; i < values.size(); i++) {
+            int index = values.getIndexes()[i];
+            if (index < 1 || index > numberOfColumns) {
+                throw new SolverException("Initial solution index: " + index + " out of range: " + numberOfColumns);
+            }
+            guess[index] = values.getValues()[i];
         }
+
+        int[] basis = new int[1 + solver.getNrows() + numberOfColumns];
         try {
-            solver.setObjFnex(size, coefficientsArray, columnIndexesArray);
+            solver.setPresolve(LpSolve.PRESOLVE_NONE, solver.getPresolveloops());
+            solver.guessBasis(guess, basis);
+            solver.setBasis(basis, true);
+            for (int column = 1; column <= numberOfColumns; column++) {
+                if (solver.isBinary(column)) {
+                    solver.setVarBranch(column, guess[column] > 0.5 ? LpSolve.BRANCH_CEILING : LpSolve.BRANCH_FLOOR);
+                }
+            }
         }
         catch (LpSolveException e) {
             throw new SolverException(e.getMessage());
@@ -238,9 +455,64 @@ public class LpSolveSolver implements Solver {
         solver.setTimeout(timeOutSeconds);
     }
 
+    /**
+     * Maps settings onto LpSolve floor first, node selection, presolve, improve and depth limit parameters.
+     * Disabled presolve is later overridden by {@link #setInitialSolution(RowBuffer) initial solution}, which requires presolve to be disabled.
+     */
+    @Override
+    public void applySettings(SolverSettings settings) {
+
+        solver.setFloorfirst(switch (settings.branchingRule()) {
+            case CEILING -> LpSolve.BRANCH_CEILING;
+            case FLOOR -> LpSolve.BRANCH_FLOOR;
+            case AUTOMATIC -> LpSolve.BRANCH_AUTOMATIC;
+        });
+        solver.setBbRule(switch (settings.nodeSelection()) {
+            case FIRST -> LpSolve.NODE_FIRSTSELECT;
+            case GAP -> LpSolve.NODE_GAPSELECT;
+            case PSEUDO_COST -> LpSolve.NODE_PSEUDOCOSTSELECT;
+        });
+        solver.setPresolve(settings.presolve() ? DEFAULT_PRESOLVE : LpSolve.PRESOLVE_NONE, solver.getPresolveloops());
+        solver.setImprove(settings.improve() ? LpSolve.IMPROVE_DEFAULT | LpSolve.IMPROVE_SOLUTION | LpSolve.IMPROVE_BBSIMPLEX : LpSolve.IMPROVE_DEFAULT);
+        solver.setBbDepthlimit(settings.depthLimit());
+    }
+
+    /**
+     * Abort is checked by LpSolve through registered abort callback.
+     */
+    @Override
+    public void abort() {
+
+        aborted = true;
+    }
+
+    /**
+     * Listener is called from LpSolve message callback registered for first and improved MIP solutions.
+     */
+    @Override
+    public void setProgressListener(SolverProgressListener listener) throws SolverException {
+
+        try {
+            if (listener == null) {
+                solver.putMsgfunc(null, null, 0);
+            }
+            else {
+                solver.putMsgfunc(
+                        (problem, handle, message) -> listener.improvedSolution(problem.getWorkingObjective(), primalSolutionValues()),
+                        null,
+                        LpSolve.MSG_MILPFEASIBLE | LpSolve.MSG_MILPBETTER
+                );
+            }
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+    }
+
     @Override
     public SolutionStatus solve() throws SolverException {
 
+        endModelBuilding();
         try {
             int code = solver.solve();
             return switch (code) {
@@ -248,6 +520,7 @@ public class LpSolveSolver implements Solver {
                 case 1 -> SolutionStatus.SUBOPTIMAL;
                 case 2 -> SolutionStatus.INFEASIBLE;
                 case 3 -> SolutionStatus.UNBOUNDED;
+                case 6 -> SolutionStatus.ABORTED;
                 case 7 -> SolutionStatus.TIMEOUT;
                 default -> SolutionStatus.ERROR;
             };
@@ -270,18 +543,38 @@ public class LpSolveSolver implements Solver {
     @Override
     public Map<Integer, Double> getSolution() throws SolverException {
 
+        double[] values = getSolutionValues();
         Map<Integer, Double>  solution = new TreeMap<>();
+        for (int i = 1; i < values.length; i++) {
+            solution.put(i, values[i]);
+        }
+        return solution;
+    }
+
+    /**
+     * Copies variables part of LpSolve primal solution, which holds objective function value, values of all original
+     * rows and then values of all original columns.
+     */
+    @Override
+    public double[] getSolutionValues() throws SolverException {
+
         try {
-            int numberOfColumns = solver.getNorigColumns();
-            int numberOfRows = solver.getNorigRows();
-            for (int i = 1; i <= numberOfColumns; i++) {
-                solution.put(i, solver.getVarPrimalresult(numberOfRows + i));
-            }
+            return primalSolutionValues();
         }
         catch (LpSolveException e) {
             throw new SolverException(e.getMessage());
         }
-        return solution;
+    }
+
+    private double[] primalSolutionValues() throws LpSolveException {
+
+        double[] primalSolution = solver.getPtrPrimalSolution();
+        int numberOfColumns = solver.getNorigColumns();
+        int numberOfRows = solver.getNorigRows();
+
+        double[] values = new double[numberOfColumns + 1];
+        System.arraycopy(primalSolution, numberOfRows + 1, values, 1, numberOfColumns);
+        return values;
     }
 
     @Override
@@ -294,6 +587,26 @@ public class LpSolveSolver implements Solver {
         return solver.timeElapsed();
     }
 
+    @Override
+    public int getNumberOfConstraints() {
+        return solver.getNrows();
+    }
+
+    @Override
+    public int getNumberOfVariables() {
+        return solver.getNcolumns();
+    }
+
+    @Override
+    public int getNumberOfBinaryVariables() {
+        return numberOfBinaryVariables;
+    }
+
+    @Override
+    public int getNumberOfNonZeros() {
+        return solver.getNonzeros();
+    }
+
     @Override
     public void printModel() {
 
@@ -306,30 +619,118 @@ public class LpSolveSolver implements Solver {
         solver.deleteLp();
     }
 
-    private void addWeightedSumConstraint(Map<Integer, Double> weights, int sign, Double value) throws SolverException {
+    /**
+     * Grows model memory geometrically when given number of variables does not fit into already allocated space,
+     * so adding variables in many small batches does not reallocate model for each batch.
+     */
+    private void ensureVariablesCapacity(int numberOfVariables) throws SolverException {
+
+        int requiredVariables = solver.getNcolumns() + numberOfVariables;
+        if (requiredVariables > reservedVariables) {
+            reservedVariables = Math.max(requiredVariables, 2 * reservedVariables);
+            resize();
+        }
+    }
+
+    private void resize() throws SolverException {
+
+        // resize_lp deletes rows and columns above given size, so never go below current model size
+        try {
+            solver.resizeLp(
+                    Math.max(solver.getNrows(), reservedConstraints),
+                    Math.max(solver.getNcolumns(), reservedVariables));
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+    }
+
+    private void addWeightedSumConstraint(RowBuffer weights, int sign, double value) throws SolverException {
+
+        if (replaying) {
+            replayConstraint(value);
+            return;
+        }
 
         int size = weights.size();
         int maxIndex = solver.getNcolumns();
-        double[] weightValues = new double[size];
-        int[] weightIndexes = new int[size];
-        int i = 0;
-
-        for (Entry<Integer, Double> weight : weights.entrySet()) {
+        int[] weightIndexes = weights.getIndexes();
 
-            if (weight.getKey() > maxIndex) {
-                throw new SolverException("Constraint index: " + weight.getKey() + " out of range: " + maxIndex);
+        for (int i = 0; i < size; i++) {
+            if (weightIndexes[i] > maxIndex) {
+                throw new SolverException("Constraint index: " + weightIndexes[i] + " out of range: " + maxIndex);
             }
+        }
+
+        try {
+            solver.addConstraintex(size, weights.getValues(), weightIndexes, sign, value);
+        }
+        catch (LpSolveException e) {
+            throw new SolverException(e.getMessage());
+        }
+    }
+
+    private int replayVariables(int numberOfVariables) throws SolverException {
+
+        int firstVariableIndex = replayedVariables + 1;
+        replayedVariables += numberOfVariables;
+        if (replayedVariables > solver.getNcolumns()) {
+            throw new SolverException("Replayed variables: " + replayedVariables + " exceed model variables: " + solver.getNcolumns());
+        }
+        return firstVariableIndex;
+    }
+
+    private void replayConstraint(double value) throws SolverException {
 
-            weightIndexes[i] = weight.getKey();
-            weightValues[i] = weight.getValue();
-            i++;
+        replayedConstraints++;
+        if (replayedConstraints >= replayedRightHandSides.length) {
+            throw new SolverException("Replayed constraints: " + replayedConstraints + " exceed model constraints: " + solver.getNrows());
         }
+        replayedRightHandSides[replayedConstraints] = value;
+    }
+
+    private void endDataReplay() throws SolverException {
 
+        replaying = false;
+        if (replayedVariables != solver.getNcolumns() || replayedConstraints != solver.getNrows()) {
+            throw new SolverException("Replayed model with " + replayedVariables + " variables and " + replayedConstraints
+                    + " constraints differs from model with " + solver.getNcolumns() + " variables and " + solver.getNrows() + " constraints");
+        }
         try {
-            solver.addConstraintex(size, weightValues, weightIndexes, sign, value);
+            // element 0 holds objective function constant, which is never set
+            solver.setRhVec(replayedRightHandSides);
         }
         catch (LpSolveException e) {
             throw new SolverException(e.getMessage());
         }
+        finally {
+            replayedRightHandSides = null;
+        }
+    }
+
+    private static RowBuffer append(RowBuffer target, RowBuffer source) {
+
+        for (int i = 0; i < source.size(); i++) {
+            target.add(source.getIndexes()[i], source.getValues()[i]);
+        }
+        return target;
+    }
+
+    private static RowBuffer toRowBuffer(Map<Integer, Double> indexedValues) {
+
+        RowBuffer row = new RowBuffer(indexedValues.size());
+        for (Entry<Integer, Double> indexedValue : indexedValues.entrySet()) {
+            row.add(indexedValue.getKey(), indexedValue.getValue());
+        }
+        return row;
+    }
+
+    private static RowBuffer toUnitRowBuffer(Collection<Integer> indexes) {
+
+        RowBuffer row = new RowBuffer(indexes.size() + 1);
+        for (int index : indexes) {
+            row.add(index, 1.0);
+        }
+        return row;
     }
 }
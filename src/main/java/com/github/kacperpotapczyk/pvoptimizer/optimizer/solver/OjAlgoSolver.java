@@ -0,0 +1,699 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.ObjectiveDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.SolutionStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import org.ojalgo.optimisation.Expression;
+import org.ojalgo.optimisation.ExpressionsBasedModel;
+import org.ojalgo.optimisation.Optimisation;
+import org.ojalgo.optimisation.Variable;
+import org.ojalgo.optimisation.integer.IntegerStrategy;
+import org.ojalgo.type.context.NumberContext;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+/**
+ * Class implements {@link Solver Solver} interface using pure Java ojAlgo library, so no native libraries are required.
+ * Model is kept in arrays (constraints in compressed sparse row form) and ojAlgo model is created from them
+ * when {@link #solve() solve} is called, so model can be {@link #copy() copied} and its data
+ * {@link #beginDataReplay() replayed} without ojAlgo.
+ * @see <a href="https://www.ojalgo.org">ojAlgo</a>
+ */
+public class OjAlgoSolver implements Solver {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final byte EQ = 0;
+    private static final byte LE = 1;
+    private static final byte GE = 2;
+    private static final int MAX_SIGNIFICANT_DIGITS = 15;
+
+    private int numberOfVariables = 0;
+    private int numberOfBinaryVariables = 0;
+    private boolean[] binary;
+    private double[] lowerBounds;
+    private double[] upperBounds;
+    private double[] objective;
+
+    private int numberOfConstraints = 0;
+    private int[] rowStart;
+    private byte[] rowSign;
+    private double[] rowValue;
+    private int numberOfNonZeros = 0;
+    private int[] coefficientIndexes;
+    private double[] coefficientValues;
+
+    private ObjectiveDirection objectiveDirection = ObjectiveDirection.MIN;
+    private double relativeGap = 1e-9;
+    private long timeOutSeconds = 0;
+    private boolean modelBuilding = false;
+    private volatile boolean aborted = false;
+
+    private boolean replaying = false;
+    private int replayedVariables = 0;
+    private int replayedConstraints = 0;
+
+    private double[] solutionValues = null;
+    private double objectiveValue = 0.0;
+    private double solutionRelativeGap = Double.NaN;
+    private double elapsedTime = 0.0;
+
+    /**
+     * Initiates solver with model containing 0 variables and 0 constraints. Default optimization goal is to minimize objective function.
+     */
+    public OjAlgoSolver() {
+
+        binary = new boolean[DEFAULT_CAPACITY + 1];
+        lowerBounds = new double[DEFAULT_CAPACITY + 1];
+        upperBounds = new double[DEFAULT_CAPACITY + 1];
+        objective = new double[DEFAULT_CAPACITY + 1];
+        rowStart = new int[DEFAULT_CAPACITY + 1];
+        rowSign = new byte[DEFAULT_CAPACITY];
+        rowValue = new double[DEFAULT_CAPACITY];
+        coefficientIndexes = new int[DEFAULT_CAPACITY];
+        coefficientValues = new double[DEFAULT_CAPACITY];
+    }
+
+    private OjAlgoSolver(OjAlgoSolver source) {
+
+        numberOfVariables = source.numberOfVariables;
+        numberOfBinaryVariables = source.numberOfBinaryVariables;
+        binary = source.binary.clone();
+        lowerBounds = source.lowerBounds.clone();
+        upperBounds = source.upperBounds.clone();
+        objective = source.objective.clone();
+        numberOfConstraints = source.numberOfConstraints;
+        rowStart = source.rowStart.clone();
+        rowSign = source.rowSign.clone();
+        rowValue = source.rowValue.clone();
+        numberOfNonZeros = source.numberOfNonZeros;
+        coefficientIndexes = source.coefficientIndexes.clone();
+        coefficientValues = source.coefficientValues.clone();
+        objectiveDirection = source.objectiveDirection;
+        relativeGap = source.relativeGap;
+        timeOutSeconds = source.timeOutSeconds;
+    }
+
+    @Override
+    public int addVariables(int numberOfVariables) throws SolverException {
+
+        if (replaying) {
+            return replayVariables(numberOfVariables);
+        }
+        if (modelBuilding) {
+            throw new SolverException("Variables can not be added during model building");
+        }
+
+        int firstVariableIndex = this.numberOfVariables + 1;
+        ensureVariablesCapacity(this.numberOfVariables + numberOfVariables);
+        for (int index = firstVariableIndex; index < firstVariableIndex + numberOfVariables; index++) {
+            lowerBounds[index] = 0.0;
+            upperBounds[index] = Double.POSITIVE_INFINITY;
+        }
+        this.numberOfVariables += numberOfVariables;
+        return firstVariableIndex;
+    }
+
+    @Override
+    public int addBinaryVariables(int numberOfVariables) throws SolverException {
+
+        if (replaying) {
+            return replayVariables(numberOfVariables);
+        }
+        int firstVariableIndex = addVariables(numberOfVariables);
+        for (int index = firstVariableIndex; index < firstVariableIndex + numberOfVariables; index++) {
+            binary[index] = true;
+            upperBounds[index] = 1.0;
+        }
+        numberOfBinaryVariables += numberOfVariables;
+        return firstVariableIndex;
+    }
+
+    @Override
+    public void reserve(int numberOfVariables, int numberOfConstraints) {
+
+        if (replaying) {
+            return;
+        }
+        ensureVariablesCapacity(numberOfVariables);
+        ensureConstraintsCapacity(numberOfConstraints);
+    }
+
+    /**
+     * Model is kept in arrays, so there is no separate model building mode. Only variables can not be added
+     * until {@link #endModelBuilding() endModelBuilding} is called, the same as for other solvers.
+     */
+    @Override
+    public void beginModelBuilding() {
+
+        if (!replaying) {
+            modelBuilding = true;
+        }
+    }
+
+    @Override
+    public void endModelBuilding() throws SolverException {
+
+        modelBuilding = false;
+        if (replaying) {
+            replaying = false;
+            if (replayedVariables != numberOfVariables || replayedConstraints != numberOfConstraints) {
+                throw new SolverException("Replayed model with " + replayedVariables + " variables and " + replayedConstraints
+                        + " constraints differs from model with " + numberOfVariables + " variables and " + numberOfConstraints + " constraints");
+            }
+        }
+    }
+
+    /**
+     * Resets bounds of continuous variables to default. Right hand sides of constraints added during replay
+     * overwrite right hand sides of consecutive model constraints.
+     * @throws SolverException if model is being built
+     */
+    @Override
+    public void beginDataReplay() throws SolverException {
+
+        if (modelBuilding) {
+            throw new SolverException("Data can not be replayed during model building");
+        }
+        for (int index = 1; index <= numberOfVariables; index++) {
+            if (!binary[index]) {
+                lowerBounds[index] = 0.0;
+                upperBounds[index] = Double.POSITIVE_INFINITY;
+            }
+        }
+        replaying = true;
+        replayedVariables = 0;
+        replayedConstraints = 0;
+    }
+
+    @Override
+    public Solver copy() throws SolverException {
+
+        endModelBuilding();
+        return new OjAlgoSolver(this);
+    }
+
+    @Override
+    public void fixVariables(Map<Integer, Double> fixedValues) throws SolverException {
+
+        fixVariables(toRowBuffer(fixedValues));
+    }
+
+    @Override
+    public void fixVariables(RowBuffer fixedValues) throws SolverException {
+
+        RowBuffer row = new RowBuffer(1);
+        for (int i = 0; i < fixedValues.size(); i++) {
+            row.clear().add(fixedValues.getIndexes()[i], 1.0);
+            addWeightedSumConstraint(row, EQ, fixedValues.getValues()[i]);
+        }
+    }
+
+    @Override
+    public void addEqWeightedSumConstraint(Map<Integer, Double> weights, Double value) throws SolverException {
+
+        addWeightedSumConstraint(toRowBuffer(weights), EQ, value);
+    }
+
+    @Override
+    public void addEqWeightedSumConstraint(RowBuffer weights, double value) throws SolverException {
+
+        addWeightedSumConstraint(weights, EQ, value);
+    }
+
+    @Override
+    public void addEqSumConstraint(Set<Integer> indexes, Double value) throws SolverException {
+
+        addWeightedSumConstraint(toUnitRowBuffer(indexes), EQ, value);
+    }
+
+    @Override
+    public void addUpperBounds(Map<Integer, Double> upperBounds) throws SolverException {
+
+        addUpperBounds(toRowBuffer(upperBounds));
+    }
+
+    @Override
+    public void addUpperBounds(RowBuffer upperBounds) throws SolverException {
+
+        for (int i = 0; i < upperBounds.size(); i++) {
+            this.upperBounds[checkIndex(upperBounds.getIndexes()[i])] = upperBounds.getValues()[i];
+        }
+    }
+
+    @Override
+    public void addLeqWeightedSumConstraint(Map<Integer, Double> weights, Double max) throws SolverException {
+
+        addWeightedSumConstraint(toRowBuffer(weights), LE, max);
+    }
+
+    @Override
+    public void addLeqWeightedSumConstraint(RowBuffer weights, double max) throws SolverException {
+
+        addWeightedSumConstraint(weights, LE, max);
+    }
+
+    @Override
+    public void addLeqSumConstraint(Set<Integer> indexes, Double max) throws SolverException {
+
+        addWeightedSumConstraint(toUnitRowBuffer(indexes), LE, max);
+    }
+
+    @Override
+    public void addLowerBounds(Map<Integer, Double> lowerBounds) throws SolverException {
+
+        addLowerBounds(toRowBuffer(lowerBounds));
+    }
+
+    @Override
+    public void addLowerBounds(RowBuffer lowerBounds) throws SolverException {
+
+        for (int i = 0; i < lowerBounds.size(); i++) {
+            this.lowerBounds[checkIndex(lowerBounds.getIndexes()[i])] = lowerBounds.getValues()[i];
+        }
+    }
+
+    @Override
+    public void addGeqWeightedSumConstraint(Map<Integer, Double> weights, Double min) throws SolverException {
+
+        addWeightedSumConstraint(toRowBuffer(weights), GE, min);
+    }
+
+    @Override
+    public void addGeqWeightedSumConstraint(RowBuffer weights, double min) throws SolverException {
+
+        addWeightedSumConstraint(weights, GE, min);
+    }
+
+    @Override
+    public void addGeqSumConstraint(List<Integer> indexes, Double min) throws SolverException {
+
+        addWeightedSumConstraint(toUnitRowBuffer(indexes), GE, min);
+    }
+
+    @Override
+    public void addImplication(int continuousVariableIndex, int binaryVariableIndex, double bigM) throws SolverException {
+
+        RowBuffer row = new RowBuffer(2)
+                .add(continuousVariableIndex, 1.0)
+                .add(binaryVariableIndex, -1.0*bigM);
+
+        addWeightedSumConstraint(row, LE, 0.0);
+    }
+
+    @Override
+    public void addSumImplication(List<Integer> continuousVariableIndexes, int binaryVariableIndex, double bigM) throws SolverException {
+
+        RowBuffer row = toUnitRowBuffer(continuousVariableIndexes)
+                .add(binaryVariableIndex, -1.0*bigM);
+
+        addWeightedSumConstraint(row, LE, 0.0);
+    }
+
+    @Override
+    public void setObjectiveFunction(Map<Integer, Double> coefficients) throws SolverException {
+
+        setObjectiveFunction(toRowBuffer(coefficients));
+    }
+
+    /**
+     * Sets objective function, coefficients of variables not specified are set to 0.
+     * @throws SolverException if variable index is out of range
+     */
+    @Override
+    public void setObjectiveFunction(RowBuffer coefficients) throws SolverException {
+
+        Arrays.fill(objective, 0.0);
+        for (int i = 0; i < coefficients.size(); i++) {
+            objective[checkIndex(coefficients.getIndexes()[i])] = coefficients.getValues()[i];
+        }
+    }
+
+    /**
+     * ojAlgo does not accept initial solution of MIP model, values are only validated.
+     * @throws SolverException if variable index is out of range
+     */
+    @Override
+    public void setInitialSolution(RowBuffer values) throws SolverException {
+
+        endModelBuilding();
+        for (int i = 0; i < values.size(); i++) {
+            int index = values.getIndexes()[i];
+            if (index < 1 || index > numberOfVariables) {
+                throw new SolverException("Initial solution index: " + index + " out of range: " + numberOfVariables);
+            }
+        }
+    }
+
+    @Override
+    public void setObjectiveDirection(ObjectiveDirection objectiveDirection) {
+
+        this.objectiveDirection = objectiveDirection;
+    }
+
+    @Override
+    public ObjectiveDirection getObjectiveDirection() {
+
+        return objectiveDirection;
+    }
+
+    @Override
+    public void setRelativeGap(double relativeGap) {
+
+        this.relativeGap = relativeGap;
+    }
+
+    @Override
+    public void setTimeOut(long timeOutSeconds) {
+
+        this.timeOutSeconds = timeOutSeconds;
+    }
+
+    /**
+     * ojAlgo does not expose equivalent branch and bound settings, so settings are ignored.
+     */
+    @Override
+    public void applySettings(SolverSettings settings) {
+    }
+
+    /**
+     * ojAlgo optimization can not be interrupted, only optimization that has not started yet is aborted.
+     */
+    @Override
+    public void abort() {
+
+        aborted = true;
+    }
+
+    /**
+     * ojAlgo does not report intermediate solutions of integer models, so listener is never notified.
+     */
+    @Override
+    public void setProgressListener(SolverProgressListener listener) {
+    }
+
+    /**
+     * Creates ojAlgo model from current model and solves it. Time limit of 0 means no limit. Values of binary
+     * variables are rounded, as ojAlgo accepts values within its integer tolerance.
+     */
+    @Override
+    public SolutionStatus solve() throws SolverException {
+
+        endModelBuilding();
+        solutionRelativeGap = Double.NaN;
+        if (aborted) {
+            solutionValues = null;
+            return SolutionStatus.ABORTED;
+        }
+        long start = System.nanoTime();
+        try {
+            ExpressionsBasedModel model = createModel();
+            Optimisation.Result result = objectiveDirection == ObjectiveDirection.MAX ? model.maximise() : model.minimise();
+            elapsedTime = (System.nanoTime() - start) / 1e9;
+
+            Optimisation.State state = result.getState();
+            if (!state.isFeasible()) {
+                solutionValues = null;
+                return switch (state) {
+                    case INFEASIBLE -> SolutionStatus.INFEASIBLE;
+                    case UNBOUNDED -> SolutionStatus.UNBOUNDED;
+                    default -> timeOutSeconds > 0 && elapsedTime >= timeOutSeconds ? SolutionStatus.TIMEOUT : SolutionStatus.ERROR;
+                };
+            }
+
+            solutionValues = new double[numberOfVariables + 1];
+            for (int index = 1; index <= numberOfVariables; index++) {
+                double value = result.doubleValue(index - 1);
+                solutionValues[index] = binary[index] ? Math.rint(value) : value;
+            }
+            objectiveValue = result.getValue();
+            if (state.isOptimal() && numberOfBinaryVariables == 0) {
+                solutionRelativeGap = 0.0;
+            }
+            return state.isOptimal() ? SolutionStatus.OPTIMAL : SolutionStatus.SUBOPTIMAL;
+        }
+        catch (RuntimeException e) {
+            throw new SolverException(e.getMessage());
+        }
+    }
+
+    @Override
+    public double getObjectiveValue() throws SolverException {
+
+        checkSolution();
+        return objectiveValue;
+    }
+
+    @Override
+    public Map<Integer, Double> getSolution() throws SolverException {
+
+        double[] values = getSolutionValues();
+        Map<Integer, Double>  solution = new TreeMap<>();
+        for (int i = 1; i < values.length; i++) {
+            solution.put(i, values[i]);
+        }
+        return solution;
+    }
+
+    @Override
+    public double[] getSolutionValues() throws SolverException {
+
+        checkSolution();
+        return solutionValues.clone();
+    }
+
+    /**
+     * ojAlgo does not report bound of integer model, so gap is known only for optimal solution of model without
+     * binary variables. Optimal solution of integer model is within configured relative gap, see {@link #gapTolerance(double)}.
+     * @return 0 for optimal solution of linear model, NaN otherwise
+     */
+    @Override
+    public double getSolutionRelativeGap() {
+        return solutionRelativeGap;
+    }
+
+    @Override
+    public double getSolutionElapsedTime() {
+        return elapsedTime;
+    }
+
+    @Override
+    public int getNumberOfConstraints() {
+        return numberOfConstraints;
+    }
+
+    @Override
+    public int getNumberOfVariables() {
+        return numberOfVariables;
+    }
+
+    @Override
+    public int getNumberOfBinaryVariables() {
+        return numberOfBinaryVariables;
+    }
+
+    @Override
+    public int getNumberOfNonZeros() {
+        return numberOfNonZeros;
+    }
+
+    @Override
+    public void printModel() {
+
+        StringBuilder model = new StringBuilder(objectiveDirection.name()).append(':');
+        for (int index = 1; index <= numberOfVariables; index++) {
+            if (objective[index] != 0.0) {
+                model.append(' ').append(objective[index]).append(" x").append(index);
+            }
+        }
+        model.append(System.lineSeparator());
+        for (int row = 0; row < numberOfConstraints; row++) {
+            model.append("R").append(row + 1).append(':');
+            for (int position = rowStart[row]; position < rowStart[row + 1]; position++) {
+                model.append(' ').append(coefficientValues[position]).append(" x").append(coefficientIndexes[position]);
+            }
+            model.append(rowSign[row] == EQ ? " = " : rowSign[row] == LE ? " <= " : " >= ").append(rowValue[row]).append(System.lineSeparator());
+        }
+        for (int index = 1; index <= numberOfVariables; index++) {
+            model.append(lowerBounds[index]).append(" <= x").append(index).append(" <= ").append(upperBounds[index])
+                    .append(binary[index] ? " binary" : "").append(System.lineSeparator());
+        }
+        System.out.print(model);
+    }
+
+    /**
+     * Model does not hold native resources, arrays are released.
+     */
+    @Override
+    public void free() {
+
+        binary = null;
+        lowerBounds = null;
+        upperBounds = null;
+        objective = null;
+        rowStart = null;
+        rowSign = null;
+        rowValue = null;
+        coefficientIndexes = null;
+        coefficientValues = null;
+        solutionValues = null;
+    }
+
+    private ExpressionsBasedModel createModel() {
+
+        ExpressionsBasedModel model = new ExpressionsBasedModel();
+        if (timeOutSeconds > 0) {
+            model.options.time_abort = 1000L * timeOutSeconds;
+        }
+        model.options.integer(IntegerStrategy.DEFAULT.withGapTolerance(gapTolerance(relativeGap)));
+
+        Variable[] variables = new Variable[numberOfVariables + 1];
+        for (int index = 1; index <= numberOfVariables; index++) {
+            Variable variable = model.newVariable("x" + index);
+            if (lowerBounds[index] != Double.NEGATIVE_INFINITY) {
+                variable.lower(lowerBounds[index]);
+            }
+            if (upperBounds[index] != Double.POSITIVE_INFINITY) {
+                variable.upper(upperBounds[index]);
+            }
+            if (objective[index] != 0.0) {
+                variable.weight(objective[index]);
+            }
+            if (binary[index]) {
+                variable.integer(true);
+            }
+            variables[index] = variable;
+        }
+
+        for (int row = 0; row < numberOfConstraints; row++) {
+            Expression expression = model.newExpression("R" + (row + 1));
+            for (int position = rowStart[row]; position < rowStart[row + 1]; position++) {
+                expression.set(variables[coefficientIndexes[position]], coefficientValues[position]);
+            }
+            switch (rowSign[row]) {
+                case EQ -> expression.level(rowValue[row]);
+                case LE -> expression.upper(rowValue[row]);
+                default -> expression.lower(rowValue[row]);
+            }
+        }
+        return model;
+    }
+
+    /**
+     * ojAlgo stops exploring node when incumbent and node bound do not differ according to gap tolerance, that is when
+     * their difference relative to larger of them does not exceed epsilon of tolerance. Epsilon of context of given
+     * precision is 10^(1 - precision), so precision 1 - log10(relativeGap), rounded up, gives epsilon not larger than
+     * relative gap, e.g. relative gap 1e-4 corresponds to precision 5.
+     */
+    static NumberContext gapTolerance(double relativeGap) {
+
+        int significantDigits = relativeGap > 0.0 ? (int) Math.ceil(1.0 - Math.log10(relativeGap)) : MAX_SIGNIFICANT_DIGITS;
+        return NumberContext.of(Math.min(Math.max(significantDigits, 1), MAX_SIGNIFICANT_DIGITS));
+    }
+
+    private void addWeightedSumConstraint(RowBuffer weights, byte sign, double value) throws SolverException {
+
+        if (replaying) {
+            if (replayedConstraints >= numberOfConstraints) {
+                throw new SolverException("Replayed constraints: " + (replayedConstraints + 1) + " exceed model constraints: " + numberOfConstraints);
+            }
+            rowValue[replayedConstraints++] = value;
+            return;
+        }
+
+        int size = weights.size();
+        int[] weightIndexes = weights.getIndexes();
+        for (int i = 0; i < size; i++) {
+            if (weightIndexes[i] > numberOfVariables) {
+                throw new SolverException("Constraint index: " + weightIndexes[i] + " out of range: " + numberOfVariables);
+            }
+        }
+
+        ensureConstraintsCapacity(numberOfConstraints + 1);
+        ensureNonZerosCapacity(numberOfNonZeros + size);
+        System.arraycopy(weightIndexes, 0, coefficientIndexes, numberOfNonZeros, size);
+        System.arraycopy(weights.getValues(), 0, coefficientValues, numberOfNonZeros, size);
+        numberOfNonZeros += size;
+
+        rowSign[numberOfConstraints] = sign;
+        rowValue[numberOfConstraints] = value;
+        numberOfConstraints++;
+        rowStart[numberOfConstraints] = numberOfNonZeros;
+    }
+
+    private int replayVariables(int numberOfVariables) throws SolverException {
+
+        int firstVariableIndex = replayedVariables + 1;
+        replayedVariables += numberOfVariables;
+        if (replayedVariables > this.numberOfVariables) {
+            throw new SolverException("Replayed variables: " + replayedVariables + " exceed model variables: " + this.numberOfVariables);
+        }
+        return firstVariableIndex;
+    }
+
+    private int checkIndex(int index) throws SolverException {
+
+        if (index < 1 || index > numberOfVariables) {
+            throw new SolverException("Variable index: " + index + " out of range: " + numberOfVariables);
+        }
+        return index;
+    }
+
+    private void checkSolution() throws SolverException {
+
+        if (solutionValues == null) {
+            throw new SolverException("Solution is not available");
+        }
+    }
+
+    /**
+     * Grows variables arrays geometrically, element 0 of each array is not used.
+     */
+    private void ensureVariablesCapacity(int requiredVariables) {
+
+        if (requiredVariables + 1 > binary.length) {
+            int capacity = Math.max(requiredVariables + 1, 2 * binary.length);
+            binary = Arrays.copyOf(binary, capacity);
+            lowerBounds = Arrays.copyOf(lowerBounds, capacity);
+            upperBounds = Arrays.copyOf(upperBounds, capacity);
+            objective = Arrays.copyOf(objective, capacity);
+        }
+    }
+
+    private void ensureConstraintsCapacity(int requiredConstraints) {
+
+        if (requiredConstraints > rowSign.length) {
+            int capacity = Math.max(requiredConstraints, 2 * rowSign.length);
+            rowStart = Arrays.copyOf(rowStart, capacity + 1);
+            rowSign = Arrays.copyOf(rowSign, capacity);
+            rowValue = Arrays.copyOf(rowValue, capacity);
+        }
+    }
+
+    private void ensureNonZerosCapacity(int requiredNonZeros) {
+
+        if (requiredNonZeros > coefficientIndexes.length) {
+            int capacity = Math.max(requiredNonZeros, 2 * coefficientIndexes.length);
+            coefficientIndexes = Arrays.copyOf(coefficientIndexes, capacity);
+            coefficientValues = Arrays.copyOf(coefficientValues, capacity);
+        }
+    }
+
+    private static RowBuffer toRowBuffer(Map<Integer, Double> indexedValues) {
+
+        RowBuffer row = new RowBuffer(indexedValues.size());
+        for (Entry<Integer, Double> indexedValue : indexedValues.entrySet()) {
+            row.add(indexedValue.getKey(), indexedValue.getValue());
+        }
+        return row;
+    }
+
+    private static RowBuffer toUnitRowBuffer(Collection<Integer> indexes) {
+
+        RowBuffer row = new RowBuffer(indexes.size() + 1);
+        for (int index : indexes) {
+            row.add(index, 1.0);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+import java.util.Arrays;
+
+/**
+ * Reusable, array-backed list of variable index and coefficient pairs describing single model row
+ * (constraint, objective function or set of bounds). Buffer grows when needed and after {@link #clear() clearing}
+ * it can be filled again without new allocations, so one buffer can be used to build all rows of the model.
+ */
+public class RowBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] indexes;
+    private double[] values;
+    private int size;
+
+    public RowBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity initial number of pairs that can be added before buffer has to grow
+     */
+    public RowBuffer(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        this.indexes = new int[initialCapacity];
+        this.values = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Appends variable index and coefficient pair.
+     * @param index variable index
+     * @param value variable coefficient
+     * @return this buffer
+     */
+    public RowBuffer add(int index, double value) {
+
+        if (size == indexes.length) {
+            int newCapacity = indexes.length * 2;
+            indexes = Arrays.copyOf(indexes, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        indexes[size] = index;
+        values[size] = value;
+        size++;
+        return this;
+    }
+
+    /**
+     * Removes all pairs, allocated arrays are kept.
+     * @return this buffer
+     */
+    public RowBuffer clear() {
+        size = 0;
+        return this;
+    }
+
+    /**
+     * @return number of pairs in buffer
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns backing array of variable indexes. Only first {@link #size() size} elements are valid.
+     * @return variable indexes
+     */
+    public int[] getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Returns backing array of coefficients. Only first {@link #size() size} elements are valid.
+     * @return variable coefficients
+     */
+    public double[] getValues() {
+        return values;
+    }
+}
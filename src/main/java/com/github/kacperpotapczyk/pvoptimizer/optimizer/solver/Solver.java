@@ -13,6 +13,14 @@ import java.util.Set;
  * At first create model by adding variables, constraints and objective function
  * then {@link #solve() solve} created model and {@link #getSolution() receive solution} and {@link #getObjectiveValue() objective function} value.
  * Do not forget to {@link #free() free} solver after computations.
+ * Constraints should be added between {@link #beginModelBuilding() beginModelBuilding} and {@link #endModelBuilding() endModelBuilding}
+ * calls, after all variables are added.
+ * Methods accepting {@link RowBuffer RowBuffer} do not copy nor box its content, buffer can be reused after method returns.
+ * Built model can be {@link #copy() copied} and data of copy can be overwritten by {@link #beginDataReplay() data replay},
+ * so models of the same structure do not have to be built from scratch.
+ * Running optimization can be {@link #abort() aborted} from other thread, e.g. when copies of model solved
+ * with different {@link SolverSettings settings} are raced against each other.
+ * Solutions improved during optimization can be observed by {@link SolverProgressListener progress listener}.
  */
 public interface Solver {
 
@@ -32,6 +40,49 @@ public interface Solver {
      */
     int addBinaryVariables(int numberOfVariables) throws SolverException ;
 
+    /**
+     * Allocates memory for model of given size up front, so adding variables and constraints does not reallocate model
+     * each time. Size is only a hint, model can grow above it.
+     * @param numberOfVariables expected total number of variables
+     * @param numberOfConstraints expected total number of constraints
+     * @throws SolverException if memory can not be allocated
+     */
+    void reserve(int numberOfVariables, int numberOfConstraints) throws SolverException;
+
+    /**
+     * Switches solver to bulk constraint loading mode. Until {@link #endModelBuilding() endModelBuilding} is called
+     * variables can not be added. Bounds and objective function may be set but can be applied by solver only when
+     * model building ends.
+     * @throws SolverException if solver can not switch to model building mode
+     */
+    void beginModelBuilding() throws SolverException;
+
+    /**
+     * Ends bulk constraint loading mode started by {@link #beginModelBuilding() beginModelBuilding}
+     * or data replay started by {@link #beginDataReplay() beginDataReplay}.
+     * Called implicitly by {@link #solve() solve}.
+     * @throws SolverException if solver can not leave model building mode or replayed model differs from original one
+     */
+    void endModelBuilding() throws SolverException;
+
+    /**
+     * Switches complete model to data replay mode. In this mode model has to be built again by the same sequence of calls
+     * which built it, but only right hand sides of constraints, bounds and objective function are overwritten.
+     * Variables are not added, their indexes are returned in the same order as during model building, and coefficients
+     * of constraints are kept. Bounds of continuous variables are reset to default. Replay ends with
+     * {@link #endModelBuilding() endModelBuilding}.
+     * @throws SolverException if model is not complete
+     */
+    void beginDataReplay() throws SolverException;
+
+    /**
+     * Creates independent copy of complete model with the same variables, constraints, objective function and settings.
+     * Copy has to be {@link #free() freed} separately.
+     * @return copy of model
+     * @throws SolverException if model can not be copied
+     */
+    Solver copy() throws SolverException;
+
     /**
      * Constrains variables to given value.
      * @param fixedValues variable index and fix value pairs
@@ -39,6 +90,13 @@ public interface Solver {
      */
     void fixVariables(Map<Integer, Double> fixedValues) throws SolverException;
 
+    /**
+     * Constrains variables to given value.
+     * @param fixedValues buffer of variable index and fix value pairs
+     * @throws SolverException if constraint can not be added
+     */
+    void fixVariables(RowBuffer fixedValues) throws SolverException;
+
     /**
      * Adds constraint to model where sum of variables each multiplied by its coefficient has to be equal to given value.
      * @param weights variable index and coefficient value pairs
@@ -47,6 +105,14 @@ public interface Solver {
      */
     void addEqWeightedSumConstraint(Map<Integer, Double> weights, Double value) throws SolverException;
 
+    /**
+     * Adds constraint to model where sum of variables each multiplied by its coefficient has to be equal to given value.
+     * @param weights buffer of variable index and coefficient value pairs
+     * @param value right hand side value of equality constraint
+     * @throws SolverException if constraint can not be added
+     */
+    void addEqWeightedSumConstraint(RowBuffer weights, double value) throws SolverException;
+
     /**
      * Adds constraint to model where sum of variables has to be equal to given value.
      * @param indexes indexes of variables
@@ -62,6 +128,13 @@ public interface Solver {
      */
     void addUpperBounds(Map<Integer, Double> upperBounds) throws SolverException;
 
+    /**
+     * Sets upper bound constraint for specified variables.
+     * @param upperBounds buffer of variable index and upper bound value pairs
+     * @throws SolverException if constraints can not be added
+     */
+    void addUpperBounds(RowBuffer upperBounds) throws SolverException;
+
     /**
      * Adds constraint to model where sum of variables each multiplied by its coefficient has to be lower or equal than given value.
      * @param weights variable index and coefficient value pairs
@@ -70,6 +143,14 @@ public interface Solver {
      */
     void addLeqWeightedSumConstraint(Map<Integer, Double> weights, Double max) throws SolverException;
 
+    /**
+     * Adds constraint to model where sum of variables each multiplied by its coefficient has to be lower or equal than given value.
+     * @param weights buffer of variable index and coefficient value pairs
+     * @param max right hand side value of lower or equal than constraint
+     * @throws SolverException if constraint can not be added
+     */
+    void addLeqWeightedSumConstraint(RowBuffer weights, double max) throws SolverException;
+
     /**
      * Adds constraint to model where sum of variables has to be lower or equal than given value.
      * @param indexes indexes of variables
@@ -85,6 +166,13 @@ public interface Solver {
      */
     void addLowerBounds(Map<Integer, Double> lowerBounds) throws SolverException;
 
+    /**
+     * Sets lower bound constraints for specified variables.
+     * @param lowerBounds buffer of variable index and lower bound value pairs
+     * @throws SolverException if constraints can not be added
+     */
+    void addLowerBounds(RowBuffer lowerBounds) throws SolverException;
+
     /**
      * Adds constraint to model where sum of variables each multiplied by its coefficient has to be greater or equal than given value.
      * @param weights variable index and coefficient value pairs
@@ -93,6 +181,14 @@ public interface Solver {
      */
     void addGeqWeightedSumConstraint(Map<Integer, Double> weights, Double min) throws SolverException;
 
+    /**
+     * Adds constraint to model where sum of variables each multiplied by its coefficient has to be greater or equal than given value.
+     * @param weights buffer of variable index and coefficient value pairs
+     * @param min right hand side value of greater or equal than constraint
+     * @throws SolverException if constraint can not be added
+     */
+    void addGeqWeightedSumConstraint(RowBuffer weights, double min) throws SolverException;
+
     /**
      * Adds constraint to model where sum of variables has to be greater or equal than given value.
      * @param indexes indexes of variables
@@ -106,7 +202,8 @@ public interface Solver {
      * This implication does not enforce binary variable value of 0 when continuous variable is equal 0.
      * @param continuousVariableIndex index of continuous variable
      * @param binaryVariableIndex index of binary variable
-     * @param bigM big multiplier value, has to be greater than possible value of continuous variable
+     * @param bigM big multiplier value, has to be greater than possible value of continuous variable, the tightest
+     *             valid value gives the strongest linear relaxation
      * @throws SolverException if implication can not be added
      */
     void addImplication(int continuousVariableIndex, int binaryVariableIndex, double bigM) throws SolverException;
@@ -116,7 +213,8 @@ public interface Solver {
      * This implication does not enforce binary variable value of 0 when sum of continuous variables is equal 0.
      * @param continuousVariableIndexes indexes of continuous variables
      * @param binaryVariableIndex index of binary variable
-     * @param bigM big multiplier value, has to be greater than possible sum of continuous variables
+     * @param bigM big multiplier value, has to be greater than possible sum of continuous variables, the tightest
+     *             valid value gives the strongest linear relaxation
      * @throws SolverException if implication can not be added
      */
     void addSumImplication(List<Integer> continuousVariableIndexes, int binaryVariableIndex, double bigM) throws SolverException;
@@ -129,6 +227,23 @@ public interface Solver {
      */
     void setObjectiveFunction(Map<Integer, Double> coefficients) throws SolverException;
 
+    /**
+     * Set objective function to be minimized or maximized during optimization. Objective function is sum of variable
+     * multiplied by its coefficient. If variable is not specified then its coefficient is 0.
+     * @param coefficients buffer of variable index and coefficient pairs
+     * @throws SolverException if objective function can not be set
+     */
+    void setObjectiveFunction(RowBuffer coefficients) throws SolverException;
+
+    /**
+     * Provides expected values of variables, e.g. solution of similar model solved before, which solver uses as starting
+     * point of optimization. Values do not have to be feasible, variables not specified are assumed to be 0.
+     * Has to be called after model is complete.
+     * @param values buffer of variable index and expected value pairs
+     * @throws SolverException if initial solution can not be applied
+     */
+    void setInitialSolution(RowBuffer values) throws SolverException;
+
     /**
      * Defines if objective function has to be minimized or maximized by solver.
      * @param objectiveDirection optimization goal direction
@@ -153,6 +268,28 @@ public interface Solver {
      */
     void setTimeOut(long timeOutSeconds);
 
+    /**
+     * Applies branch and bound settings. Settings not supported by solver are ignored.
+     * @param settings branch and bound settings
+     * @throws SolverException if settings can not be applied
+     */
+    void applySettings(SolverSettings settings) throws SolverException;
+
+    /**
+     * Requests to stop running or next optimization, can be called from any thread. Aborted {@link #solve() solve}
+     * returns {@link SolutionStatus#SUBOPTIMAL SUBOPTIMAL} if solution was found before abort,
+     * otherwise {@link SolutionStatus#ABORTED ABORTED}.
+     */
+    void abort();
+
+    /**
+     * Sets listener notified about improved integer solutions found during optimization. Listener is not part of
+     * {@link #copy() copied} model.
+     * @param listener progress listener, null removes current listener
+     * @throws SolverException if listener can not be set
+     */
+    void setProgressListener(SolverProgressListener listener) throws SolverException;
+
     /**
      * Starts optimization of created model.
      * @return solution status
@@ -174,6 +311,14 @@ public interface Solver {
      */
     Map<Integer, Double> getSolution() throws SolverException;
 
+    /**
+     * Return values assigned to variables obtained during optimization as array indexed by variable index.
+     * Variable indexes start from 1, so element 0 is not used.
+     * @return variable values
+     * @throws SolverException if solution is not available
+     */
+    double[] getSolutionValues() throws SolverException;
+
     /**
      * Return relative gap between relaxed solution and best integer solution
      * @return relative gap between relaxed solution and best integer solution
@@ -186,6 +331,30 @@ public interface Solver {
      */
     double getSolutionElapsedTime();
 
+    /**
+     * Returns number of constraints in model.
+     * @return number of constraints
+     */
+    int getNumberOfConstraints();
+
+    /**
+     * Returns number of variables in model.
+     * @return number of variables
+     */
+    int getNumberOfVariables();
+
+    /**
+     * Returns number of binary variables in model.
+     * @return number of binary variables
+     */
+    int getNumberOfBinaryVariables();
+
+    /**
+     * Returns number of non-zero coefficients in constraints matrix.
+     * @return number of non-zero coefficients
+     */
+    int getNumberOfNonZeros();
+
     /**
      * Prints constraints matrix to standard output.
      */
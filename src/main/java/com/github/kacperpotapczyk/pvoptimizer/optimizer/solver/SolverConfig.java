@@ -0,0 +1,40 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects {@link Solver solver} backend with optimizer.solver property. Supported values are lpsolve (default)
+ * and ojalgo, which does not require native libraries.
+ */
+@Configuration
+public class SolverConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "optimizer.solver", havingValue = "lpsolve", matchIfMissing = true)
+    public SolverFactory lpSolveSolverFactory() {
+        return LpSolveSolver::new;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "optimizer.solver", havingValue = "ojalgo")
+    public SolverFactory ojAlgoSolverFactory() {
+
+        return new SolverFactory() {
+            @Override
+            public Solver create() {
+                return new OjAlgoSolver();
+            }
+
+            /**
+             * ojAlgo ignores branch and bound settings and can not abort running optimization, so its copies
+             * would solve the same model until the slowest one finishes.
+             */
+            @Override
+            public boolean supportsPortfolio() {
+                return false;
+            }
+        };
+    }
+}
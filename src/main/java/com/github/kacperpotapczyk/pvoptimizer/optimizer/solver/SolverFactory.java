@@ -0,0 +1,26 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+
+/**
+ * Creates new {@link Solver solver} instances with empty model. Implementation is selected by {@link SolverConfig}.
+ */
+@FunctionalInterface
+public interface SolverFactory {
+
+    /**
+     * Creates solver with empty model.
+     * @return new solver
+     * @throws SolverException when solver could not be created
+     */
+    Solver create() throws SolverException;
+
+    /**
+     * Returns whether created solvers apply branch and bound {@link SolverSettings settings} and can be
+     * {@link Solver#abort() aborted} during optimization, so their copies can race in solver portfolio.
+     * @return true if copies of solver can race
+     */
+    default boolean supportsPortfolio() {
+        return true;
+    }
+}
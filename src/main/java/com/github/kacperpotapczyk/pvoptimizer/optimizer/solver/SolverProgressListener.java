@@ -0,0 +1,16 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+/**
+ * Receives solutions improved by {@link Solver solver} during optimization, before {@link Solver#solve() solve} returns.
+ * Listener is called on solving thread, so it should return quickly and must not call solver.
+ */
+@FunctionalInterface
+public interface SolverProgressListener {
+
+    /**
+     * Called when solver finds feasible integer solution better than previous ones.
+     * @param objectiveValue objective function value of found solution
+     * @param solutionValues values of all variables, indexed like {@link Solver#getSolutionValues() solution values}
+     */
+    void improvedSolution(double objectiveValue, double[] solutionValues);
+}
@@ -0,0 +1,21 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.BranchingRule;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.NodeSelection;
+
+/**
+ * Branch and bound settings of {@link Solver solver}.
+ * @param name name used in logs
+ * @param branchingRule branch explored first
+ * @param nodeSelection selection of branching variable
+ * @param presolve if model is reduced before optimization
+ * @param improve if additional iterations are made to improve solution accuracy and found integer solutions
+ * @param depthLimit maximal branch and bound depth, negative value is relative to number of binary variables, 0 means no limit
+ */
+public record SolverSettings(String name, BranchingRule branchingRule, NodeSelection nodeSelection, boolean presolve, boolean improve, int depthLimit) {
+
+    /**
+     * Settings used when none are applied.
+     */
+    public static final SolverSettings DEFAULT = new SolverSettings("default", BranchingRule.CEILING, NodeSelection.FIRST, true, false, -50);
+}
@@ -0,0 +1,19 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums;
+
+/**
+ * Defines which branch of binary variable is explored first during branch and bound.
+ */
+public enum BranchingRule {
+    /**
+     * Variable is set to 1 first.
+     */
+    CEILING,
+    /**
+     * Variable is set to 0 first.
+     */
+    FLOOR,
+    /**
+     * Branch is selected by solver based on fractional value of variable.
+     */
+    AUTOMATIC
+}
@@ -0,0 +1,19 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums;
+
+/**
+ * Defines how branching variable is selected during branch and bound.
+ */
+public enum NodeSelection {
+    /**
+     * Lowest indexed non-integer variable.
+     */
+    FIRST,
+    /**
+     * Variable with largest gap between its bounds.
+     */
+    GAP,
+    /**
+     * Variable with best pseudo cost estimate.
+     */
+    PSEUDO_COST
+}
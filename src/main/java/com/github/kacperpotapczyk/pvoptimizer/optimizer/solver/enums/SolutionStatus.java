@@ -26,6 +26,10 @@ public enum SolutionStatus {
      * Optimal variables values goes to infinity.
      */
     UNBOUNDED,
+    /**
+     * Computation is {@link Solver#abort() aborted} before any solution is found.
+     */
+    ABORTED,
     /**
      * Error during optimization occurred.
      */
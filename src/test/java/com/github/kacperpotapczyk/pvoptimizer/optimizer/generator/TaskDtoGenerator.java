@@ -0,0 +1,169 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.generator;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.*;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic tasks resembling household installation: PV production follows daylight bell curve,
+ * demand has morning and evening peaks, purchase price follows day and night tariff and is always higher than sell price.
+ * Generation is deterministic for given seed and task id.
+ */
+@Getter
+@Builder
+public class TaskDtoGenerator {
+
+    /**
+     * Number of intervals of generated tasks.
+     */
+    @Builder.Default
+    private final int horizonLength = 96;
+    /**
+     * Duration of single interval in hours.
+     */
+    @Builder.Default
+    private final double intervalDuration = 0.25;
+    /**
+     * Number of contracts, every second one is sell contract.
+     */
+    @Builder.Default
+    private final int contracts = 2;
+    @Builder.Default
+    private final int storages = 1;
+    @Builder.Default
+    private final int movableDemands = 1;
+    /**
+     * Number of start intervals of each movable demand, spread evenly over horizon.
+     */
+    @Builder.Default
+    private final int movableDemandStartIntervals = 8;
+    /**
+     * Number of intervals of movable demand profile.
+     */
+    @Builder.Default
+    private final int movableDemandLength = 8;
+    @Builder.Default
+    private final double pvPeakPower = 8.0;
+    @Builder.Default
+    private final double baseDemand = 0.5;
+    @Builder.Default
+    private final long timeoutSeconds = 60;
+    @Builder.Default
+    private final double relativeGap = 1e-6;
+    @Builder.Default
+    private final long seed = 1L;
+
+    public TaskDto generate(long taskId) {
+
+        Random random = new Random(seed * 31 + taskId);
+        List<Double> intervals = Collections.nCopies(horizonLength, intervalDuration);
+
+        return TaskDto.newBuilder()
+                .setId(taskId)
+                .setTimeoutSeconds(timeoutSeconds)
+                .setRelativeGap(relativeGap)
+                .setIntervals(new ArrayList<>(intervals))
+                .setProduction(new ProductionDto(1L, "pv production", productionProfile(random)))
+                .setDemand(new DemandDto(1L, "home demand", demandProfile(random)))
+                .setContracts(contracts(random))
+                .setStorages(storages())
+                .setMovableDemands(movableDemands())
+                .build();
+    }
+
+    private List<Double> productionProfile(Random random) {
+
+        List<Double> profile = new ArrayList<>(horizonLength);
+        for (int interval = 0; interval < horizonLength; interval++) {
+            double hour = hourOfDay(interval);
+            double daylight = Math.sin(Math.PI * (hour - 6.0) / 12.0);
+            double cloudiness = 0.7 + 0.3 * random.nextDouble();
+            profile.add(hour > 6.0 && hour < 18.0 ? pvPeakPower * daylight * cloudiness : 0.0);
+        }
+        return profile;
+    }
+
+    private List<Double> demandProfile(Random random) {
+
+        List<Double> profile = new ArrayList<>(horizonLength);
+        for (int interval = 0; interval < horizonLength; interval++) {
+            double hour = hourOfDay(interval);
+            double morningPeak = 1.5 * Math.exp(-Math.pow(hour - 7.5, 2));
+            double eveningPeak = 2.5 * Math.exp(-Math.pow(hour - 19.0, 2) / 2.0);
+            profile.add(baseDemand + morningPeak + eveningPeak + 0.2 * random.nextDouble());
+        }
+        return profile;
+    }
+
+    private List<ContractDto> contracts(Random random) {
+
+        List<ContractDto> contractDtoList = new ArrayList<>(contracts);
+        for (int i = 0; i < contracts; i++) {
+
+            boolean purchase = i % 2 == 0;
+            double priceLevel = purchase ? 0.6 + 0.1 * random.nextDouble() : 0.1 + 0.05 * random.nextDouble();
+            List<Double> unitPrice = new ArrayList<>(horizonLength);
+            for (int interval = 0; interval < horizonLength; interval++) {
+                double hour = hourOfDay(interval);
+                double tariff = hour >= 22.0 || hour < 6.0 ? 0.6 : 1.0;
+                unitPrice.add(priceLevel * tariff);
+            }
+
+            contractDtoList.add(ContractDto.newBuilder()
+                    .setId(i + 1L)
+                    .setName(purchase ? "purchase " + i : "sell " + i)
+                    .setContractDirection(purchase ? ContractDirectionDto.PURCHASE : ContractDirectionDto.SELL)
+                    .setUnitPrice(unitPrice)
+                    .build());
+        }
+        return contractDtoList;
+    }
+
+    private List<StorageDto> storages() {
+
+        List<StorageDto> storageDtoList = new ArrayList<>(storages);
+        for (int i = 0; i < storages; i++) {
+            storageDtoList.add(StorageDto.newBuilder()
+                    .setId(i + 1L)
+                    .setName("storage " + i)
+                    .setMaxCharge(5.0)
+                    .setMaxDischarge(5.0)
+                    .setMaxCapacity(10.0)
+                    .setInitialEnergy(5.0)
+                    .build());
+        }
+        return storageDtoList;
+    }
+
+    private List<MovableDemandDto> movableDemands() {
+
+        int lastStartInterval = Math.max(horizonLength - movableDemandLength, 0);
+        int step = Math.max(lastStartInterval / Math.max(movableDemandStartIntervals, 1), 1);
+
+        List<MovableDemandDto> movableDemandDtoList = new ArrayList<>(movableDemands);
+        for (int i = 0; i < movableDemands; i++) {
+
+            List<Integer> startIntervals = new ArrayList<>(movableDemandStartIntervals);
+            for (int j = 0; j < movableDemandStartIntervals && j * step <= lastStartInterval; j++) {
+                startIntervals.add(j * step);
+            }
+
+            movableDemandDtoList.add(MovableDemandDto.newBuilder()
+                    .setId(i + 1L)
+                    .setName("movable demand " + i)
+                    .setProfile(new ArrayList<>(Collections.nCopies(movableDemandLength, 2.0)))
+                    .setStartIntervals(startIntervals)
+                    .build());
+        }
+        return movableDemandDtoList;
+    }
+
+    private double hourOfDay(int interval) {
+        return (interval * intervalDuration) % 24.0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.generator;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.TaskDto;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.mapper.TaskDtoToTask;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDtoGeneratorTest {
+
+    @Test
+    void generatedTaskIsValid() {
+
+        TaskDtoGenerator generator = TaskDtoGenerator.builder()
+                .horizonLength(672)
+                .contracts(3)
+                .storages(2)
+                .movableDemands(2)
+                .movableDemandStartIntervals(10)
+                .build();
+
+        Task task = new TaskDtoToTask().map(generator.generate(7L));
+
+        assertEquals(7L, task.getId());
+        assertEquals(672, task.optimizationHorizonLength());
+        assertEquals(3, task.getContracts().size());
+        assertEquals(2, task.getStorages().size());
+        assertEquals(2, task.getMovableDemands().size());
+        task.getMovableDemands().forEach(movableDemand -> assertEquals(10, movableDemand.startIntervals().size()));
+    }
+
+    @Test
+    void generationIsDeterministic() {
+
+        TaskDtoGenerator generator = TaskDtoGenerator.builder().seed(3L).build();
+
+        TaskDto first = generator.generate(1L);
+        TaskDto second = generator.generate(1L);
+
+        assertEquals(first, second);
+        assertNotEquals(first.getDemand(), generator.generate(2L).getDemand());
+    }
+}
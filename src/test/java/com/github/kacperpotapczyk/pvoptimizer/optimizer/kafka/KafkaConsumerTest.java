@@ -0,0 +1,74 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result.ResultDto;
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.TaskDto;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics.OptimizerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KafkaConsumerTest {
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void failedPublicationDoesNotBlockFollowingOffsets() throws InterruptedException {
+        // result of record 0 can not be published, record 1 is still committed after record 0 is given up
+
+        Map<String, AtomicInteger> sendAttempts = new ConcurrentHashMap<>();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaProducer kafkaProducer = new KafkaProducer(null, meterRegistry) {
+            @Override
+            public CompletableFuture<SendResult<String, ResultDto>> send(String key, ResultDto resultDto) {
+
+                sendAttempts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+                return "failing".equals(key)
+                        ? CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))
+                        : CompletableFuture.completedFuture(null);
+            }
+        };
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+
+        KafkaConsumer kafkaConsumer = new KafkaConsumer(
+                kafkaProducer,
+                (task, context) -> Result.builder().id(1L).optimizationStatus(OptimizationStatus.SOLUTION_FOUND).build(),
+                taskDto -> null,
+                result -> new ResultDto(),
+                new KafkaListenerEndpointRegistry(),
+                executor,
+                new OptimizerMetrics(meterRegistry),
+                new OffsetTracker());
+        ReflectionTestUtils.setField(kafkaConsumer, "containerId", "test-container");
+        ReflectionTestUtils.setField(kafkaConsumer, "sendAttempts", 3);
+
+        CountDownLatch committed = new CountDownLatch(1);
+        kafkaConsumer.listener(new ConsumerRecord<>("pvoptimizer", 0, 0L, "failing", new TaskDto()), () -> {});
+        kafkaConsumer.listener(new ConsumerRecord<>("pvoptimizer", 0, 1L, "succeeding", new TaskDto()), committed::countDown);
+
+        assertTrue(committed.await(5, TimeUnit.SECONDS));
+        assertEquals(3, sendAttempts.get("failing").get());
+        assertEquals(1, sendAttempts.get("succeeding").get());
+    }
+}
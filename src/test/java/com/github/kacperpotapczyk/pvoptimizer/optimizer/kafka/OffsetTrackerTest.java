@@ -0,0 +1,100 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffsetTrackerTest {
+
+    private final TopicPartition partition = new TopicPartition("pvoptimizer", 0);
+
+    @Test
+    public void inOrderCompletion() {
+
+        OffsetTracker offsetTracker = new OffsetTracker();
+        Acknowledgment first = () -> {};
+        Acknowledgment second = () -> {};
+        OffsetTracker.Registration firstRecord = offsetTracker.register(partition, 0L, first);
+        OffsetTracker.Registration secondRecord = offsetTracker.register(partition, 1L, second);
+
+        assertEquals(Optional.of(first), offsetTracker.complete(firstRecord));
+        assertEquals(Optional.of(second), offsetTracker.complete(secondRecord));
+    }
+
+    @Test
+    public void outOfOrderCompletion() {
+        // record 1 and 2 are finished before record 0
+        // nothing can be acknowledged until record 0 is finished, then offset 2 commits all of them
+
+        OffsetTracker offsetTracker = new OffsetTracker();
+        Acknowledgment last = () -> {};
+        OffsetTracker.Registration firstRecord = offsetTracker.register(partition, 0L, () -> {});
+        OffsetTracker.Registration secondRecord = offsetTracker.register(partition, 1L, () -> {});
+        OffsetTracker.Registration lastRecord = offsetTracker.register(partition, 2L, last);
+
+        assertTrue(offsetTracker.complete(lastRecord).isEmpty());
+        assertTrue(offsetTracker.complete(secondRecord).isEmpty());
+        assertEquals(Optional.of(last), offsetTracker.complete(firstRecord));
+    }
+
+    @Test
+    public void partitionsAreIndependent() {
+
+        OffsetTracker offsetTracker = new OffsetTracker();
+        TopicPartition otherPartition = new TopicPartition("pvoptimizer", 1);
+        Acknowledgment other = () -> {};
+        offsetTracker.register(partition, 0L, () -> {});
+        OffsetTracker.Registration otherRecord = offsetTracker.register(otherPartition, 0L, other);
+
+        assertEquals(Optional.of(other), offsetTracker.complete(otherRecord));
+    }
+
+    @Test
+    public void revokedPartitionDropped() {
+        // record 1 is finished after its partition is revoked, record 0 of other partition is still tracked
+
+        OffsetTracker offsetTracker = new OffsetTracker();
+        TopicPartition otherPartition = new TopicPartition("pvoptimizer", 1);
+        Acknowledgment other = () -> {};
+        OffsetTracker.Registration revokedRecord = offsetTracker.register(partition, 1L, () -> {});
+        OffsetTracker.Registration otherRecord = offsetTracker.register(otherPartition, 0L, other);
+
+        offsetTracker.onPartitionsRevokedBeforeCommit(null, List.of(partition));
+
+        assertTrue(offsetTracker.complete(revokedRecord).isEmpty());
+        assertEquals(Optional.of(other), offsetTracker.complete(otherRecord));
+    }
+
+    @Test
+    public void staleCompletionDoesNotAcknowledgeRedeliveredRecord() {
+        // record 0 is revoked while solved and redelivered after partition is assigned back
+        // finishing the old solve must not acknowledge redelivered record, which is not processed yet
+
+        OffsetTracker offsetTracker = new OffsetTracker();
+        Acknowledgment redelivered = () -> {};
+        OffsetTracker.Registration staleRecord = offsetTracker.register(partition, 0L, () -> {});
+        offsetTracker.onPartitionsRevokedBeforeCommit(null, List.of(partition));
+        OffsetTracker.Registration redeliveredRecord = offsetTracker.register(partition, 0L, redelivered);
+
+        assertTrue(offsetTracker.complete(staleRecord).isEmpty());
+        assertEquals(Optional.of(redelivered), offsetTracker.complete(redeliveredRecord));
+    }
+
+    @Test
+    public void staleCompletionWithoutRevocationIgnored() {
+        // record 0 is registered again at the same offset without revocation being noticed
+
+        OffsetTracker offsetTracker = new OffsetTracker();
+        Acknowledgment redelivered = () -> {};
+        OffsetTracker.Registration staleRecord = offsetTracker.register(partition, 0L, () -> {});
+        OffsetTracker.Registration redeliveredRecord = offsetTracker.register(partition, 0L, redelivered);
+
+        assertTrue(offsetTracker.complete(staleRecord).isEmpty());
+        assertEquals(Optional.of(redelivered), offsetTracker.complete(redeliveredRecord));
+    }
+}
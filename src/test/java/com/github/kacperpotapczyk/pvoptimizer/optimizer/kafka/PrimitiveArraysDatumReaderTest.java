@@ -0,0 +1,84 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.*;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.DoubleArrayList;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.IntArrayList;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveArraysDatumReaderTest {
+
+    @Test
+    public void primitiveArrays() throws IOException {
+
+        ContractDto contractDto = ContractDto.newBuilder()
+                .setId(2L)
+                .setName("Purchase")
+                .setContractDirection(ContractDirectionDto.PURCHASE)
+                .setUnitPrice(List.of(20.0, 15.0))
+                .setMinPower(Map.ofEntries(Map.entry("0", 1.0)))
+                .setMaxPowerValues(new IntervalValuesDto(List.of(0, 1), List.of(5.0, 6.0)))
+                .build();
+
+        TaskDto taskDto = TaskDto.newBuilder()
+                .setId(1L)
+                .setIntervals(List.of(1.0, 0.5, 0.25))
+                .setDemand(new DemandDto(1L, "Demand", List.of(1.0, 2.0, 3.0)))
+                .setProduction(new ProductionDto(1L, "Production", List.of(3.0, 2.0, 1.0)))
+                .setContracts(List.of(contractDto))
+                .build();
+
+        TaskDto decoded = decode(encode(taskDto));
+
+        assertEquals(taskDto, decoded);
+        assertInstanceOf(DoubleArrayList.class, decoded.getIntervals());
+        assertInstanceOf(DoubleArrayList.class, decoded.getDemand().getDemandProfile());
+        assertInstanceOf(DoubleArrayList.class, decoded.getContracts().get(0).getUnitPrice());
+
+        IntervalValuesDto maxPowerValues = decoded.getContracts().get(0).getMaxPowerValues();
+        assertInstanceOf(IntArrayList.class, maxPowerValues.getIntervals());
+        assertEquals(1, ((IntArrayList) maxPowerValues.getIntervals()).getInt(1));
+        assertEquals(6.0, ((DoubleArrayList) maxPowerValues.getValues()).getDouble(1));
+    }
+
+    @Test
+    public void emptyArrays() throws IOException {
+
+        TaskDto taskDto = TaskDto.newBuilder()
+                .setId(1L)
+                .setIntervals(List.of())
+                .setDemand(new DemandDto(1L, "Demand", List.of()))
+                .setProduction(new ProductionDto(1L, "Production", List.of()))
+                .build();
+
+        TaskDto decoded = decode(encode(taskDto));
+
+        assertEquals(taskDto, decoded);
+        assertEquals(0, ((DoubleArrayList) decoded.getIntervals()).elements().length);
+    }
+
+    private byte[] encode(TaskDto taskDto) throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        new SpecificDatumWriter<>(TaskDto.class).write(taskDto, encoder);
+        encoder.flush();
+        return outputStream.toByteArray();
+    }
+
+    private TaskDto decode(byte[] data) throws IOException {
+
+        PrimitiveArraysDatumReader<TaskDto> reader = new PrimitiveArraysDatumReader<>(TaskDto.getClassSchema(), TaskDto.getClassSchema());
+        return reader.read(null, DecoderFactory.get().binaryDecoder(data, null));
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.load;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result.OptimizationStatusDto;
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.task.TaskDto;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.generator.TaskDtoGenerator;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka.KafkaMockupProducerConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test of whole pipeline running against embedded Kafka. Synthetic tasks are sent to task topic at constant rate
+ * and end-to-end latency (from send to result reception) and throughput are reported.
+ * Excluded from default build, run with {@code ./mvnw test -Pload-test}. Load is configured with system properties,
+ * e.g. {@code -Dload.tasks=1000 -Dload.ratePerSecond=50 -Dload.horizonLength=672}.
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({KafkaMockupProducerConfig.class, LoadTestResultConsumer.class})
+@DirtiesContext
+@EmbeddedKafka(
+        partitions = 3,
+        brokerProperties = "${spring.embedded.kafka.brokers}")
+public class LoadTest {
+
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger("loadTest");
+
+    private final KafkaTemplate<String, TaskDto> kafkaTemplate;
+    private final LoadTestResultConsumer resultConsumer;
+
+    @Value("${spring.kafka.consumer.topic}")
+    private String taskTopic;
+    @Value("${load.tasks:200}")
+    private int numberOfTasks;
+    @Value("${load.ratePerSecond:20}")
+    private double ratePerSecond;
+    /**
+     * Number of distinct record keys, tasks with the same key are solved sequentially. By default every task has own key.
+     */
+    @Value("${load.keys:0}")
+    private int numberOfKeys;
+    @Value("${load.horizonLength:96}")
+    private int horizonLength;
+    @Value("${load.contracts:2}")
+    private int contracts;
+    @Value("${load.storages:1}")
+    private int storages;
+    @Value("${load.movableDemands:1}")
+    private int movableDemands;
+    @Value("${load.movableDemandStartIntervals:8}")
+    private int movableDemandStartIntervals;
+    @Value("${load.timeoutSeconds:600}")
+    private long timeoutSeconds;
+
+    @Autowired
+    public LoadTest(
+            @Qualifier("mockupKafkaTemplate") KafkaTemplate<String, TaskDto> kafkaTemplate,
+            LoadTestResultConsumer resultConsumer) {
+
+        this.kafkaTemplate = kafkaTemplate;
+        this.resultConsumer = resultConsumer;
+    }
+
+    @Test
+    public void constantRateLoad() throws InterruptedException {
+
+        TaskDtoGenerator generator = TaskDtoGenerator.builder()
+                .horizonLength(horizonLength)
+                .contracts(contracts)
+                .storages(storages)
+                .movableDemands(movableDemands)
+                .movableDemandStartIntervals(movableDemandStartIntervals)
+                .build();
+
+        List<TaskDto> tasks = new ArrayList<>(numberOfTasks);
+        for (long id = 1; id <= numberOfTasks; id++) {
+            tasks.add(generator.generate(id));
+        }
+
+        Map<Long, Long> sendNanos = new ConcurrentHashMap<>(numberOfTasks);
+        resultConsumer.expect(numberOfTasks);
+
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        for (int i = 0; i < numberOfTasks; i++) {
+
+            long scheduled = start + i * periodNanos;
+            long delay = scheduled - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            TaskDto taskDto = tasks.get(i);
+            String key = numberOfKeys > 0 ? "key-" + (i % numberOfKeys) : "task-" + taskDto.getId();
+            sendNanos.put(taskDto.getId(), System.nanoTime());
+            kafkaTemplate.send(taskTopic, key, taskDto);
+        }
+        kafkaTemplate.flush();
+        long sendEnd = System.nanoTime();
+
+        boolean completed = resultConsumer.getCountDownLatch().await(timeoutSeconds, TimeUnit.SECONDS);
+        long end = System.nanoTime();
+
+        report(sendNanos, resultConsumer.getReceiveNanos(), start, sendEnd, end);
+
+        assertTrue(completed, "Not all results received before timeout");
+        assertTrue(resultConsumer.getResults().values().stream()
+                .allMatch(resultDto -> resultDto.getOptimizationStatus() == OptimizationStatusDto.SOLUTION_FOUND),
+                "All generated tasks should be solved");
+    }
+
+    private void report(Map<Long, Long> sendNanos, Map<Long, Long> receiveNanos, long start, long sendEnd, long end) {
+
+        double[] latenciesMillis = receiveNanos.entrySet().stream()
+                .filter(entry -> sendNanos.containsKey(entry.getKey()))
+                .mapToDouble(entry -> (entry.getValue() - sendNanos.get(entry.getKey())) / 1e6)
+                .sorted()
+                .toArray();
+
+        long lastReceived = receiveNanos.values().stream().mapToLong(Long::longValue).max().orElse(end);
+        double durationSeconds = (lastReceived - start) / 1e9;
+
+        log.info("Load test: tasks={}, received={}, horizonLength={}, contracts={}, storages={}, movableDemands={}, startIntervals={}",
+                numberOfTasks, latenciesMillis.length, horizonLength, contracts, storages, movableDemands, movableDemandStartIntervals);
+        log.info("Offered rate={}/s, achieved send rate={}/s, throughput={}/s",
+                ratePerSecond,
+                String.format("%.2f", numberOfTasks / ((sendEnd - start) / 1e9)),
+                String.format("%.2f", latenciesMillis.length / durationSeconds));
+        log.info("Latency [ms]: p50={}, p90={}, p95={}, p99={}, max={}",
+                percentile(latenciesMillis, 0.50),
+                percentile(latenciesMillis, 0.90),
+                percentile(latenciesMillis, 0.95),
+                percentile(latenciesMillis, 0.99),
+                latenciesMillis.length > 0 ? String.format("%.1f", latenciesMillis[latenciesMillis.length - 1]) : "-");
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private String percentile(double[] sortedValues, double percentile) {
+
+        if (sortedValues.length == 0) {
+            return "-";
+        }
+        int rank = (int) Math.ceil(percentile * sortedValues.length);
+        double value = sortedValues[Math.max(rank - 1, 0)];
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.load;
+
+import com.github.kacperpotapczyk.pvoptimizer.avro.optimizer.result.ResultDto;
+import lombok.Getter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Records time at which result of each task is received.
+ */
+@Getter
+@TestComponent
+public class LoadTestResultConsumer {
+
+    private final Map<Long, Long> receiveNanos = new ConcurrentHashMap<>();
+    private final Map<Long, ResultDto> results = new ConcurrentHashMap<>();
+    private volatile CountDownLatch countDownLatch = new CountDownLatch(0);
+
+    /**
+     * Clears received results and sets number of results to wait for.
+     * @param numberOfResults number of expected results
+     */
+    public void expect(int numberOfResults) {
+        receiveNanos.clear();
+        results.clear();
+        countDownLatch = new CountDownLatch(numberOfResults);
+    }
+
+    @KafkaListener(topics = "${spring.kafka.producer.topic}", groupId = "pvoptimizer-load-test")
+    public void listener(@Payload ConsumerRecord<String, ResultDto> consumerRecord) {
+
+        long now = System.nanoTime();
+        ResultDto resultDto = consumerRecord.value();
+        if (receiveNanos.putIfAbsent(resultDto.getId(), now) == null) {
+            results.put(resultDto.getId(), resultDto);
+            countDownLatch.countDown();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StorageModeProfileTest {
+
+    @Test
+    void modesAreKeptInOrder() {
+
+        StorageModeProfile profile = new StorageModeProfile(1,
+                Arrays.asList(StorageMode.CHARGING, StorageMode.DISABLED, StorageMode.DISCHARGING));
+
+        assertEquals(Arrays.asList(StorageMode.CHARGING, StorageMode.DISABLED, StorageMode.DISCHARGING), profile.getValues());
+        assertEquals(StorageMode.DISCHARGING, profile.modeAt(3, StorageMode.DISABLED));
+        assertEquals(StorageMode.DISABLED, profile.modeAt(0, StorageMode.DISABLED));
+        assertEquals(StorageMode.CHARGING, profile.getValueForInterval(1).orElseThrow());
+        assertTrue(profile.getValueForInterval(4).isEmpty());
+        assertEquals(4, profile.getLastInterval());
+    }
+
+    @Test
+    void constantProfile() {
+
+        StorageModeProfile profile = new StorageModeProfile(2, StorageMode.CHARGING);
+
+        assertEquals(Arrays.asList(StorageMode.CHARGING, StorageMode.CHARGING), profile.getValues());
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileTest {
+
+    private final Profile profile = new Profile(2, Arrays.asList(1.0, 2.0, 3.0));
+
+    @Test
+    void primitiveAccess() {
+
+        assertEquals(1.0, profile.valueAt(2));
+        assertEquals(3.0, profile.valueAt(4));
+        assertEquals(2.0, profile.valueAtIndex(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> profile.valueAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> profile.valueAt(5));
+    }
+
+    @Test
+    void defaultValueOutsideProfile() {
+
+        assertEquals(-1.0, profile.valueAt(1, -1.0));
+        assertEquals(2.0, profile.valueAt(3, -1.0));
+        assertEquals(-1.0, profile.valueAt(5, -1.0));
+        assertFalse(profile.containsInterval(1));
+        assertTrue(profile.containsInterval(4));
+        assertFalse(profile.containsInterval(5));
+    }
+
+    @Test
+    void slice() {
+
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0}, profile.slice(1, 4, 0.0));
+        assertArrayEquals(new double[]{3.0, 0.0}, profile.slice(4, 6, 0.0));
+        assertArrayEquals(new double[]{-1.0, -1.0}, profile.slice(6, 8, -1.0));
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, profile.toArray());
+    }
+
+    @Test
+    void listView() {
+
+        List<Double> values = profile.getValues();
+
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0), values);
+        assertEquals(3, profile.getLength());
+        assertEquals(5, profile.getLastInterval());
+        assertEquals(2.0, profile.getValueForInterval(3).orElseThrow());
+        assertTrue(profile.getValueForInterval(5).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> values.set(0, 5.0));
+    }
+
+    @Test
+    void constantProfile() {
+
+        Profile constant = new Profile(1, 3, 0.5);
+
+        assertEquals(Arrays.asList(0.5, 0.5, 0.5), constant.getValues());
+        assertEquals(1, constant.getStartInterval());
+    }
+
+    @Test
+    void doubleArrayListProfile() {
+
+        DoubleArrayList values = new DoubleArrayList(1);
+        values.addDouble(1.0);
+        values.add(2.0);
+        values.addDouble(3.0);
+
+        Profile fromList = new Profile(2, values);
+
+        assertEquals(3, fromList.getLength());
+        assertEquals(3.0, fromList.valueAt(4));
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, fromList.toArray());
+    }
+}
@@ -159,6 +159,76 @@ public class TaskDtoToTaskTest {
         assertEquals(Map.ofEntries(Map.entry(1, 15.0)), storage2.getMaxEnergyConstraints());
     }
 
+    @Test
+    public void TestTaskWithIntervalValuesConstraints() {
+
+        long taskId = 1L;
+        List<Double> intervals = Arrays.asList(1.0, 1.0);
+        List<Double> demandProfile = Arrays.asList(1.0, 1.0);
+        List<Double> productionProfile = Arrays.asList(1.0, 1.0);
+
+        TaskDto.Builder taskDtoBuilder = getBaseTaskBuilder(demandProfile, productionProfile, taskId, intervals);
+
+        ContractDto contractDto = ContractDto.newBuilder()
+                .setId(223L)
+                .setName("Purchase")
+                .setContractDirection(ContractDirectionDto.PURCHASE)
+                .setUnitPrice(Arrays.asList(20.0, 15.0))
+                .setMinPower(Map.ofEntries(Map.entry("0", 1.0)))
+                .setMinPowerValues(new IntervalValuesDto(List.of(0, 1), List.of(2.0, 3.0)))
+                .setMaxPowerValues(new IntervalValuesDto(List.of(1), List.of(6.0)))
+                .build();
+
+        StorageDto storageDto = StorageDto.newBuilder()
+                .setId(1L)
+                .setName("Storage")
+                .setInitialEnergy(10.0)
+                .setMaxCharge(1.0)
+                .setMaxDischarge(2.0)
+                .setMaxCapacity(20.0)
+                .setMaxChargeValues(new IntervalValuesDto(List.of(0), List.of(0.5)))
+                .setMinEnergyValues(new IntervalValuesDto(List.of(1), List.of(9.0)))
+                .build();
+
+        taskDtoBuilder
+                .setContracts(List.of(contractDto))
+                .setStorages(List.of(storageDto));
+
+        Task task = taskDtoToTask.map(taskDtoBuilder.build());
+
+        Contract contract = task.getContracts().stream().findAny().orElseThrow();
+        assertEquals(Map.ofEntries(Map.entry(0, 2.0), Map.entry(1, 3.0)), contract.getMinPowerConstraints());
+        assertEquals(Map.ofEntries(Map.entry(1, 6.0)), contract.getMaxPowerConstraints());
+
+        Storage storage = task.getStorages().stream().findAny().orElseThrow();
+        assertEquals(Map.ofEntries(Map.entry(0, 0.5)), storage.getMaxChargeConstraints());
+        assertEquals(Map.ofEntries(Map.entry(1, 9.0)), storage.getMinEnergyConstraints());
+    }
+
+    @Test
+    public void TestTaskWithIntervalValuesSizeMismatch() {
+
+        long taskId = 1L;
+        List<Double> intervals = Arrays.asList(1.0, 1.0);
+        List<Double> demandProfile = Arrays.asList(1.0, 1.0);
+        List<Double> productionProfile = Arrays.asList(1.0, 1.0);
+
+        TaskDto.Builder taskDtoBuilder = getBaseTaskBuilder(demandProfile, productionProfile, taskId, intervals);
+
+        ContractDto contractDto = ContractDto.newBuilder()
+                .setId(223L)
+                .setName("Purchase")
+                .setContractDirection(ContractDirectionDto.PURCHASE)
+                .setUnitPrice(Arrays.asList(20.0, 15.0))
+                .setMaxPowerValues(new IntervalValuesDto(List.of(0, 1), List.of(6.0)))
+                .build();
+
+        taskDtoBuilder.setContracts(List.of(contractDto));
+        TaskDto taskDto = taskDtoBuilder.build();
+
+        assertThrows(IllegalArgumentException.class, () -> taskDtoToTask.map(taskDto));
+    }
+
     @Test
     public void TestTaskWithMovableDemand() {
 
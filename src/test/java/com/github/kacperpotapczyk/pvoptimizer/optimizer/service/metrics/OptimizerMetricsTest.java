@@ -0,0 +1,41 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.metrics;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.kafka.TimedDeserializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimizerMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimizerMetrics optimizerMetrics = new OptimizerMetrics(meterRegistry);
+
+    @Test
+    void stageDurationIsTaggedByStage() {
+
+        optimizerMetrics.stop(optimizerMetrics.start(), OptimizationStage.SOLVE);
+        optimizerMetrics.stop(optimizerMetrics.start(), OptimizationStage.SOLVE);
+        optimizerMetrics.stop(optimizerMetrics.start(), OptimizationStage.POWER_BALANCE);
+
+        Timer solveTimer = meterRegistry.get("pvoptimizer.optimizer.stage").tag("stage", "solve").timer();
+        Timer powerBalanceTimer = meterRegistry.get("pvoptimizer.optimizer.stage").tag("stage", "power_balance").timer();
+
+        assertEquals(2, solveTimer.count());
+        assertEquals(1, powerBalanceTimer.count());
+    }
+
+    @Test
+    void deserializationIsTimed() {
+
+        TimedDeserializer<String> deserializer = new TimedDeserializer<>(new StringDeserializer(), optimizerMetrics);
+
+        assertEquals("task", deserializer.deserialize("topic", "task".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, meterRegistry.get("pvoptimizer.optimizer.stage").tag("stage", "deserialization").timer().count());
+    }
+}
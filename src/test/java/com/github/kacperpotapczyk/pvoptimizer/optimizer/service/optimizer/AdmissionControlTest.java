@@ -0,0 +1,64 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlTest {
+
+    @Test
+    void budgetReleasedWhenAdmissionClosed() {
+
+        AdmissionControl admissionControl = new AdmissionControl(100, 60.0, 1, 0);
+
+        AdmissionControl.Admission first = admissionControl.admit(1L, new TaskCost(1.0, 60));
+        assertFalse(first.isRejected());
+        assertEquals(60, admissionControl.getMemoryInFlight());
+        assertTrue(admissionControl.admit(2L, new TaskCost(1.0, 60)).isRejected());
+
+        first.close();
+        first.close();
+        assertEquals(0, admissionControl.getMemoryInFlight());
+        assertFalse(admissionControl.admit(3L, new TaskCost(1.0, 60)).isRejected());
+    }
+
+    @Test
+    void taskExceedingBudgetRejected() {
+
+        AdmissionControl.Admission admission = new AdmissionControl(100, 60.0, 1, 1000).admit(1L, new TaskCost(1.0, 101));
+
+        assertTrue(admission.isRejected());
+        assertNotNull(admission.getRejectionReason());
+    }
+
+    @Test
+    void heavyTasksLimitedByLane() {
+
+        AdmissionControl admissionControl = new AdmissionControl(100, 60.0, 1, 0);
+
+        AdmissionControl.Admission heavy = admissionControl.admit(1L, new TaskCost(60.0, 10));
+        assertTrue(heavy.isHeavy());
+        assertTrue(admissionControl.admit(2L, new TaskCost(60.0, 10)).isRejected());
+        assertFalse(admissionControl.admit(3L, new TaskCost(1.0, 10)).isRejected());
+
+        assertTrue(new AdmissionControl(100, 60.0, 0, 1000).admit(4L, new TaskCost(60.0, 10)).isRejected());
+    }
+
+    @Test
+    void waitingTaskAdmittedWhenBudgetReleased() throws Exception {
+
+        AdmissionControl admissionControl = new AdmissionControl(100, 60.0, 1, 10000);
+        AdmissionControl.Admission first = admissionControl.admit(1L, new TaskCost(1.0, 100));
+
+        CompletableFuture<AdmissionControl.Admission> second = CompletableFuture.supplyAsync(() -> admissionControl.admit(2L, new TaskCost(1.0, 100)));
+        Thread.sleep(100);
+        assertFalse(second.isDone());
+        first.close();
+
+        assertFalse(second.get(5, TimeUnit.SECONDS).isRejected());
+        assertEquals(100, admissionControl.getMemoryInFlight());
+    }
+}
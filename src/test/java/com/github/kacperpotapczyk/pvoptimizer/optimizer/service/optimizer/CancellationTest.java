@@ -0,0 +1,66 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.OjAlgoSolver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.RowBuffer;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.ObjectiveDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.SolutionStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationTest {
+
+    @Test
+    void registeredSolverAbortedOnCancel() throws SolverException {
+
+        Cancellation cancellation = new Cancellation();
+        Solver solver = solver();
+        cancellation.register(solver);
+
+        assertFalse(cancellation.isCancelled());
+        cancellation.cancel();
+
+        assertTrue(cancellation.isCancelled());
+        assertEquals(SolutionStatus.ABORTED, solver.solve());
+        solver.free();
+    }
+
+    @Test
+    void solverRegisteredAfterCancelAborted() throws SolverException {
+
+        Cancellation cancellation = new Cancellation();
+        cancellation.cancel();
+        Solver solver = solver();
+        cancellation.register(solver);
+
+        assertEquals(SolutionStatus.ABORTED, solver.solve());
+        solver.free();
+    }
+
+    @Test
+    void contextWithoutCancellationNotCancelled() {
+
+        assertFalse(OptimizationContext.empty().isCancelled());
+
+        Cancellation cancellation = new Cancellation();
+        OptimizationContext context = OptimizationContext.builder().cancellation(cancellation).build();
+        assertFalse(context.isCancelled());
+        cancellation.cancel();
+        assertTrue(context.isCancelled());
+    }
+
+    /**
+     * Model: max x1 + x2 subject to x1 + x2 <= 1.
+     */
+    private Solver solver() throws SolverException {
+
+        Solver solver = new OjAlgoSolver();
+        solver.addBinaryVariables(2);
+        solver.setObjectiveDirection(ObjectiveDirection.MAX);
+        solver.addLeqWeightedSumConstraint(new RowBuffer().add(1, 1.0).add(2, 1.0), 1.0);
+        solver.setObjectiveFunction(new RowBuffer().add(1, 1.0).add(2, 1.0));
+        return solver;
+    }
+}
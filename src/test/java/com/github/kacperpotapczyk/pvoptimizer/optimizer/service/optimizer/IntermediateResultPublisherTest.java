@@ -0,0 +1,71 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverProgressListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntermediateResultPublisherTest {
+
+    private final IntermediateResultPublisher.ResultReader resultReader = (objectiveValue, elapsedTime, solutionValues) ->
+            Optional.of(Result.builder()
+                    .id(1L)
+                    .optimizationStatus(OptimizationStatus.INTERMEDIATE_SOLUTION_FOUND)
+                    .objectiveFunctionValue(objectiveValue)
+                    .elapsedTime(elapsedTime)
+                    .build());
+
+    @Test
+    void publishesOnlyImprovedSolutions() {
+
+        List<Result> published = new ArrayList<>();
+        IntermediateResultPublisher publisher = new IntermediateResultPublisher(published::add, 0);
+        SolverProgressListener first = publisher.listener(resultReader);
+        SolverProgressListener second = publisher.listener(resultReader);
+
+        first.improvedSolution(10.0, new double[0]);
+        second.improvedSolution(12.0, new double[0]);
+        second.improvedSolution(8.0, new double[0]);
+        first.improvedSolution(9.0, new double[0]);
+
+        assertEquals(List.of(10.0, 8.0), published.stream().map(Result::getObjectiveFunctionValue).toList(),
+                "Solutions not better than published ones should be skipped");
+    }
+
+    @Test
+    void publicationsLimitedByMinInterval() {
+
+        List<Result> published = new ArrayList<>();
+        SolverProgressListener listener = new IntermediateResultPublisher(published::add, 60_000).listener(resultReader);
+
+        listener.improvedSolution(10.0, new double[0]);
+        listener.improvedSolution(8.0, new double[0]);
+
+        assertEquals(1, published.size(), "Second solution should be skipped within min interval");
+        assertEquals(10.0, published.get(0).getObjectiveFunctionValue());
+    }
+
+    @Test
+    void skippedAndFailedResultsAreNotPublished() {
+
+        List<Result> published = new ArrayList<>();
+        IntermediateResultPublisher publisher = new IntermediateResultPublisher(published::add, 0);
+
+        publisher.listener((objectiveValue, elapsedTime, solutionValues) -> Optional.empty())
+                .improvedSolution(10.0, new double[0]);
+        assertDoesNotThrow(() -> publisher.listener((objectiveValue, elapsedTime, solutionValues) -> {
+                    throw new IllegalStateException("invalid solution");
+                })
+                .improvedSolution(9.0, new double[0]));
+        publisher.listener(resultReader).improvedSolution(11.0, new double[0]);
+
+        assertEquals(1, published.size(), "Only solution read into result should be published");
+        assertEquals(11.0, published.get(0).getObjectiveFunctionValue());
+    }
+}
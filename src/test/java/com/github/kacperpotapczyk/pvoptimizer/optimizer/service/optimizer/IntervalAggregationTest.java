@@ -0,0 +1,132 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemandResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageMode;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageModeProfile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.SumConstraint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalAggregationTest {
+
+    @Test
+    void equivalentIntervalsMerged() {
+
+        Task task = task(
+                List.of(1.0, 1.0, 2.0, 2.0, 2.0, 1.0),
+                Storage.builder(1, "storage", 5.0, 5.0, 10.0).build(),
+                Contract.builder(1, "purchase", new Profile(List.of(1.0, 1.0, 2.0, 2.0, 2.0, 1.0)), ContractDirection.PURCHASE).build()
+        );
+
+        IntervalAggregation intervalAggregation = IntervalAggregation.of(task);
+        Task aggregatedTask = intervalAggregation.aggregatedTask();
+
+        assertTrue(intervalAggregation.reducesHorizon());
+        assertEquals(List.of(2.0, 3.0, 1.0), aggregatedTask.getIntervals().getValues());
+        assertEquals(List.of(1.0, 2.0, 1.0), aggregatedTask.getContracts().iterator().next().getUnitPrice().getValues());
+    }
+
+    @Test
+    void constraintsSplitRuns() {
+
+        Task task = task(
+                List.of(1.0, 1.0, 1.0, 1.0, 1.0, 1.0),
+                Storage.builder(1, "storage", 5.0, 5.0, 10.0)
+                        .minEnergyConstraint(0, 1.0)
+                        .build(),
+                Contract.builder(1, "purchase", new Profile(6, 1.0), ContractDirection.PURCHASE)
+                        .maxEnergyConstraint(new SumConstraint(1, 2, 3.0))
+                        .build()
+        );
+
+        IntervalAggregation intervalAggregation = IntervalAggregation.of(task);
+        Task aggregatedTask = intervalAggregation.aggregatedTask();
+
+        assertEquals(List.of(1.0, 2.0, 3.0), aggregatedTask.getIntervals().getValues());
+        assertEquals(List.of(new SumConstraint(1, 1, 3.0)), aggregatedTask.getContracts().iterator().next().getMaxEnergyConstraints());
+        assertEquals(1.0, aggregatedTask.getStorages().iterator().next().getMinEnergyConstraints().get(0));
+    }
+
+    @Test
+    void movableDemandIntervalsNotMerged() {
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(new Profile(6, 1.0))
+                .production(new Production(1, "production", new Profile(6, 0.0)))
+                .demand(new Demand(1, "demand", new Profile(6, 0.0)))
+                .contract(Contract.builder(1, "purchase", new Profile(6, 1.0), ContractDirection.PURCHASE).build())
+                .movableDemand(new MovableDemand(1, "movable demand", List.of(1.0, 1.0), Set.of(2, 3)))
+                .build();
+
+        IntervalAggregation intervalAggregation = IntervalAggregation.of(task);
+        Task aggregatedTask = intervalAggregation.aggregatedTask();
+
+        assertEquals(List.of(2.0, 1.0, 1.0, 1.0, 1.0), aggregatedTask.getIntervals().getValues());
+        assertEquals(Set.of(1, 2), aggregatedTask.getMovableDemands().iterator().next().startIntervals());
+    }
+
+    @Test
+    void resultExpanded() {
+
+        Task task = task(
+                List.of(1.0, 1.0, 1.0, 2.0),
+                Storage.builder(1, "storage", 5.0, 5.0, 10.0).initialEnergy(1.0).build(),
+                Contract.builder(1, "purchase", new Profile(List.of(1.0, 1.0, 1.0, 2.0)), ContractDirection.PURCHASE).build()
+        );
+        IntervalAggregation intervalAggregation = IntervalAggregation.of(task);
+        Result aggregatedResult = Result.builder()
+                .id(1L)
+                .optimizationStatus(OptimizationStatus.SOLUTION_FOUND)
+                .objectiveFunctionValue(13.0)
+                .errorMessage("")
+                .contractResult(new ContractResult(1, "purchase",
+                        new Profile(List.of(3.0, 2.0)), new Profile(List.of(9.0, 2.0)), new Profile(List.of(9.0, 4.0))))
+                .storageResult(new StorageResult(1, "storage",
+                        new Profile(List.of(1.0, 0.0)), new Profile(List.of(0.0, 0.0)), new Profile(List.of(4.0, 4.0)),
+                        new StorageModeProfile(List.of(StorageMode.CHARGING, StorageMode.DISABLED))))
+                .movableDemandResult(new MovableDemandResult(1, "movable demand", -1))
+                .build();
+
+        Result result = intervalAggregation.expand(aggregatedResult);
+
+        assertEquals(13.0, result.getObjectiveFunctionValue());
+        ContractResult contractResult = result.getContractResults().get(0);
+        assertEquals(List.of(3.0, 3.0, 3.0, 2.0), contractResult.power().getValues());
+        assertEquals(List.of(3.0, 3.0, 3.0, 2.0), contractResult.energy().getValues());
+        assertEquals(List.of(3.0, 3.0, 3.0, 4.0), contractResult.cost().getValues());
+        StorageResult storageResult = result.getStorageResults().get(0);
+        assertEquals(List.of(1.0, 1.0, 1.0, 0.0), storageResult.charge().getValues());
+        assertEquals(List.of(2.0, 3.0, 4.0, 4.0), storageResult.energy().getValues());
+        assertEquals(StorageMode.CHARGING, storageResult.storageMode().modeAt(2, StorageMode.DISABLED));
+        assertEquals(-1, result.getMovableDemandResults().get(0).startInterval());
+    }
+
+    private Task task(List<Double> demand, Storage storage, Contract contract) {
+
+        return Task.builder()
+                .id(1L)
+                .intervals(new Profile(demand.size(), 1.0))
+                .production(new Production(1, "production", new Profile(demand.size(), 0.0)))
+                .demand(new Demand(1, "demand", new Profile(demand)))
+                .contract(contract)
+                .storage(storage)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ModelTemplateCacheTest {
+
+    private final ModelTopology first = ModelTopology.of(task(2));
+    private final ModelTopology second = ModelTopology.of(task(3));
+
+    @Test
+    void leastRecentlyUsedTemplateEvictedByMemory() {
+
+        ModelTemplateCache modelTemplateCache = new ModelTemplateCache(10, 100, 1);
+        Solver firstTemplate = template(60);
+        Solver secondTemplate = template(60);
+
+        modelTemplateCache.put(first, firstTemplate);
+        modelTemplateCache.put(second, secondTemplate);
+
+        assertEquals(1, modelTemplateCache.size());
+        assertEquals(60, modelTemplateCache.memory());
+        verify(firstTemplate).free();
+        verify(secondTemplate, never()).free();
+    }
+
+    @Test
+    void templateExceedingMemoryNotStored() {
+
+        ModelTemplateCache modelTemplateCache = new ModelTemplateCache(10, 100, 1);
+        Solver template = template(101);
+
+        modelTemplateCache.put(first, template);
+
+        assertEquals(0, modelTemplateCache.size());
+        verify(template).free();
+    }
+
+    @Test
+    void templateEvictedDuringCopyFreedAfterCopy() throws Exception {
+
+        ModelTemplateCache modelTemplateCache = new ModelTemplateCache(1, 100, 1);
+        Solver firstTemplate = template(10);
+        Solver copy = mock(Solver.class);
+        CountDownLatch copyStarted = new CountDownLatch(1);
+        CountDownLatch copyReleased = new CountDownLatch(1);
+        when(firstTemplate.copy()).thenAnswer(invocation -> {
+            copyStarted.countDown();
+            assertTrue(copyReleased.await(5, TimeUnit.SECONDS));
+            return copy;
+        });
+        modelTemplateCache.put(first, firstTemplate);
+
+        CompletableFuture<Optional<Solver>> copying = CompletableFuture.supplyAsync(() -> {
+            try {
+                return modelTemplateCache.copyOf(first);
+            }
+            catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(copyStarted.await(5, TimeUnit.SECONDS));
+        // cache is not locked while template is copied
+        modelTemplateCache.put(second, template(10));
+        verify(firstTemplate, never()).free();
+
+        copyReleased.countDown();
+        assertSame(copy, copying.get(5, TimeUnit.SECONDS).orElseThrow());
+        verify(firstTemplate).free();
+        assertTrue(modelTemplateCache.copyOf(first).isEmpty());
+    }
+
+    private Solver template(int nonZeros) {
+
+        Solver template = mock(Solver.class);
+        when(template.getNumberOfNonZeros()).thenReturn(nonZeros);
+        return template;
+    }
+
+    private Task task(int length) {
+
+        return Task.builder()
+                .id(1L)
+                .intervals(new Profile(length, 1.0))
+                .production(new Production(1, "production", new Profile(length, 0.0)))
+                .demand(new Demand(1, "demand", new Profile(length, 1.0)))
+                .contract(Contract.builder(1, "purchase", new Profile(length, 1.0), ContractDirection.PURCHASE).build())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelTopologyTest {
+
+    @Test
+    void differentDataSameTopology() {
+
+        Task first = task(1L, 0.5, 2.0, List.of(1.0, 1.0), 5.0);
+        Task second = task(2L, 0.7, 3.0, List.of(1.0, 1.0), 5.0);
+
+        assertEquals(ModelTopology.of(first), ModelTopology.of(second));
+        assertEquals(ModelTopology.of(first).hashCode(), ModelTopology.of(second).hashCode());
+    }
+
+    @Test
+    void differentCoefficientsDifferentTopology() {
+
+        Task task = task(1L, 0.5, 2.0, List.of(1.0, 1.0), 5.0);
+
+        assertNotEquals(ModelTopology.of(task), ModelTopology.of(task(1L, 0.5, 2.0, List.of(1.0, 2.0), 5.0)));
+        assertNotEquals(ModelTopology.of(task), ModelTopology.of(task(1L, 0.5, 2.0, List.of(1.0, 1.0), 4.0)));
+    }
+
+    @Test
+    void storageBigMDataDifferentTopology() {
+
+        Task task = task(1L, 0.5, 2.0, List.of(1.0, 1.0), Storage.builder(1, "storage", 5.0, 5.0, 10.0).build());
+        Task constrainedCharge = task(1L, 0.5, 2.0, List.of(1.0, 1.0), Storage.builder(1, "storage", 5.0, 5.0, 10.0)
+                .maxChargeConstraint(1, 3.0)
+                .build());
+        Task largerCapacity = task(1L, 0.5, 2.0, List.of(1.0, 1.0), Storage.builder(1, "storage", 5.0, 5.0, 20.0).build());
+
+        assertNotEquals(ModelTopology.of(task), ModelTopology.of(constrainedCharge));
+        assertNotEquals(ModelTopology.of(task), ModelTopology.of(largerCapacity));
+    }
+
+    private Task task(long id, double purchasePrice, double demand, List<Double> movableDemandProfile, double maxCharge) {
+        return task(id, purchasePrice, demand, movableDemandProfile, Storage.builder(1, "storage", maxCharge, 5.0, 10.0).initialEnergy(demand).build());
+    }
+
+    private Task task(long id, double purchasePrice, double demand, List<Double> movableDemandProfile, Storage storage) {
+
+        return Task.builder()
+                .id(id)
+                .intervals(new Profile(4, 1.0))
+                .production(new Production(id, "pv production", new Profile(4, 1.0)))
+                .demand(new Demand(id, "home demand", new Profile(4, demand)))
+                .contract(new Contract(id, "purchase", new Profile(4, purchasePrice), ContractDirection.PURCHASE))
+                .storage(storage)
+                .movableDemand(new MovableDemand(id, "movable demand", movableDemandProfile, Set.of(0, 2)))
+                .build();
+    }
+}
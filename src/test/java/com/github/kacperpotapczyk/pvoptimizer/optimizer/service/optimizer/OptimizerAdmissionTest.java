@@ -0,0 +1,84 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {"optimizer.admission.enabled=true", "optimizer.admission.memoryBudget=10000", "optimizer.storageRelaxation.enabled=true"})
+public class OptimizerAdmissionTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    @Autowired
+    public AdmissionControl admissionControl;
+    @SpyBean
+    public TaskCostEstimator taskCostEstimator;
+
+    @Test
+    public void smallTaskSolved() {
+
+        Result result = optimizer.solve(task(1L, 4));
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(0, admissionControl.getMemoryInFlight());
+    }
+
+    @Test
+    public void oversizedTaskRejected() {
+
+        Result result = optimizer.solve(task(2L, 1000));
+
+        assertEquals(OptimizationStatus.REJECTED, result.getOptimizationStatus());
+        assertEquals(2L, result.getId());
+        assertTrue(result.getErrorMessage().contains("memory budget"));
+        assertTrue(result.getContractResults().isEmpty());
+    }
+
+    @Test
+    public void relaxedTaskObservedWithTimeOfAllRounds() {
+        // relaxed solution discharges and charges storage at once to meet minimal charge, so task is solved twice
+
+        Task task = Task.builder()
+                .id(3L)
+                .intervals(new Profile(3, 1.0))
+                .production(new Production(1, "pv production", new Profile(3, 0.0)))
+                .demand(new Demand(1, "home demand", new Profile(3, 0.0)))
+                .storage(Storage.builder(1, "Storage", 20.0, 20.0, 40.0).initialEnergy(10.0).minChargeConstraint(1, 3.0).build())
+                .contract(Contract.builder(1, "buy", new Profile(3, 2.0), ContractDirection.PURCHASE).build())
+                .contract(Contract.builder(2, "sell", new Profile(3, 1.0), ContractDirection.SELL).build())
+                .build();
+
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        ArgumentCaptor<Double> observedTime = ArgumentCaptor.forClass(Double.class);
+        verify(taskCostEstimator).observe(eq(task), observedTime.capture());
+        assertEquals(result.getElapsedTime(), observedTime.getValue(), 1e-12);
+    }
+
+    private Task task(long id, int length) {
+
+        return Task.builder()
+                .id(id)
+                .intervals(new Profile(length, 1.0))
+                .production(new Production(1, "pv production", new Profile(length, 1.0)))
+                .demand(new Demand(1, "home demand", new Profile(length, 2.0)))
+                .contract(Contract.builder(1, "purchase", new Profile(length, 1.0), ContractDirection.PURCHASE).build())
+                .build();
+    }
+}
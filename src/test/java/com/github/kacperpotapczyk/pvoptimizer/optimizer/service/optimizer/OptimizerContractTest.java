@@ -334,6 +334,63 @@ public class OptimizerContractTest {
         resultValidator.assertContractEnergyResults(contractResults, expectedEnergyResults);
     }
 
+    @Test
+    void constraintsOfContractsStartingAfterFirstInterval() {
+        // demand of 10 at all intervals, no production
+        // purchase contract 1 available at all intervals for 5, for 6 at interval 3
+        // purchase contract 2 available from interval 1 for 1, power at interval 1 limited to 4,
+        // energy at intervals 2 and 3 limited to 12
+        // purchase contract 3 available from interval 2 for 11 and 10, power at interval 2 at least 3,
+        // energy at intervals 2 and 3 at least 5
+        // contract 3 buys minimal energy with minimal power at interval 2, contract 2 buys its energy limit where
+        // contract 1 is more expensive, contract 1 covers the rest
+        // objective function = 50 + 30 + 15 + 4 + 4 + 8 + 33 + 20 = 164
+
+        Profile intervals = new Profile(4, 1.0);
+        Production production = new Production(1, "pv production", new Profile(4, 0.0));
+        Demand demand = new Demand(1, "home demand", new Profile(4, 10.0));
+
+        Contract purchaseContract1 = Contract.builder(1, "purchase", new Profile(Arrays.asList(5.0, 5.0, 5.0, 6.0)), ContractDirection.PURCHASE)
+                .build();
+
+        Contract purchaseContract2 = Contract.builder(2, "purchase", new Profile(1, Arrays.asList(1.0, 1.0, 1.0)), ContractDirection.PURCHASE)
+                .maxPowerConstraint(1, 4.0)
+                .maxEnergyConstraints(List.of(new SumConstraint(2, 3, 12)))
+                .build();
+
+        Contract purchaseContract3 = Contract.builder(3, "purchase", new Profile(2, Arrays.asList(11.0, 10.0)), ContractDirection.PURCHASE)
+                .minPowerConstraint(2, 3.0)
+                .minEnergyConstraints(List.of(new SumConstraint(2, 3, 5)))
+                .build();
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(intervals)
+                .production(production)
+                .demand(demand)
+                .contract(purchaseContract1)
+                .contract(purchaseContract2)
+                .contract(purchaseContract3)
+                .build();
+
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(164.0, result.getObjectiveFunctionValue(), 1e-6);
+
+        List<Profile> expectedPowerResults = new ArrayList<>();
+        expectedPowerResults.add(new Profile(Arrays.asList(10.0, 6.0, 3.0, 0.0)));
+        expectedPowerResults.add(new Profile(1, Arrays.asList(4.0, 4.0, 8.0)));
+        expectedPowerResults.add(new Profile(2, Arrays.asList(3.0, 2.0)));
+
+        List<Profile> expectedCostResults = new ArrayList<>();
+        expectedCostResults.add(new Profile(Arrays.asList(50.0, 30.0, 15.0, 0.0)));
+        expectedCostResults.add(new Profile(1, Arrays.asList(4.0, 4.0, 8.0)));
+        expectedCostResults.add(new Profile(2, Arrays.asList(33.0, 20.0)));
+
+        resultValidator.assertContractResults(result.getContractResults(), expectedPowerResults, expectedCostResults);
+    }
+
     @Test
     void contractLongerThanOptimizationHorizon() {
         // one purchase contract available at intervals 0 to 4 witch is longer than task optimization horizon
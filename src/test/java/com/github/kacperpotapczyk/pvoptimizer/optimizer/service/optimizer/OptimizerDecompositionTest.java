@@ -0,0 +1,130 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "optimizer.decomposition.enabled=true",
+        "optimizer.decomposition.windowLength=2",
+        "optimizer.decomposition.overlap=4"
+})
+public class OptimizerDecompositionTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    @Autowired
+    public HorizonDecomposition horizonDecomposition;
+    private final ResultValidator resultValidator = new ResultValidator();
+
+    @Test
+    public void storageEnergyCarriedBetweenWindows() {
+        // purchase price is lowest at intervals 0 and 1, demand is 1 at every interval
+        // storage has to be charged in the first window and discharged in the next ones
+
+        Profile intervals = new Profile(6, 1.0);
+        Production production = new Production(1, "pv production", new Profile(6, 0.0));
+        Demand demand = new Demand(1, "home demand", new Profile(6, 1.0));
+        Contract purchase = Contract.builder(1, "purchase", new Profile(Arrays.asList(1.0, 1.0, 3.0, 3.0, 3.0, 3.0)), ContractDirection.PURCHASE).build();
+        Storage storage = Storage.builder(1, "Storage", 2.0, 2.0, 10.0).build();
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(intervals)
+                .production(production)
+                .demand(demand)
+                .contract(purchase)
+                .storage(storage)
+                .build();
+
+        assertTrue(horizonDecomposition.isDecomposed(task));
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(6.0, result.getObjectiveFunctionValue(), 1e-6);
+        assertEquals(Arrays.asList(3.0, 3.0, 0.0, 0.0, 0.0, 0.0), result.getContractResults().get(0).power().getValues());
+        assertEquals(Arrays.asList(2.0, 4.0, 3.0, 2.0, 1.0, 0.0), result.getStorageResults().get(0).energy().getValues());
+        assertEquals("", result.getErrorMessage());
+    }
+
+    @Test
+    public void windowsSolvedWithinTaskTimeout() {
+        // every window solve lasts as long as its timeout allows
+        // windows share 3 seconds of task, so iterations and sequential pass stop when time runs out
+
+        Task task = Task.builder()
+                .id(1L)
+                .timeoutSeconds(3L)
+                .intervals(new Profile(6, 1.0))
+                .production(new Production(1, "pv production", new Profile(6, 0.0)))
+                .demand(new Demand(1, "home demand", new Profile(6, 1.0)))
+                .contract(Contract.builder(1, "purchase", new Profile(Arrays.asList(1.0, 1.0, 3.0, 3.0, 3.0, 3.0)), ContractDirection.PURCHASE).build())
+                .storage(Storage.builder(1, "Storage", 2.0, 2.0, 10.0).build())
+                .build();
+        Optimizer slowOptimizer = (windowTask, context) -> {
+            assertTrue(windowTask.getTimeoutSeconds() > 0);
+            try {
+                Thread.sleep(windowTask.getTimeoutSeconds() * 1000);
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return optimizer.solve(windowTask, context);
+        };
+
+        long start = System.nanoTime();
+        Result result = horizonDecomposition.solve(task, task.getTimeoutSeconds(), OptimizationContext.empty(), slowOptimizer);
+        double elapsedTime = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertTrue(elapsedTime < task.getTimeoutSeconds() + 0.5, "elapsed time " + elapsedTime);
+        assertEquals(6, result.getContractResults().get(0).power().getLength());
+    }
+
+    @Test
+    public void movableDemandNotSplitBetweenWindows() {
+        // purchase price is lowest at intervals 2 and 3
+        // movable demand with length of 2 can be started at interval 1, 2 or 3, so horizon is not cut before interval 5
+
+        Profile intervals = new Profile(6, 1.0);
+        Production production = new Production(1, "pv production", new Profile(6, 0.0));
+        Demand demand = new Demand(1, "home demand", new Profile(6, 0.0));
+        Contract purchase = Contract.builder(1, "purchase", new Profile(Arrays.asList(3.0, 3.0, 1.0, 1.0, 3.0, 3.0)), ContractDirection.PURCHASE).build();
+        MovableDemand movableDemand = new MovableDemand(1, "movable demand", Arrays.asList(2.0, 2.0), Set.of(1, 2, 3));
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(intervals)
+                .production(production)
+                .demand(demand)
+                .contract(purchase)
+                .movableDemand(movableDemand)
+                .build();
+
+        assertEquals(
+                List.of(new HorizonDecomposition.Window(0, 5, 6), new HorizonDecomposition.Window(5, 6, 6)),
+                horizonDecomposition.windows(task)
+        );
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(4.0, result.getObjectiveFunctionValue(), 1e-6);
+        resultValidator.assertMovableDemandResults(List.of(2), result.getMovableDemandResults());
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "optimizer.intervalAggregation.enabled=true")
+public class OptimizerIntervalAggregationTest {
+
+    @Autowired
+    public Optimizer optimizer;
+
+    @Test
+    public void storageChargedInAggregatedIntervals() {
+        // purchase price is lowest at intervals 0 to 2, which are merged into single interval
+        // storage is charged there to cover demand of expensive intervals 3 to 5, merged as well
+
+        Profile intervals = new Profile(6, 1.0);
+        Production production = new Production(1, "pv production", new Profile(6, 0.0));
+        Demand demand = new Demand(1, "home demand", new Profile(6, 1.0));
+        Contract purchase = Contract.builder(1, "purchase", new Profile(Arrays.asList(1.0, 1.0, 1.0, 3.0, 3.0, 3.0)), ContractDirection.PURCHASE).build();
+        Storage storage = Storage.builder(1, "Storage", 1.0, 2.0, 10.0).build();
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(intervals)
+                .production(production)
+                .demand(demand)
+                .contract(purchase)
+                .storage(storage)
+                .build();
+
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(6.0, result.getObjectiveFunctionValue(), 1e-6);
+        assertEquals(Arrays.asList(2.0, 2.0, 2.0, 0.0, 0.0, 0.0), result.getContractResults().get(0).power().getValues());
+        assertEquals(Arrays.asList(2.0, 2.0, 2.0, 0.0, 0.0, 0.0), result.getContractResults().get(0).cost().getValues());
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 2.0, 1.0, 0.0), result.getStorageResults().get(0).energy().getValues());
+        assertEquals("", result.getErrorMessage());
+    }
+}
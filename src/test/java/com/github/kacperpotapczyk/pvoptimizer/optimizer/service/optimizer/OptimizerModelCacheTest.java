@@ -0,0 +1,70 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "optimizer.modelCache.enabled=true")
+public class OptimizerModelCacheTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    @Autowired
+    public ModelTemplateCache modelTemplateCache;
+
+    @Test
+    public void tasksOfTheSameTopology() {
+        // the second task is solved on copy of model built for the first one
+        // bound of purchase contract in the first task would make the second one infeasible if it was not reset
+
+        Task first = task(1L, 0.5, Arrays.asList(0.0, 4.0, 8.0), Arrays.asList(2.0, 2.0, 3.0), 2.0);
+        Task second = task(2L, 1.0, Arrays.asList(1.0, 1.0, 1.0), Arrays.asList(12.0, 1.0, 0.0), null);
+        int templates = modelTemplateCache.size();
+
+        Result firstResult = optimizer.solve(first);
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, firstResult.getOptimizationStatus());
+        assertEquals(2.0 * 0.5 - 2.0 * 0.1 - 5.0 * 0.1, firstResult.getObjectiveFunctionValue(), 1e-6);
+        assertEquals(templates + 1, modelTemplateCache.size());
+
+        Result secondResult = optimizer.solve(second);
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, secondResult.getOptimizationStatus());
+        assertEquals(11.0 * 1.0 - 1.0 * 0.1, secondResult.getObjectiveFunctionValue(), 1e-6);
+        assertEquals(templates + 1, modelTemplateCache.size());
+
+        ContractResult purchase = secondResult.getContractResults().stream()
+                .filter(contractResult -> contractResult.id() == 1L)
+                .findAny().orElseThrow();
+        assertEquals(11.0, purchase.power().valueAt(0), 1e-6);
+    }
+
+    private Task task(long id, double purchasePrice, List<Double> production, List<Double> demand, Double maxPurchasePower) {
+
+        Contract.ContractBuilder purchase = Contract.builder(1, "purchase", new Profile(production.size(), purchasePrice), ContractDirection.PURCHASE);
+        if (maxPurchasePower != null) {
+            purchase.maxPowerConstraint(0, maxPurchasePower);
+        }
+
+        return Task.builder()
+                .id(id)
+                .intervals(new Profile(production.size(), 1.0))
+                .production(new Production(1, "pv production", new Profile(production)))
+                .demand(new Demand(1, "home demand", new Profile(demand)))
+                .contract(purchase.build())
+                .contract(new Contract(2, "sell", new Profile(production.size(), 0.1), ContractDirection.SELL))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.SolverFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {"optimizer.solver=ojalgo", "optimizer.portfolio.enabled=true"})
+public class OptimizerOjAlgoPortfolioTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    @Autowired
+    public SolverFactory solverFactory;
+    @Autowired
+    public TaskCostEstimator taskCostEstimator;
+    @SpyBean
+    public SolverPortfolio solverPortfolio;
+    private final ResultValidator resultValidator = new ResultValidator();
+
+    @Test
+    public void movableDemandSolvedBySingleSolver() throws Exception {
+        // ojAlgo ignores branch and bound settings and can not be aborted, so its copies do not race
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(new Profile(4, 1.0))
+                .production(new Production(1, "pv production", new Profile(4, 0.0)))
+                .demand(new Demand(1, "home demand", new Profile(4, 0.0)))
+                .contract(Contract.builder(1, "purchase", new Profile(Arrays.asList(3.0, 1.0, 1.0, 3.0)), ContractDirection.PURCHASE).build())
+                .movableDemand(new MovableDemand(1, "movable demand", Arrays.asList(2.0, 2.0), Set.of(0, 1, 2)))
+                .build();
+
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(4.0, result.getObjectiveFunctionValue(), 1e-6);
+        resultValidator.assertMovableDemandResults(List.of(1), result.getMovableDemandResults());
+        assertFalse(solverFactory.supportsPortfolio());
+        verify(solverPortfolio, never()).race(any());
+
+        // memory of single solver is predicted
+        TaskCostEstimator.ModelStatistics statistics = TaskCostEstimator.ModelStatistics.of(task);
+        assertEquals(64 * (statistics.rows() + statistics.columns() + statistics.nonZeros()), taskCostEstimator.estimate(task).nativeMemory());
+    }
+}
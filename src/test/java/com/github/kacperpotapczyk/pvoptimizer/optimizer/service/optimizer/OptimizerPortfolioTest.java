@@ -0,0 +1,57 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "optimizer.portfolio.enabled=true")
+public class OptimizerPortfolioTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    private final ResultValidator resultValidator = new ResultValidator();
+
+    @Test
+    public void movableDemandSolvedByPortfolio() {
+        // purchase price is lowest at intervals 1 and 2
+        // movable demand with length of 2 and demand value of 2 can be started at interval 0, 1 or 2
+        // optimal solution is to start movable demand at interval 1
+
+        Profile intervals = new Profile(4, 1.0);
+        Production production = new Production(1, "pv production", new Profile(4, 0.0));
+        Demand demand = new Demand(1, "home demand", new Profile(4, 0.0));
+        Contract purchase = Contract.builder(1, "purchase", new Profile(Arrays.asList(3.0, 1.0, 1.0, 3.0)), ContractDirection.PURCHASE).build();
+        MovableDemand movableDemand = new MovableDemand(1, "movable demand", Arrays.asList(2.0, 2.0), Set.of(0, 1, 2));
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(intervals)
+                .production(production)
+                .demand(demand)
+                .contract(purchase)
+                .movableDemand(movableDemand)
+                .build();
+
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(4.0, result.getObjectiveFunctionValue(), 1e-6);
+        resultValidator.assertMovableDemandResults(List.of(1), result.getMovableDemandResults());
+        assertEquals("", result.getErrorMessage());
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "optimizer.resultCache.enabled=true")
+public class OptimizerResultCacheTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    @Autowired
+    public ResultCache resultCache;
+
+    @Test
+    public void duplicatedTaskAnsweredFromCache() {
+
+        Result result = optimizer.solve(task(1L));
+        int cachedResults = resultCache.size();
+        Result duplicateResult = optimizer.solve(task(2L));
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, duplicateResult.getOptimizationStatus());
+        assertEquals(2L, duplicateResult.getId());
+        assertEquals(result.getObjectiveFunctionValue(), duplicateResult.getObjectiveFunctionValue());
+        assertSame(result.getContractResults().get(0), duplicateResult.getContractResults().get(0));
+        assertEquals(cachedResults, resultCache.size());
+    }
+
+    private Task task(long id) {
+
+        return Task.builder()
+                .id(id)
+                .intervals(new Profile(3, 1.0))
+                .production(new Production(1, "pv production", new Profile(3, 0.0)))
+                .demand(new Demand(1, "home demand", new Profile(Arrays.asList(1.0, 2.0, 3.0))))
+                .contract(Contract.builder(1, "purchase", new Profile(3, 0.5), ContractDirection.PURCHASE).build())
+                .build();
+    }
+}
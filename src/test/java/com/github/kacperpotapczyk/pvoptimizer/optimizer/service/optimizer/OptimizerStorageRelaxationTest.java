@@ -0,0 +1,90 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageMode;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageModeProfile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "optimizer.storageRelaxation.enabled=true")
+public class OptimizerStorageRelaxationTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    private final ResultValidator resultValidator = new ResultValidator();
+
+    @Test
+    public void relaxedStorage() {
+        // the same task as in simple storage test, relaxed solution does not need charge indicators
+
+        Storage storage = Storage.builder(1, "Storage", 20.0, 20.0, 40.0)
+                .build();
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(new Profile(3, 1.0))
+                .production(new Production(1, "pv production", new Profile(Arrays.asList(10.0, 10.0, 0.0))))
+                .demand(new Demand(1, "home demand", new Profile(Arrays.asList(5.0, 5.0, 10.0))))
+                .storage(storage)
+                .build();
+
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        resultValidator.assertStorageResults(
+                List.of(new Profile(Arrays.asList(5.0, 5.0, 0.0))),
+                List.of(new Profile(Arrays.asList(0.0, 0.0, 10.0))),
+                List.of(new Profile(Arrays.asList(5.0, 10.0, 0.0))),
+                List.of(new StorageModeProfile(Arrays.asList(StorageMode.CHARGING, StorageMode.CHARGING, StorageMode.DISCHARGING))),
+                result.getStorageResults());
+    }
+
+    @Test
+    public void chargeIndicatorAddedForConflictingInterval() {
+        // minimal charge at interval 1 is met in relaxed solution by discharging the same power at once, which is free
+        // with charge indicator the charged energy has to be purchased for 2 and is later sold for 1
+        // storage initial energy of 10 is sold as well
+
+        Storage storage = Storage.builder(1, "Storage", 20.0, 20.0, 40.0)
+                .initialEnergy(10.0)
+                .minChargeConstraint(1, 3.0)
+                .build();
+
+        Task task = Task.builder()
+                .id(1L)
+                .intervals(new Profile(3, 1.0))
+                .production(new Production(1, "pv production", new Profile(3, 0.0)))
+                .demand(new Demand(1, "home demand", new Profile(3, 0.0)))
+                .storage(storage)
+                .contract(Contract.builder(1, "buy", new Profile(3, 2.0), ContractDirection.PURCHASE).build())
+                .contract(Contract.builder(2, "sell", new Profile(3, 1.0), ContractDirection.SELL).build())
+                .build();
+
+        Result result = optimizer.solve(task);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, result.getOptimizationStatus());
+        assertEquals(-10.0 + 3.0 * 2.0 - 3.0 * 1.0, result.getObjectiveFunctionValue(), 1e-6);
+
+        StorageResult storageResult = result.getStorageResults().get(0);
+        assertEquals(StorageMode.CHARGING, storageResult.storageMode().getValueForInterval(1).orElseThrow());
+        for (int interval = 0; interval < 3; interval++) {
+            assertFalse(storageResult.charge().valueAt(interval) > 1e-6 && storageResult.discharge().valueAt(interval) > 1e-6,
+                    "Storage should not charge and discharge at once at interval " + interval);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "optimizer.warmStart.enabled=true")
+public class OptimizerWarmStartTest {
+
+    @Autowired
+    public Optimizer optimizer;
+    @Autowired
+    public WarmStartStore warmStartStore;
+
+    @Test
+    public void shiftedTaskOfTheSameLineage() {
+        // second task is the first one shifted by one interval with one new interval at the end
+        // warm started solve has to find the same optimum as solve from scratch
+
+        List<Double> production = Arrays.asList(0.0, 4.0, 8.0, 8.0, 2.0, 0.0, 0.0);
+        List<Double> demand = Arrays.asList(2.0, 2.0, 3.0, 2.0, 4.0, 5.0, 3.0);
+        List<Double> purchasePrice = Arrays.asList(0.5, 0.5, 0.6, 0.6, 0.9, 0.9, 0.5);
+
+        Task first = task(1L, production.subList(0, 6), demand.subList(0, 6), purchasePrice.subList(0, 6));
+        Task shifted = task(2L, production.subList(1, 7), demand.subList(1, 7), purchasePrice.subList(1, 7));
+
+        OptimizationContext context = OptimizationContext.builder().lineageKey("shiftedTaskOfTheSameLineage").build();
+        Result firstResult = optimizer.solve(first, context);
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, firstResult.getOptimizationStatus());
+        assertTrue(warmStartStore.get("shiftedTaskOfTheSameLineage").isPresent());
+
+        Result warmStartedResult = optimizer.solve(shifted, context);
+        Result coldResult = optimizer.solve(shifted);
+
+        assertEquals(OptimizationStatus.SOLUTION_FOUND, warmStartedResult.getOptimizationStatus());
+        assertEquals(coldResult.getObjectiveFunctionValue(), warmStartedResult.getObjectiveFunctionValue(), 1e-6);
+        assertEquals(2L, warmStartStore.get("shiftedTaskOfTheSameLineage").orElseThrow().getId());
+    }
+
+    private Task task(long id, List<Double> production, List<Double> demand, List<Double> purchasePrice) {
+
+        return Task.builder()
+                .id(id)
+                .intervals(new Profile(production.size(), 1.0))
+                .production(new Production(1, "pv production", new Profile(production)))
+                .demand(new Demand(1, "home demand", new Profile(demand)))
+                .contract(new Contract(1, "purchase", new Profile(purchasePrice), ContractDirection.PURCHASE))
+                .contract(new Contract(2, "sell", new Profile(production.size(), 0.1), ContractDirection.SELL))
+                .storage(Storage.builder(1, "storage", 5.0, 5.0, 10.0).initialEnergy(2.0).build())
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemandResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageMode;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageModeProfile;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.StorageResult;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.OptimizationStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void storedResultReturned() {
+
+        ResultCache resultCache = new ResultCache(2, 1000, null, clock::get);
+        Result result = result(1L);
+        resultCache.put("a", result);
+
+        assertSame(result, resultCache.get("a").orElseThrow());
+        assertTrue(resultCache.get("b").isEmpty());
+    }
+
+    @Test
+    void expiredResultNotReturned() {
+
+        ResultCache resultCache = new ResultCache(2, 1000, null, clock::get);
+        resultCache.put("a", result(1L));
+
+        clock.set(1000);
+        assertTrue(resultCache.get("a").isPresent());
+        clock.set(1001);
+        assertTrue(resultCache.get("a").isEmpty());
+        assertEquals(0, resultCache.size());
+    }
+
+    @Test
+    void leastRecentlyUsedResultEvicted() {
+
+        ResultCache resultCache = new ResultCache(2, 1000, null, clock::get);
+        resultCache.put("a", result(1L));
+        resultCache.put("b", result(2L));
+        resultCache.get("a");
+        resultCache.put("c", result(3L));
+
+        assertTrue(resultCache.get("a").isPresent());
+        assertTrue(resultCache.get("b").isEmpty());
+        assertTrue(resultCache.get("c").isPresent());
+    }
+
+    @Test
+    void resultReadFromFile() {
+
+        Result result = result(1L);
+        new ResultCache(1, 1000, directory, clock::get).put("a", result);
+        ResultCache resultCache = new ResultCache(1, 1000, directory, clock::get);
+
+        Result readResult = resultCache.get("a").orElseThrow();
+
+        assertEquals(result.getId(), readResult.getId());
+        assertEquals(result.getOptimizationStatus(), readResult.getOptimizationStatus());
+        assertEquals(result.getObjectiveFunctionValue(), readResult.getObjectiveFunctionValue());
+        assertEquals(result.getErrorMessage(), readResult.getErrorMessage());
+        assertEquals(1, readResult.getContractResults().get(0).cost().getStartInterval());
+        assertEquals(List.of(0.5, 1.0), readResult.getContractResults().get(0).cost().getValues());
+        assertEquals(List.of(1.0, 0.0), readResult.getStorageResults().get(0).energy().getValues());
+        assertEquals(List.of(StorageMode.CHARGING, StorageMode.DISCHARGING), readResult.getStorageResults().get(0).storageMode().getValues());
+        assertEquals(result.getMovableDemandResults(), readResult.getMovableDemandResults());
+    }
+
+    @Test
+    void expiredFileDeleted() {
+
+        new ResultCache(1, 1000, directory, clock::get).put("a", result(1L));
+        clock.set(1001);
+        ResultCache resultCache = new ResultCache(1, 1000, directory, clock::get);
+
+        assertTrue(resultCache.get("a").isEmpty());
+        assertFalse(directory.resolve("a.result").toFile().exists());
+    }
+
+    private Result result(long id) {
+
+        return Result.builder()
+                .id(id)
+                .optimizationStatus(OptimizationStatus.SOLUTION_FOUND)
+                .objectiveFunctionValue(2.5)
+                .relativeGap(0.01)
+                .elapsedTime(0.2)
+                .errorMessage("")
+                .contractResult(new ContractResult(1, "purchase",
+                        new Profile(1, List.of(1.0, 2.0)), new Profile(1, List.of(1.0, 2.0)), new Profile(1, List.of(0.5, 1.0))))
+                .storageResult(new StorageResult(1, "storage",
+                        new Profile(List.of(1.0, 0.0)), new Profile(List.of(0.0, 1.0)), new Profile(List.of(1.0, 0.0)),
+                        new StorageModeProfile(List.of(StorageMode.CHARGING, StorageMode.DISCHARGING))))
+                .movableDemandResult(new MovableDemandResult(1, "movable demand", 1))
+                .build();
+    }
+}
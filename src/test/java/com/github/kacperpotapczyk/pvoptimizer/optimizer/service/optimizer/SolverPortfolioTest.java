@@ -0,0 +1,81 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.OjAlgoSolver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.RowBuffer;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.Solver;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.ObjectiveDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.SolutionStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverPortfolioTest {
+
+    @Test
+    void settingsLimitedBySize() {
+
+        SolverPortfolio solverPortfolio = new SolverPortfolio(10, 1);
+        assertEquals(SolverPortfolio.SETTINGS, solverPortfolio.settings());
+        solverPortfolio.destroy();
+
+        solverPortfolio = new SolverPortfolio(2, 1);
+        assertEquals(SolverPortfolio.SETTINGS.subList(0, 2), solverPortfolio.settings());
+        solverPortfolio.destroy();
+    }
+
+    @Test
+    void raceReturnsOptimalSolution() throws SolverException {
+
+        SolverPortfolio solverPortfolio = new SolverPortfolio(3, 2);
+        List<Solver> solvers = solvers(3);
+
+        SolverPortfolio.Outcome outcome = solverPortfolio.race(solvers);
+
+        assertEquals(SolutionStatus.OPTIMAL, outcome.status());
+        assertEquals(14.0, outcome.objectiveValue(), 1e-6);
+        assertTrue(solvers.contains(outcome.solver()));
+        assertEquals(14.0, outcome.solver().getObjectiveValue(), 1e-6);
+
+        solvers.forEach(Solver::free);
+        solverPortfolio.destroy();
+    }
+
+    @Test
+    void abortedRaceReturnsFirstSolver() throws SolverException {
+
+        SolverPortfolio solverPortfolio = new SolverPortfolio(2, 1);
+        List<Solver> solvers = solvers(2);
+        solvers.forEach(Solver::abort);
+
+        SolverPortfolio.Outcome outcome = solverPortfolio.race(solvers);
+
+        assertEquals(SolutionStatus.ABORTED, outcome.status());
+        assertSame(solvers.get(0), outcome.solver());
+
+        solvers.forEach(Solver::free);
+        solverPortfolio.destroy();
+    }
+
+    /**
+     * Copies of knapsack model: max 5x1 + 4x2 + 3x3 + 6x4 subject to 2x1 + 3x2 + x3 + 4x4 <= 7, optimal value is 14.
+     */
+    private List<Solver> solvers(int count) throws SolverException {
+
+        Solver solver = new OjAlgoSolver();
+        solver.addBinaryVariables(4);
+        solver.setObjectiveDirection(ObjectiveDirection.MAX);
+        solver.addLeqWeightedSumConstraint(new RowBuffer().add(1, 2.0).add(2, 3.0).add(3, 1.0).add(4, 4.0), 7.0);
+        solver.setObjectiveFunction(new RowBuffer().add(1, 5.0).add(2, 4.0).add(3, 3.0).add(4, 6.0));
+
+        List<Solver> solvers = new ArrayList<>(count);
+        solvers.add(solver);
+        for (int i = 1; i < count; i++) {
+            solvers.add(solver.copy());
+        }
+        return solvers;
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.MovableDemand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCostEstimatorTest {
+
+    @Test
+    void statisticsCountModel() {
+
+        TaskCostEstimator.ModelStatistics statistics = TaskCostEstimator.ModelStatistics.of(task(true));
+
+        assertEquals(4, statistics.intervals());
+        assertEquals(1, statistics.contracts());
+        assertEquals(1, statistics.storages());
+        assertEquals(2, statistics.movableDemandVariants());
+        // power balance, storage energy balance, charge indicators and movable demand choice
+        assertEquals(4 + 4 + 8 + 1, statistics.rows());
+        assertEquals(4 + 16 + 2, statistics.columns());
+        assertEquals(4 + 2, statistics.binaryVariables());
+    }
+
+    @Test
+    void memoryMultipliedByPortfolioForIntegerModel() {
+
+        TaskCostEstimator estimator = new TaskCostEstimator(300, 4, 10, 1e-6, 0.5);
+        TaskCostEstimator.ModelStatistics linear = TaskCostEstimator.ModelStatistics.of(task(false));
+        TaskCostEstimator.ModelStatistics integer = TaskCostEstimator.ModelStatistics.of(task(true));
+
+        assertEquals(10 * (linear.rows() + linear.columns() + linear.nonZeros()), estimator.estimate(task(false)).nativeMemory());
+        assertEquals(40 * (integer.rows() + integer.columns() + integer.nonZeros()), estimator.estimate(task(true)).nativeMemory());
+    }
+
+    @Test
+    void solveTimeLearnedAndLimitedByTimeout() {
+
+        TaskCostEstimator estimator = new TaskCostEstimator(300, 1, 10, 1e-6, 0.5);
+        Task task = task(false);
+        double initialSeconds = estimator.estimate(task).solveSeconds();
+
+        estimator.observe(task, initialSeconds * 4);
+        assertEquals(initialSeconds * 2, estimator.estimate(task).solveSeconds(), 1e-12);
+        // integer models are learned separately
+        assertEquals(1e-6 * TaskCostEstimator.ModelStatistics.of(task(true)).work(), estimator.estimate(task(true)).solveSeconds(), 1e-12);
+
+        estimator.observe(task, 1e9);
+        assertEquals(10.0, estimator.estimate(task).solveSeconds());
+    }
+
+    private Task task(boolean integer) {
+
+        Task.TaskBuilder taskBuilder = Task.builder()
+                .id(1L)
+                .timeoutSeconds(10L)
+                .intervals(new Profile(4, 1.0))
+                .production(new Production(1, "production", new Profile(4, 0.0)))
+                .demand(new Demand(1, "demand", new Profile(4, 1.0)))
+                .contract(Contract.builder(1, "purchase", new Profile(4, 1.0), ContractDirection.PURCHASE).build());
+        if (integer) {
+            taskBuilder.storage(Storage.builder(1, "storage", 1.0, 1.0, 2.0).build())
+                    .movableDemand(new MovableDemand(1, "movable demand", List.of(1.0, 1.0), Set.of(0, 2)));
+        }
+        return taskBuilder.build();
+    }
+}
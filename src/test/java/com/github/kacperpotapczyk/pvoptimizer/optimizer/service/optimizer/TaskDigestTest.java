@@ -0,0 +1,54 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Task;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.Contract;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.contract.ContractDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Demand;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.sourcesink.Production;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.storage.Storage;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.utils.Profile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDigestTest {
+
+    private final Contract purchase = Contract.builder(1, "purchase", new Profile(3, 1.0), ContractDirection.PURCHASE).build();
+    private final Contract sell = Contract.builder(2, "sell", new Profile(3, 0.5), ContractDirection.SELL).build();
+    private final Storage storage = Storage.builder(1, "storage", 5.0, 5.0, 10.0).maxChargeConstraint(1, 2.0).build();
+
+    @Test
+    void idNotPartOfDigest() {
+        assertEquals(TaskDigest.of(task(1L, 2.0, List.of(purchase, sell))), TaskDigest.of(task(2L, 2.0, List.of(purchase, sell))));
+    }
+
+    @Test
+    void orderOfContractsNotPartOfDigest() {
+        assertEquals(TaskDigest.of(task(1L, 2.0, List.of(purchase, sell))), TaskDigest.of(task(1L, 2.0, List.of(sell, purchase))));
+    }
+
+    @Test
+    void differentDataDifferentDigest() {
+
+        String digest = TaskDigest.of(task(1L, 2.0, List.of(purchase, sell)));
+
+        assertNotEquals(digest, TaskDigest.of(task(1L, 2.5, List.of(purchase, sell))));
+        assertNotEquals(digest, TaskDigest.of(task(1L, 2.0, List.of(purchase))));
+        assertNotEquals(digest, TaskDigest.of(task(1L, 2.0, List.of(purchase,
+                Contract.builder(2, "sell", new Profile(3, 0.5), ContractDirection.SELL).maxPowerConstraint(0, 1.0).build()))));
+    }
+
+    private Task task(long id, double demand, List<Contract> contracts) {
+
+        Task.TaskBuilder taskBuilder = Task.builder()
+                .id(id)
+                .intervals(new Profile(3, 1.0))
+                .production(new Production(1, "production", new Profile(3, 0.0)))
+                .demand(new Demand(1, "demand", new Profile(3, demand)))
+                .storage(storage);
+        contracts.forEach(taskBuilder::contract);
+        return taskBuilder.build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.service.optimizer;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.model.Result;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmStartStoreTest {
+
+    @Test
+    void latestResultOfLineageIsKept() {
+
+        WarmStartStore warmStartStore = new WarmStartStore(10);
+        warmStartStore.put("lineage", Result.builder().id(1L).build());
+        warmStartStore.put("lineage", Result.builder().id(2L).build());
+
+        assertEquals(1, warmStartStore.size());
+        assertEquals(2L, warmStartStore.get("lineage").orElseThrow().getId());
+        assertTrue(warmStartStore.get("other lineage").isEmpty());
+    }
+
+    @Test
+    void leastRecentlyUsedLineageIsEvicted() {
+
+        WarmStartStore warmStartStore = new WarmStartStore(2);
+        warmStartStore.put("first", Result.builder().id(1L).build());
+        warmStartStore.put("second", Result.builder().id(2L).build());
+        warmStartStore.get("first");
+        warmStartStore.put("third", Result.builder().id(3L).build());
+
+        assertEquals(2, warmStartStore.size());
+        assertTrue(warmStartStore.get("first").isPresent());
+        assertTrue(warmStartStore.get("second").isEmpty());
+        assertTrue(warmStartStore.get("third").isPresent());
+    }
+}
@@ -485,6 +485,174 @@ class LpSolveSolverTest {
         }
     }
 
+    @Test
+    void rowBufferExample() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(4);
+
+            RowBuffer row = new RowBuffer(2);
+            row.add(1, 3.0).add(2, 2.0).add(3, 2.0).add(4, 1.0);
+            solver.addLeqWeightedSumConstraint(row, 4.0);
+
+            row.clear().add(2, 4.0).add(3, 3.0).add(4, 1.0);
+            solver.addGeqWeightedSumConstraint(row, 3.0);
+
+            row.clear().add(1, 2.0).add(2, 3.0).add(3, -2.0).add(4, 3.0);
+            solver.setObjectiveFunction(row);
+
+            SolutionStatus expectedStatus = SolutionStatus.OPTIMAL;
+            Map<Integer, Double> expectedSolution = new HashMap<>();
+            expectedSolution.put(1, 0.0);
+            expectedSolution.put(2, 0.0);
+            expectedSolution.put(3, 2.0);
+            expectedSolution.put(4, 0.0);
+            double expectedObjectiveValue = -4.0;
+
+            SolutionStatus status = solver.solve();
+
+            assertEquals(expectedStatus, status, "Solution status should be OPTIMAL");
+            assertEquals(expectedObjectiveValue, solver.getObjectiveValue(), "Objective value should be -4");
+            assertEquals(expectedSolution, solver.getSolution(), "Invalid solution");
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void rowBufferBounds() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(3);
+
+            RowBuffer row = new RowBuffer();
+            solver.addLowerBounds(row.add(1, 1.0).add(2, 2.0));
+            solver.addUpperBounds(row.clear().add(2, 5.0).add(3, 3.0));
+            solver.fixVariables(row.clear().add(1, 4.0));
+            solver.setObjectiveFunction(row.clear().add(1, 1.0).add(2, 1.0).add(3, -1.0));
+
+            SolutionStatus status = solver.solve();
+
+            Map<Integer, Double> expectedSolution = new HashMap<>();
+            expectedSolution.put(1, 4.0);
+            expectedSolution.put(2, 2.0);
+            expectedSolution.put(3, 3.0);
+
+            assertEquals(SolutionStatus.OPTIMAL, status, "Solution status should be OPTIMAL");
+            assertEquals(3.0, solver.getObjectiveValue(), 1e-9, "Objective value should be 3");
+            assertEquals(expectedSolution, solver.getSolution(), "Invalid solution");
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void rowBufferInvalidConstraint() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(1);
+
+            RowBuffer row = new RowBuffer().add(1, 1.0).add(2, 1.0);
+            assertThrows(SolverException.class, () -> solver.addEqWeightedSumConstraint(row, 4.0));
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void addVariablesAboveReservedSize() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.reserve(2, 1);
+
+            assertEquals(1, solver.addVariables(3), "First continuous variable index should be 1");
+            assertEquals(4, solver.addBinaryVariables(2), "First binary variable index should be 4");
+
+            // binary variables can not exceed 1
+            RowBuffer row = new RowBuffer().add(1, 1.0).add(4, -2.0).add(5, -2.0);
+            solver.addLeqWeightedSumConstraint(row, 0.0);
+            solver.setObjectiveFunction(row.clear().add(1, -1.0));
+
+            SolutionStatus status = solver.solve();
+
+            assertEquals(SolutionStatus.OPTIMAL, status, "Solution status should be OPTIMAL");
+            assertEquals(-4.0, solver.getObjectiveValue(), 1e-9, "Objective value should be -4");
+            assertEquals(5, solver.getSolution().size(), "Solution should contain all variables");
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void modelBuilding() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(2);
+
+            solver.beginModelBuilding();
+            assertThrows(SolverException.class, () -> solver.addVariables(1), "Variables can not be added during model building");
+
+            RowBuffer row = new RowBuffer().add(1, 1.0).add(2, 1.0);
+            solver.addLeqWeightedSumConstraint(row, 10.0);
+            solver.addUpperBounds(row.clear().add(1, 4.0));
+            solver.setObjectiveFunction(row.clear().add(1, -2.0).add(2, -1.0));
+            solver.endModelBuilding();
+
+            SolutionStatus status = solver.solve();
+
+            Map<Integer, Double> expectedSolution = new HashMap<>();
+            expectedSolution.put(1, 4.0);
+            expectedSolution.put(2, 6.0);
+
+            assertEquals(SolutionStatus.OPTIMAL, status, "Solution status should be OPTIMAL");
+            assertEquals(-14.0, solver.getObjectiveValue(), 1e-9, "Objective value should be -14");
+            assertEquals(expectedSolution, solver.getSolution(), "Invalid solution");
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void solveEndsModelBuilding() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(1);
+
+            solver.beginModelBuilding();
+            solver.addGeqWeightedSumConstraint(new RowBuffer().add(1, 1.0), 3.0);
+            solver.setObjectiveFunction(new RowBuffer().add(1, 1.0));
+
+            assertEquals(SolutionStatus.OPTIMAL, solver.solve(), "Solution status should be OPTIMAL");
+            assertEquals(3.0, solver.getObjectiveValue(), 1e-9, "Objective value should be 3");
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
     private Solver setUpSolverExample() throws SolverException {
 
         Solver solver = new LpSolveSolver();
@@ -522,4 +690,145 @@ class LpSolveSolverTest {
         return expectedSolution.entrySet().stream()
                 .allMatch(entry -> Math.abs(entry.getValue() - solution.get(entry.getKey())) < eps);
     }
-}
\ No newline at end of file
+
+    @Test
+    void initialSolution() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(3);
+            solver.addBinaryVariables(1);
+
+            RowBuffer row = new RowBuffer();
+            row.add(1, 3.0).add(2, 2.0).add(3, 2.0).add(4, 1.0);
+            solver.addLeqWeightedSumConstraint(row, 4.0);
+
+            row.clear().add(2, 4.0).add(3, 3.0).add(4, 1.0);
+            solver.addGeqWeightedSumConstraint(row, 3.0);
+
+            row.clear().add(1, 2.0).add(2, 3.0).add(3, -2.0).add(4, 3.0);
+            solver.setObjectiveFunction(row);
+
+            // initial solution does not have to be optimal nor feasible
+            row.clear().add(2, 1.0).add(4, 1.0);
+            solver.setInitialSolution(row);
+
+            SolutionStatus status = solver.solve();
+
+            assertEquals(SolutionStatus.OPTIMAL, status, "Solution status should be OPTIMAL");
+            assertEquals(-4.0, solver.getObjectiveValue(), 1e-9, "Objective value should be -4");
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void initialSolutionIndexOutOfRange() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(2);
+
+            RowBuffer row = new RowBuffer().add(3, 1.0);
+            assertThrows(SolverException.class, () -> solver.setInitialSolution(row));
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void solutionValues() {
+
+        try {
+            Solver solver = new LpSolveSolver();
+            solver.addVariables(4);
+
+            RowBuffer row = new RowBuffer();
+            row.add(1, 3.0).add(2, 2.0).add(3, 2.0).add(4, 1.0);
+            solver.addLeqWeightedSumConstraint(row, 4.0);
+
+            row.clear().add(2, 4.0).add(3, 3.0).add(4, 1.0);
+            solver.addGeqWeightedSumConstraint(row, 3.0);
+
+            row.clear().add(1, 2.0).add(2, 3.0).add(3, -2.0).add(4, 3.0);
+            solver.setObjectiveFunction(row);
+
+            solver.solve();
+
+            double[] expectedValues = {0.0, 0.0, 0.0, 2.0, 0.0};
+            assertArrayEquals(expectedValues, solver.getSolutionValues(), 1e-9, "Invalid solution values");
+
+            solver.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void dataReplay() {
+
+        try {
+            Solver template = new LpSolveSolver();
+            template.addVariables(2);
+
+            template.beginModelBuilding();
+            RowBuffer row = new RowBuffer().add(1, 1.0).add(2, 1.0);
+            template.addLeqWeightedSumConstraint(row, 10.0);
+            template.addUpperBounds(row.clear().add(1, 4.0));
+            template.setObjectiveFunction(row.clear().add(1, -2.0).add(2, -1.0));
+            template.endModelBuilding();
+
+            // copy keeps constraint coefficients, right hand side and objective are replayed, bound of variable 1 is reset
+            Solver copy = template.copy();
+            copy.beginDataReplay();
+            assertEquals(1, copy.addVariables(2), "Replayed variables should start from 1");
+            copy.beginModelBuilding();
+            copy.addLeqWeightedSumConstraint(row.clear().add(1, 1.0).add(2, 1.0), 6.0);
+            copy.setObjectiveFunction(row.clear().add(1, -2.0).add(2, -1.0));
+            copy.endModelBuilding();
+
+            assertEquals(SolutionStatus.OPTIMAL, copy.solve(), "Solution status should be OPTIMAL");
+            assertEquals(-12.0, copy.getObjectiveValue(), 1e-9, "Objective value should be -12");
+
+            assertEquals(SolutionStatus.OPTIMAL, template.solve(), "Solution status should be OPTIMAL");
+            assertEquals(-14.0, template.getObjectiveValue(), 1e-9, "Template should not be modified by replay");
+
+            copy.free();
+            template.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+
+    @Test
+    void dataReplayOfDifferentModel() {
+
+        try {
+            Solver template = new LpSolveSolver();
+            template.addVariables(2);
+            template.addLeqWeightedSumConstraint(new RowBuffer().add(1, 1.0).add(2, 1.0), 10.0);
+
+            Solver copy = template.copy();
+            copy.beginDataReplay();
+            assertThrows(SolverException.class, () -> copy.addVariables(3), "Replayed model can not have more variables");
+
+            copy.beginDataReplay();
+            copy.addVariables(2);
+            assertThrows(SolverException.class, copy::endModelBuilding, "Replayed model has to have the same constraints");
+
+            copy.free();
+            template.free();
+        }
+        catch (SolverException solverException) {
+            System.out.println(solverException.getMessage());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.ObjectiveDirection;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.enums.SolutionStatus;
+import com.github.kacperpotapczyk.pvoptimizer.optimizer.solver.exceptions.SolverException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjAlgoSolverTest {
+
+    @Test
+    void bounds() throws SolverException {
+
+        Solver solver = new OjAlgoSolver();
+        solver.addVariables(2);
+        solver.addLowerBounds(new RowBuffer().add(1, 4.0));
+        solver.addUpperBounds(new RowBuffer().add(2, 3.0));
+        solver.setObjectiveFunction(new RowBuffer().add(1, 1.0).add(2, -1.0));
+
+        assertEquals(SolutionStatus.OPTIMAL, solver.solve(), "Solution status should be OPTIMAL");
+        assertEquals(1.0, solver.getObjectiveValue(), 1e-6, "Objective value should be 1");
+        assertArrayEquals(new double[] {0.0, 4.0, 3.0}, solver.getSolutionValues(), 1e-6, "Invalid solution");
+        assertEquals(0.0, solver.getSolutionRelativeGap(), "Optimal solution of linear model has no gap");
+
+        solver.free();
+    }
+
+    @Test
+    void sumConstraints() throws SolverException {
+
+        Solver solver = new OjAlgoSolver();
+        solver.addVariables(3);
+        solver.setObjectiveDirection(ObjectiveDirection.MAX);
+
+        solver.beginModelBuilding();
+        solver.addLeqSumConstraint(Set.of(1, 2), 5.0);
+        solver.addGeqSumConstraint(List.of(2, 3), 4.0);
+        solver.addEqWeightedSumConstraint(new RowBuffer().add(1, 1.0).add(3, -1.0), 1.0);
+        solver.setObjectiveFunction(new RowBuffer().add(1, 1.0).add(2, 2.0).add(3, 1.0));
+        solver.endModelBuilding();
+
+        assertEquals(3, solver.getNumberOfConstraints(), "Model should have 3 constraints");
+        assertEquals(6, solver.getNumberOfNonZeros(), "Model should have 6 non zeros");
+
+        // x1 + x2 <= 5 and x3 = x1 - 1, so x2 = 5 - x1 and objective 2*5 - 1 = 9 does not depend on x1 from [1, 5]
+        assertEquals(SolutionStatus.OPTIMAL, solver.solve(), "Solution status should be OPTIMAL");
+        assertEquals(9.0, solver.getObjectiveValue(), 1e-6, "Objective value should be 9");
+
+        solver.free();
+    }
+
+    @Test
+    void infeasible() throws SolverException {
+
+        Solver solver = new OjAlgoSolver();
+        solver.addVariables(2);
+        solver.addEqSumConstraint(Set.of(1, 2), 4.0);
+        solver.addGeqSumConstraint(List.of(1, 2), 8.0);
+
+        assertEquals(SolutionStatus.INFEASIBLE, solver.solve(), "Solution status should be INFEASIBLE");
+        assertThrows(SolverException.class, solver::getSolutionValues, "Infeasible model has no solution");
+
+        solver.free();
+    }
+
+    @Test
+    void invalidConstraint() throws SolverException {
+
+        Solver solver = new OjAlgoSolver();
+        solver.addVariables(1);
+
+        assertThrows(SolverException.class, () -> solver.addEqSumConstraint(Set.of(1, 2), 4.0));
+        assertThrows(SolverException.class, () -> solver.setInitialSolution(new RowBuffer().add(2, 1.0)));
+
+        solver.free();
+    }
+
+    @Test
+    void addImplication() throws SolverException {
+
+        Solver solver = new OjAlgoSolver();
+        int index = solver.addVariables(1);
+        solver.addLowerBounds(new RowBuffer().add(index, 4.0));
+        int binaryIndex = solver.addBinaryVariables(1);
+        solver.addImplication(index, binaryIndex, 1e3);
+        solver.setObjectiveFunction(new RowBuffer().add(index, 1.0).add(binaryIndex, 10.0));
+
+        assertEquals(1, solver.getNumberOfBinaryVariables(), "Model should have 1 binary variable");
+        assertEquals(SolutionStatus.OPTIMAL, solver.solve(), "Solution status should be OPTIMAL");
+        assertEquals(14.0, solver.getObjectiveValue(), 1e-6, "Objective value should be 14");
+        assertArrayEquals(new double[] {0.0, 4.0, 1.0}, solver.getSolutionValues(), 1e-6, "Invalid solution");
+
+        solver.free();
+    }
+
+    @Test
+    void gapTolerance() {
+
+        for (double relativeGap : new double[] {1e-1, 1e-2, 3e-3, 1e-4, 1e-9}) {
+            double epsilon = OjAlgoSolver.gapTolerance(relativeGap).epsilon();
+            assertTrue(epsilon <= relativeGap, "Tolerance of gap " + relativeGap + " should not exceed it, was " + epsilon);
+            assertTrue(epsilon > relativeGap / 10.0, "Tolerance of gap " + relativeGap + " should be within one digit of it, was " + epsilon);
+        }
+    }
+
+    @Test
+    void solutionWithinRelativeGap() throws SolverException {
+
+        double[] values = {23.0, 31.0, 29.0, 44.0, 53.0, 38.0, 63.0, 85.0, 89.0, 82.0};
+        double[] weights = {92.0, 57.0, 49.0, 68.0, 60.0, 43.0, 67.0, 84.0, 87.0, 72.0};
+        // knapsack of capacity 300 is packed optimally by items 6 and 8 to 10 with value 294, next best packing has value 290
+        double optimum = 294.0;
+        double relativeGap = 0.05;
+
+        Solver solver = new OjAlgoSolver();
+        int first = solver.addBinaryVariables(values.length);
+        RowBuffer row = new RowBuffer(values.length);
+        for (int i = 0; i < values.length; i++) {
+            row.add(first + i, weights[i]);
+        }
+        solver.addLeqWeightedSumConstraint(row, 300.0);
+        row.clear();
+        for (int i = 0; i < values.length; i++) {
+            row.add(first + i, values[i]);
+        }
+        solver.setObjectiveFunction(row);
+        solver.setObjectiveDirection(ObjectiveDirection.MAX);
+        solver.setRelativeGap(relativeGap);
+
+        assertEquals(SolutionStatus.OPTIMAL, solver.solve(), "Solution status should be OPTIMAL");
+        assertTrue(solver.getObjectiveValue() >= (1.0 - relativeGap) * optimum,
+                "Objective value " + solver.getObjectiveValue() + " should be within relative gap of " + optimum);
+        for (double value : Arrays.copyOfRange(solver.getSolutionValues(), first, first + values.length)) {
+            assertTrue(value == 0.0 || value == 1.0, "Binary value should be rounded, was " + value);
+        }
+        assertTrue(Double.isNaN(solver.getSolutionRelativeGap()), "Gap of integer model is not reported by ojAlgo");
+
+        solver.free();
+    }
+
+    @Test
+    void dataReplay() throws SolverException {
+
+        Solver template = new OjAlgoSolver();
+        template.addVariables(2);
+
+        template.beginModelBuilding();
+        RowBuffer row = new RowBuffer().add(1, 1.0).add(2, 1.0);
+        template.addLeqWeightedSumConstraint(row, 10.0);
+        template.addUpperBounds(row.clear().add(1, 4.0));
+        template.setObjectiveFunction(row.clear().add(1, -2.0).add(2, -1.0));
+        template.endModelBuilding();
+
+        // copy keeps constraint coefficients, right hand side and objective are replayed, bound of variable 1 is reset
+        Solver copy = template.copy();
+        copy.beginDataReplay();
+        assertEquals(1, copy.addVariables(2), "Replayed variables should start from 1");
+        copy.beginModelBuilding();
+        copy.addLeqWeightedSumConstraint(row.clear().add(1, 1.0).add(2, 1.0), 6.0);
+        copy.setObjectiveFunction(row.clear().add(1, -2.0).add(2, -1.0));
+        copy.endModelBuilding();
+
+        assertEquals(SolutionStatus.OPTIMAL, copy.solve(), "Solution status should be OPTIMAL");
+        assertEquals(-12.0, copy.getObjectiveValue(), 1e-6, "Objective value should be -12");
+
+        assertEquals(SolutionStatus.OPTIMAL, template.solve(), "Solution status should be OPTIMAL");
+        assertEquals(-14.0, template.getObjectiveValue(), 1e-6, "Template should not be modified by replay");
+
+        copy.free();
+        template.free();
+    }
+
+    @Test
+    void dataReplayOfDifferentModel() throws SolverException {
+
+        Solver template = new OjAlgoSolver();
+        template.addVariables(2);
+        template.addLeqWeightedSumConstraint(new RowBuffer().add(1, 1.0).add(2, 1.0), 10.0);
+
+        Solver copy = template.copy();
+        copy.beginDataReplay();
+        assertThrows(SolverException.class, () -> copy.addVariables(3), "Replayed model can not have more variables");
+
+        copy.beginDataReplay();
+        copy.addVariables(2);
+        assertThrows(SolverException.class, copy::endModelBuilding, "Replayed model has to have the same constraints");
+
+        copy.free();
+        template.free();
+    }
+}
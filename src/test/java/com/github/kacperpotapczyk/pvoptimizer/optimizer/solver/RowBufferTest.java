@@ -0,0 +1,36 @@
+package com.github.kacperpotapczyk.pvoptimizer.optimizer.solver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowBufferTest {
+
+    @Test
+    void growsBeyondInitialCapacity() {
+
+        RowBuffer row = new RowBuffer(1);
+        for (int i = 0; i < 10; i++) {
+            row.add(i + 1, i * 0.5);
+        }
+
+        assertEquals(10, row.size());
+        assertEquals(10, row.getIndexes()[9]);
+        assertEquals(4.5, row.getValues()[9]);
+    }
+
+    @Test
+    void clearKeepsArrays() {
+
+        RowBuffer row = new RowBuffer(4).add(1, 1.0).add(2, 2.0);
+        int[] indexes = row.getIndexes();
+
+        row.clear();
+        assertTrue(row.isEmpty());
+
+        row.add(3, 3.0);
+        assertSame(indexes, row.getIndexes());
+        assertEquals(1, row.size());
+        assertEquals(3, row.getIndexes()[0]);
+    }
+}